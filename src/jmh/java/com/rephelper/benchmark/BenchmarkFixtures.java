@@ -0,0 +1,128 @@
+package com.rephelper.benchmark;
+
+import com.rephelper.infrastructure.entity.EventInvitationJpaEntity;
+import com.rephelper.infrastructure.entity.EventJpaEntity;
+import com.rephelper.infrastructure.entity.RepublicJpaEntity;
+import com.rephelper.infrastructure.entity.TaskJpaEntity;
+import com.rephelper.infrastructure.entity.UserJpaEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Dados fixos usados pelos benchmarks: uma república, seus moradores e tarefas
+ * com o mesmo formato das que são carregadas pelo plano de busca de listagem.
+ */
+final class BenchmarkFixtures {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 10, 9, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    static RepublicJpaEntity republic() {
+        return RepublicJpaEntity.builder()
+                .uuid(UUID.fromString("5b0c8a64-5a55-4d3e-9a3e-0d6f3c1f2a10"))
+                .name("República Benchmark")
+                .code("BENCH1")
+                .street("Rua das Flores")
+                .number("123")
+                .neighborhood("Centro")
+                .city("Campinas")
+                .state("SP")
+                .zipCode("13010-000")
+                .createdAt(NOW.minusYears(1))
+                .updatedAt(NOW.minusDays(3))
+                .build();
+    }
+
+    static UserJpaEntity user(int index, RepublicJpaEntity republic) {
+        return UserJpaEntity.builder()
+                .uuid(new UUID(0x5EEDL, index))
+                .name("Morador " + index)
+                .nickname("morador" + index)
+                .email("morador" + index + "@rephelper.test")
+                .phoneNumber("+55119999900" + index)
+                .firebaseUid("firebase-" + index)
+                .provider(UserJpaEntity.AuthProvider.GOOGLE)
+                .status("active")
+                .isAdmin(index == 0)
+                .currentRepublic(republic)
+                .entryDate(NOW.minusMonths(6))
+                .createdAt(NOW.minusMonths(6))
+                .lastLogin(NOW.minusHours(index))
+                .build();
+    }
+
+    /**
+     * Tarefa recorrente com criador e {@code assignees} usuários atribuídos
+     */
+    static TaskJpaEntity task(long id, int assignees) {
+        RepublicJpaEntity republic = republic();
+        Set<UserJpaEntity> assignedUsers = new HashSet<>();
+        for (int i = 1; i <= assignees; i++) {
+            assignedUsers.add(user(i, republic));
+        }
+
+        return TaskJpaEntity.builder()
+                .id(id)
+                .title("Limpar a cozinha #" + id)
+                .description("Lavar a louça, limpar o fogão e tirar o lixo")
+                .republic(republic)
+                .createdBy(user(0, republic))
+                .assignedUsers(assignedUsers)
+                .status(TaskJpaEntity.TaskStatusJpa.PENDING)
+                .dueDate(NOW.plusDays(id % 7))
+                .category("Limpeza")
+                .createdAt(NOW.minusDays(1))
+                .updatedAt(NOW.minusDays(1))
+                .isRecurring(true)
+                .recurrenceType(TaskJpaEntity.RecurrenceTypeJpa.WEEKLY)
+                .recurrenceInterval(1)
+                .build();
+    }
+
+    /**
+     * Página de tarefas no formato devolvido pelas listagens
+     */
+    static List<TaskJpaEntity> tasks(int count, int assignees) {
+        List<TaskJpaEntity> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(1000L + i, assignees));
+        }
+        return tasks;
+    }
+
+    /**
+     * Evento com criador e {@code invitees} convites
+     */
+    static EventJpaEntity event(long id, int invitees) {
+        RepublicJpaEntity republic = republic();
+        EventJpaEntity event = EventJpaEntity.builder()
+                .id(id)
+                .title("Churrasco da república")
+                .description("Cada morador traz uma bebida")
+                .startDate(NOW.plusDays(5))
+                .endDate(NOW.plusDays(5).plusHours(6))
+                .location("Quintal")
+                .republic(republic)
+                .createdBy(user(0, republic))
+                .createdAt(NOW.minusDays(2))
+                .build();
+
+        Set<EventInvitationJpaEntity> invitations = new HashSet<>();
+        for (int i = 1; i <= invitees; i++) {
+            invitations.add(EventInvitationJpaEntity.builder()
+                    .user(user(i, republic))
+                    .event(event)
+                    .status(EventInvitationJpaEntity.EventInvitationStatus.INVITED)
+                    .build());
+        }
+        event.setInvitations(invitations);
+        return event;
+    }
+}
@@ -0,0 +1,185 @@
+package com.rephelper.benchmark;
+
+import com.rephelper.domain.model.Expense;
+import com.rephelper.domain.model.User;
+import com.rephelper.interfaces.rest.finance.FinanceCsvWriter;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exportação CSV de despesas contra um PostgreSQL real, com {@code rows} linhas sintéticas.
+ * LIST reproduz o caminho anterior (toda a consulta carregada em uma lista antes de escrever);
+ * STREAM percorre o cursor com fetch size, como em ExpenseJpaRepository#streamForExport, escrevendo
+ * cada linha com {@link FinanceCsvWriter}. A saída é descartada; o tempo por operação é uma exportação
+ * completa. Para comparar a memória, rodar com {@code -prof gc} ou limitar o heap
+ * ({@code -jvmArgsAppend -Xmx256m}): o STREAM se mantém constante, o LIST cresce com as linhas.
+ * <p>
+ * Usa a tabela bench_export_expenses, criada e removida pelo benchmark. Conexão pelas mesmas
+ * propriedades de {@link FinanceLedgerContentionBenchmark} ({@code bench.db.url}, {@code bench.db.user},
+ * {@code bench.db.password}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FinanceExportBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"LIST", "STREAM"})
+    public String mode;
+
+    // Mesmo valor de ExpenseJpaRepository.EXPORT_FETCH_SIZE
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String SELECT =
+            "SELECT id, description, amount, expense_date, category, receipt_url, status, approval_date, " +
+            "reimbursement_date, rejection_reason, created_at, creator_name " +
+            "FROM bench_export_expenses ORDER BY expense_date, id";
+
+    private HikariDataSource dataSource;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getProperty("bench.db.url", "jdbc:postgresql://localhost:5432/rephelper"));
+        config.setUsername(System.getProperty("bench.db.user", "postgres"));
+        config.setPassword(System.getProperty("bench.db.password", "postgres"));
+        config.setMaximumPoolSize(2);
+        config.setAutoCommit(false);
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_export_expenses");
+            statement.execute("CREATE TABLE bench_export_expenses (id BIGSERIAL PRIMARY KEY, " +
+                    "description VARCHAR(255) NOT NULL, amount NUMERIC(10, 2) NOT NULL, expense_date DATE NOT NULL, " +
+                    "category VARCHAR(100), receipt_url VARCHAR(255), status VARCHAR(20) NOT NULL, " +
+                    "approval_date TIMESTAMP, reimbursement_date TIMESTAMP, rejection_reason VARCHAR(255), " +
+                    "created_at TIMESTAMP NOT NULL, creator_name VARCHAR(255))");
+            statement.execute("INSERT INTO bench_export_expenses (description, amount, expense_date, category, " +
+                    "receipt_url, status, approval_date, reimbursement_date, rejection_reason, created_at, creator_name) " +
+                    "SELECT 'Conta ' || g || ', parcela \"' || (g % 12) || '\"', ((g % 50000) / 100.0) + 1, " +
+                    "DATE '2015-01-01' + (g % 3650), (ARRAY['Aluguel', 'Mercado', 'Luz', 'Internet', NULL])[1 + g % 5], " +
+                    "CASE WHEN g % 3 = 0 THEN 'https://example.com/recibos/' || g END, " +
+                    "(ARRAY['PENDING', 'APPROVED', 'REJECTED', 'REIMBURSED'])[1 + g % 4], " +
+                    "TIMESTAMP '2015-01-02 10:00' + (g % 3650) * INTERVAL '1 day', " +
+                    "CASE WHEN g % 4 = 3 THEN TIMESTAMP '2015-01-03 10:00' + (g % 3650) * INTERVAL '1 day' END, " +
+                    "CASE WHEN g % 4 = 2 THEN 'Sem comprovante' END, " +
+                    "TIMESTAMP '2015-01-01 09:00' + (g % 3650) * INTERVAL '1 day', 'Morador ' || (g % 12) " +
+                    "FROM generate_series(1, " + rows + ") AS g");
+            statement.execute("CREATE INDEX ON bench_export_expenses (expense_date, id)");
+            connection.commit();
+            statement.execute("ANALYZE bench_export_expenses");
+            connection.commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_export_expenses");
+            connection.commit();
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    /**
+     * Exporta todas as linhas
+     *
+     * @return Bytes escritos
+     */
+    @Benchmark
+    public long export() throws SQLException {
+        CountingOutputStream output = new CountingOutputStream();
+        FinanceCsvWriter csv = new FinanceCsvWriter(output);
+        csv.writeExpenseHeader();
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement(SELECT)) {
+            if ("STREAM".equals(mode)) {
+                // Com autocommit desligado o driver usa um cursor e busca FETCH_SIZE linhas por vez
+                select.setFetchSize(FETCH_SIZE);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        csv.writeExpense(toExpense(resultSet));
+                    }
+                }
+            } else {
+                List<Expense> expenses = new ArrayList<>();
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        expenses.add(toExpense(resultSet));
+                    }
+                }
+                expenses.forEach(csv::writeExpense);
+            }
+            connection.commit();
+        }
+
+        csv.flush();
+        return output.count;
+    }
+
+    private static Expense toExpense(ResultSet resultSet) throws SQLException {
+        return Expense.builder()
+                .id(resultSet.getLong("id"))
+                .creator(User.builder().name(resultSet.getString("creator_name")).build())
+                .description(resultSet.getString("description"))
+                .amount(resultSet.getBigDecimal("amount"))
+                .expenseDate(resultSet.getObject("expense_date", LocalDate.class))
+                .category(resultSet.getString("category"))
+                .receiptUrl(resultSet.getString("receipt_url"))
+                .status(Expense.ExpenseStatus.valueOf(resultSet.getString("status")))
+                .approvalDate(resultSet.getObject("approval_date", LocalDateTime.class))
+                .reimbursementDate(resultSet.getObject("reimbursement_date", LocalDateTime.class))
+                .rejectionReason(resultSet.getString("rejection_reason"))
+                .createdAt(resultSet.getObject("created_at", LocalDateTime.class))
+                .build();
+    }
+
+    /**
+     * Descarta a saída contando os bytes, para que a escrita não seja eliminada
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
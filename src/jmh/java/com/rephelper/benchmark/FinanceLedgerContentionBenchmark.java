@@ -0,0 +1,247 @@
+package com.rephelper.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Créditos e débitos concorrentes em uma única república, contra um PostgreSQL real.
+ * LEGACY reproduz o caminho anterior (lê o saldo de republic_finances, verifica e grava o novo valor);
+ * LEDGER usa as instruções de FinanceLedgerJpaRepository: créditos são inserções sem bloqueio e
+ * débitos são serializados por um bloqueio consultivo da república com inserção condicional.
+ * Ao final, o saldo gravado é comparado com a soma das operações confirmadas: no LEGACY a
+ * diferença são as atualizações perdidas.
+ * <p>
+ * Usa tabelas próprias (bench_*), criadas e removidas pelo benchmark. Conexão por propriedades
+ * de sistema: {@code -Dbench.db.url=jdbc:postgresql://localhost:5432/rephelper -Dbench.db.user=...
+ * -Dbench.db.password=...} (passadas com {@code -jvmArgsAppend}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(32)
+@Fork(1)
+public class FinanceLedgerContentionBenchmark {
+
+    @Param({"LEGACY", "LEDGER"})
+    public String mode;
+
+    private static final UUID REPUBLIC_ID = UUID.fromString("5b0c8a64-5a55-4d3e-9a3e-0d6f3c1f2a10");
+    private static final BigDecimal OPENING_BALANCE = new BigDecimal("1000000.00");
+    private static final BigDecimal CREDIT = new BigDecimal("10.00");
+    private static final BigDecimal DEBIT = new BigDecimal("7.00");
+
+    private static final String LEGACY_SELECT =
+            "SELECT current_balance FROM bench_republic_finances WHERE republic_id = ?";
+    private static final String LEGACY_UPDATE =
+            "UPDATE bench_republic_finances SET current_balance = ?, last_updated = ? WHERE republic_id = ?";
+
+    private static final String LEDGER_INSERT =
+            "INSERT INTO bench_ledger_entries (republic_id, amount, kind, created_at) VALUES (?, ?, 'INCOME', ?)";
+    private static final String LEDGER_LOCK =
+            "SELECT pg_advisory_xact_lock(1, hashtext(CAST(? AS text)))";
+    private static final String LEDGER_DEBIT =
+            "WITH p AS (SELECT CAST(? AS uuid) AS republic_id, CAST(? AS numeric) AS amount, CAST(? AS timestamp) AS created_at), " +
+            "snap AS (SELECT s.balance, s.last_entry_id FROM bench_balance_snapshots s, p " +
+            "WHERE s.republic_id = p.republic_id ORDER BY s.last_entry_id DESC LIMIT 1) " +
+            "INSERT INTO bench_ledger_entries (republic_id, amount, kind, created_at) " +
+            "SELECT p.republic_id, p.amount, 'REIMBURSEMENT', p.created_at FROM p " +
+            "WHERE COALESCE((SELECT balance FROM snap), 0) " +
+            "+ COALESCE((SELECT SUM(e.amount) FROM bench_ledger_entries e " +
+            "WHERE e.republic_id = p.republic_id AND e.id > COALESCE((SELECT last_entry_id FROM snap), 0)), 0) " +
+            "+ p.amount >= 0 " +
+            "RETURNING id";
+    private static final String LEDGER_BALANCE =
+            "WITH snap AS (SELECT s.balance, s.last_entry_id FROM bench_balance_snapshots s " +
+            "WHERE s.republic_id = ? ORDER BY s.last_entry_id DESC LIMIT 1) " +
+            "SELECT COALESCE((SELECT balance FROM snap), 0) + COALESCE(SUM(e.amount), 0) " +
+            "FROM bench_ledger_entries e WHERE e.republic_id = ? AND e.id > COALESCE((SELECT last_entry_id FROM snap), 0)";
+
+    private HikariDataSource dataSource;
+
+    // Soma das operações confirmadas, para comparar com o saldo gravado
+    private final AtomicLong committedCents = new AtomicLong();
+    private final AtomicLong rejectedDebits = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getProperty("bench.db.url", "jdbc:postgresql://localhost:5432/rephelper"));
+        config.setUsername(System.getProperty("bench.db.user", "postgres"));
+        config.setPassword(System.getProperty("bench.db.password", "postgres"));
+        config.setMaximumPoolSize(64);
+        config.setAutoCommit(false);
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_republic_finances, bench_ledger_entries, bench_balance_snapshots");
+            statement.execute("CREATE TABLE bench_republic_finances (republic_id UUID PRIMARY KEY, " +
+                    "current_balance NUMERIC(14, 2) NOT NULL, last_updated TIMESTAMP)");
+            statement.execute("CREATE TABLE bench_ledger_entries (id BIGSERIAL PRIMARY KEY, republic_id UUID NOT NULL, " +
+                    "amount NUMERIC(12, 2) NOT NULL, kind VARCHAR(20) NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX ON bench_ledger_entries (republic_id, id) INCLUDE (amount)");
+            statement.execute("CREATE TABLE bench_balance_snapshots (republic_id UUID NOT NULL, last_entry_id BIGINT NOT NULL, " +
+                    "balance NUMERIC(14, 2) NOT NULL, PRIMARY KEY (republic_id, last_entry_id))");
+            connection.commit();
+
+            try (PreparedStatement finances = connection.prepareStatement(
+                    "INSERT INTO bench_republic_finances VALUES (?, ?, ?)");
+                 PreparedStatement opening = connection.prepareStatement(
+                         "INSERT INTO bench_ledger_entries (republic_id, amount, kind, created_at) VALUES (?, ?, 'OPENING_BALANCE', ?)")) {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                finances.setObject(1, REPUBLIC_ID);
+                finances.setBigDecimal(2, OPENING_BALANCE);
+                finances.setTimestamp(3, now);
+                finances.executeUpdate();
+                opening.setObject(1, REPUBLIC_ID);
+                opening.setBigDecimal(2, OPENING_BALANCE);
+                opening.setTimestamp(3, now);
+                opening.executeUpdate();
+            }
+            connection.commit();
+        }
+        committedCents.set(OPENING_BALANCE.movePointRight(2).longValueExact());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            BigDecimal stored = "LEGACY".equals(mode) ? legacyBalance(connection) : ledgerBalance(connection);
+            BigDecimal expected = BigDecimal.valueOf(committedCents.get(), 2);
+            System.out.printf("%n[%s] saldo gravado %s, esperado %s, diferença %s, débitos recusados %d%n",
+                    mode, stored, expected, expected.subtract(stored), rejectedDebits.get());
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS bench_republic_finances, bench_ledger_entries, bench_balance_snapshots");
+            }
+            connection.commit();
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    /**
+     * Receita registrada: soma ao saldo
+     */
+    @Benchmark
+    public void credit() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try {
+                if ("LEGACY".equals(mode)) {
+                    BigDecimal balance = legacyBalance(connection);
+                    legacyWrite(connection, balance.add(CREDIT));
+                } else {
+                    try (PreparedStatement insert = connection.prepareStatement(LEDGER_INSERT)) {
+                        insert.setObject(1, REPUBLIC_ID);
+                        insert.setBigDecimal(2, CREDIT);
+                        insert.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+                        insert.executeUpdate();
+                    }
+                }
+                connection.commit();
+                committedCents.addAndGet(CREDIT.movePointRight(2).longValueExact());
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Reembolso: subtrai do saldo somente se houver saldo suficiente
+     */
+    @Benchmark
+    public boolean debit() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try {
+                boolean debited;
+                if ("LEGACY".equals(mode)) {
+                    BigDecimal balance = legacyBalance(connection);
+                    debited = balance.compareTo(DEBIT) >= 0;
+                    if (debited) {
+                        legacyWrite(connection, balance.subtract(DEBIT));
+                    }
+                } else {
+                    try (PreparedStatement lock = connection.prepareStatement(LEDGER_LOCK);
+                         PreparedStatement insert = connection.prepareStatement(LEDGER_DEBIT)) {
+                        lock.setObject(1, REPUBLIC_ID);
+                        lock.execute();
+                        insert.setObject(1, REPUBLIC_ID);
+                        insert.setBigDecimal(2, DEBIT.negate());
+                        insert.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+                        try (ResultSet inserted = insert.executeQuery()) {
+                            debited = inserted.next();
+                        }
+                    }
+                }
+                connection.commit();
+                if (debited) {
+                    committedCents.addAndGet(-DEBIT.movePointRight(2).longValueExact());
+                } else {
+                    rejectedDebits.incrementAndGet();
+                }
+                return debited;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private BigDecimal legacyBalance(Connection connection) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(LEGACY_SELECT)) {
+            select.setObject(1, REPUBLIC_ID);
+            try (ResultSet resultSet = select.executeQuery()) {
+                resultSet.next();
+                return resultSet.getBigDecimal(1);
+            }
+        }
+    }
+
+    private void legacyWrite(Connection connection, BigDecimal balance) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(LEGACY_UPDATE)) {
+            update.setBigDecimal(1, balance);
+            update.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+            update.setObject(3, REPUBLIC_ID);
+            update.executeUpdate();
+        }
+    }
+
+    private BigDecimal ledgerBalance(Connection connection) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(LEDGER_BALANCE)) {
+            select.setObject(1, REPUBLIC_ID);
+            select.setObject(2, REPUBLIC_ID);
+            try (ResultSet resultSet = select.executeQuery()) {
+                resultSet.next();
+                return resultSet.getBigDecimal(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.rephelper.benchmark;
+
+import com.rephelper.domain.model.Republic;
+import com.rephelper.domain.model.User;
+import com.rephelper.infrastructure.adapter.security.CustomUserDetails;
+import com.rephelper.infrastructure.adapter.security.JwtTokenProvider;
+import com.rephelper.infrastructure.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import javax.crypto.SecretKey;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho de autenticação executado pelo JwtAuthenticationFilter em toda requisição
+ * autenticada. Os métodos do provider medem o caso comum (token já verificado, em cache);
+ * {@code legacyFilterPath} reproduz o caminho anterior, com três verificações de assinatura
+ * e um parser novo a cada chamada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private SecretKey key;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[64];
+        for (int i = 0; i < secret.length; i++) {
+            secret[i] = (byte) (i * 31 + 7);
+        }
+
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Base64.getEncoder().encodeToString(secret));
+        properties.setExpiration(TimeUnit.HOURS.toMillis(1));
+        properties.setIssuer("rephelper");
+        properties.setAudience("rephelper-app");
+
+        key = Keys.hmacShaKeyFor(secret);
+        tokenProvider = new JwtTokenProvider(properties, new SimpleMeterRegistry());
+        token = tokenProvider.generateToken(User.builder()
+                .id(UUID.fromString("11111111-1111-1111-1111-111111111111"))
+                .currentRepublic(Republic.builder().id(UUID.fromString("5b0c8a64-5a55-4d3e-9a3e-0d6f3c1f2a10")).build())
+                .isAdmin(true)
+                .membershipVersion(3)
+                .build());
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+
+    /**
+     * Sequência atual do filtro: validação e autenticação em uma única leitura
+     */
+    @Benchmark
+    public Authentication filterPath() {
+        return tokenProvider.authenticate(token).orElse(null);
+    }
+
+    /**
+     * Sequência anterior do filtro: validateToken + getUserIdFromToken + getRoleFromToken,
+     * cada um construindo um parser e verificando a assinatura
+     */
+    @Benchmark
+    public Authentication legacyFilterPath() {
+        parseClaims();
+        UUID userId = UUID.fromString(parseClaims().getSubject());
+        String role = parseClaims().get("role", String.class);
+        CustomUserDetails userDetails = new CustomUserDetails(userId, role);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    private Claims parseClaims() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setAllowedClockSkewSeconds(30)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
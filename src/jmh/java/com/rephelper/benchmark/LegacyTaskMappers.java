@@ -0,0 +1,292 @@
+package com.rephelper.benchmark;
+
+import com.rephelper.application.dto.response.TaskResponse;
+import com.rephelper.application.dto.response.UserSummaryResponse;
+import com.rephelper.domain.model.Address;
+import com.rephelper.domain.model.Republic;
+import com.rephelper.domain.model.Task;
+import com.rephelper.domain.model.User;
+import com.rephelper.infrastructure.entity.RepublicJpaEntity;
+import com.rephelper.infrastructure.entity.TaskJpaEntity;
+import com.rephelper.infrastructure.entity.UserJpaEntity;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Cópia dos mappers escritos à mão que existiam antes dos mappers gerados pelo MapStruct
+ * (TaskMapper, CommonMapperConfig e TaskDtoMapper), mantida apenas como linha de base
+ * para {@link MapperAllocationBenchmark}.
+ */
+final class LegacyTaskMappers {
+
+    private LegacyTaskMappers() {
+    }
+
+    static Task toDomainEntity(TaskJpaEntity jpaEntity) {
+        if (jpaEntity == null) return null;
+
+        Task task = Task.builder()
+                .id(jpaEntity.getId())
+                .title(jpaEntity.getTitle())
+                .description(jpaEntity.getDescription())
+                .status(Task.TaskStatus.valueOf(jpaEntity.getStatus().name()))
+                .dueDate(jpaEntity.getDueDate())
+                .completedAt(jpaEntity.getCompletedAt())
+                .category(jpaEntity.getCategory())
+                .createdAt(jpaEntity.getCreatedAt())
+                .updatedAt(jpaEntity.getUpdatedAt())
+                .isRecurring(jpaEntity.isRecurring())
+                .recurrenceType(jpaEntity.getRecurrenceType() != null
+                        ? Task.RecurrenceType.valueOf(jpaEntity.getRecurrenceType().name()) : null)
+                .recurrenceInterval(jpaEntity.getRecurrenceInterval())
+                .recurrenceEndDate(jpaEntity.getRecurrenceEndDate())
+                .parentTaskId(jpaEntity.getParentTaskId())
+                .createdBy(jpaEntity.getCreatedBy() != null ? mapUserWithoutRepublic(jpaEntity.getCreatedBy()) : null)
+                .build();
+
+        if (jpaEntity.getRepublic() != null) {
+            task = Task.builder()
+                    .id(task.getId())
+                    .title(task.getTitle())
+                    .description(task.getDescription())
+                    .republic(mapRepublicWithoutUsers(jpaEntity.getRepublic()))
+                    .status(task.getStatus())
+                    .dueDate(task.getDueDate())
+                    .completedAt(task.getCompletedAt())
+                    .category(task.getCategory())
+                    .createdAt(task.getCreatedAt())
+                    .updatedAt(task.getUpdatedAt())
+                    .isRecurring(task.isRecurring())
+                    .recurrenceType(task.getRecurrenceType())
+                    .recurrenceInterval(task.getRecurrenceInterval())
+                    .recurrenceEndDate(task.getRecurrenceEndDate())
+                    .parentTaskId(task.getParentTaskId())
+                    .createdBy(task.getCreatedBy())
+                    .build();
+        }
+
+        if (jpaEntity.getAssignedUsers() != null && !jpaEntity.getAssignedUsers().isEmpty()) {
+            task = Task.builder()
+                    .id(task.getId())
+                    .title(task.getTitle())
+                    .description(task.getDescription())
+                    .republic(task.getRepublic())
+                    .assignedUsers(jpaEntity.getAssignedUsers().stream()
+                            .map(LegacyTaskMappers::mapUserWithoutRepublic)
+                            .collect(Collectors.toSet()))
+                    .status(task.getStatus())
+                    .dueDate(task.getDueDate())
+                    .completedAt(task.getCompletedAt())
+                    .category(task.getCategory())
+                    .createdAt(task.getCreatedAt())
+                    .updatedAt(task.getUpdatedAt())
+                    .isRecurring(task.isRecurring())
+                    .recurrenceType(task.getRecurrenceType())
+                    .recurrenceInterval(task.getRecurrenceInterval())
+                    .recurrenceEndDate(task.getRecurrenceEndDate())
+                    .parentTaskId(task.getParentTaskId())
+                    .createdBy(task.getCreatedBy())
+                    .build();
+        }
+
+        return task;
+    }
+
+    static TaskJpaEntity toJpaEntity(Task domainEntity) {
+        if (domainEntity == null) return null;
+
+        TaskJpaEntity entity = TaskJpaEntity.builder()
+                .id(domainEntity.getId())
+                .title(domainEntity.getTitle())
+                .description(domainEntity.getDescription())
+                .status(TaskJpaEntity.TaskStatusJpa.valueOf(domainEntity.getStatus().name()))
+                .dueDate(domainEntity.getDueDate())
+                .completedAt(domainEntity.getCompletedAt())
+                .category(domainEntity.getCategory())
+                .createdAt(domainEntity.getCreatedAt())
+                .updatedAt(domainEntity.getUpdatedAt())
+                .isRecurring(domainEntity.isRecurring())
+                .recurrenceType(domainEntity.getRecurrenceType() != null
+                        ? TaskJpaEntity.RecurrenceTypeJpa.valueOf(domainEntity.getRecurrenceType().name()) : null)
+                .recurrenceInterval(domainEntity.getRecurrenceInterval())
+                .recurrenceEndDate(domainEntity.getRecurrenceEndDate())
+                .parentTaskId(domainEntity.getParentTaskId())
+                .createdBy(domainEntity.getCreatedBy() != null ? mapUserEntityWithoutRepublic(domainEntity.getCreatedBy()) : null)
+                .build();
+
+        if (domainEntity.getRepublic() != null) {
+            entity.setRepublic(mapRepublicEntityWithoutUsers(domainEntity.getRepublic()));
+        }
+
+        if (domainEntity.getAssignedUsers() != null && !domainEntity.getAssignedUsers().isEmpty()) {
+            entity.setAssignedUsers(domainEntity.getAssignedUsers().stream()
+                    .map(LegacyTaskMappers::mapUserEntityWithoutRepublic)
+                    .collect(Collectors.toSet()));
+        } else {
+            entity.setAssignedUsers(new HashSet<>());
+        }
+
+        return entity;
+    }
+
+    static TaskResponse toTaskResponse(Task task) {
+        if (task == null) return null;
+
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .republicId(task.getRepublic() != null ? task.getRepublic().getId() : null)
+                .republicName(task.getRepublic() != null ? task.getRepublic().getName() : null)
+                .assignedUsers(task.getAssignedUsers() != null ?
+                        toUserSummaryResponseSet(task.getAssignedUsers()) : null)
+                .status(task.getStatus())
+                .dueDate(task.getDueDate())
+                .completedAt(task.getCompletedAt())
+                .category(task.getCategory())
+                .createdAt(task.getCreatedAt())
+                .createdBy(toUserSummaryResponse(task.getCreatedBy()))
+                .updatedAt(task.getUpdatedAt())
+                .isRecurring(task.isRecurring())
+                .recurrenceType(task.getRecurrenceType() != null ? task.getRecurrenceType().name() : null)
+                .recurrenceInterval(task.getRecurrenceInterval())
+                .recurrenceEndDate(task.getRecurrenceEndDate())
+                .parentTaskId(task.getParentTaskId())
+                .build();
+    }
+
+    private static UserSummaryResponse toUserSummaryResponse(User user) {
+        if (user == null) return null;
+
+        return UserSummaryResponse.builder()
+                .uid(user.getId())
+                .name(user.getName())
+                .nickname(user.getNickname())
+                .email(user.getEmail())
+                .profilePictureUrl(user.getProfilePictureUrl())
+                .build();
+    }
+
+    private static Set<UserSummaryResponse> toUserSummaryResponseSet(Set<User> users) {
+        return users.stream()
+                .map(LegacyTaskMappers::toUserSummaryResponse)
+                .collect(Collectors.toSet());
+    }
+
+    private static User mapUserWithoutRepublic(UserJpaEntity entity) {
+        if (entity == null) return null;
+
+        return User.builder()
+                .id(entity.getUuid())
+                .name(entity.getName())
+                .nickname(entity.getNickname())
+                .email(entity.getEmail())
+                .phoneNumber(entity.getPhoneNumber())
+                .profilePictureUrl(entity.getProfilePictureUrl())
+                .firebaseUid(entity.getFirebaseUid())
+                .provider(mapAuthProvider(entity.getProvider()))
+                .status(entity.getStatus())
+                .isAdmin(entity.getIsAdmin())
+                .entryDate(entity.getEntryDate())
+                .departureDate(entity.getDepartureDate())
+                .createdAt(entity.getCreatedAt())
+                .lastLogin(entity.getLastLogin())
+                .build();
+    }
+
+    private static UserJpaEntity mapUserEntityWithoutRepublic(User user) {
+        if (user == null) return null;
+
+        return UserJpaEntity.builder()
+                .uuid(user.getId())
+                .name(user.getName())
+                .nickname(user.getNickname())
+                .email(user.getEmail())
+                .phoneNumber(user.getPhoneNumber())
+                .profilePictureUrl(user.getProfilePictureUrl())
+                .firebaseUid(user.getFirebaseUid())
+                .provider(mapAuthProviderToEntity(user.getProvider()))
+                .status(user.getStatus())
+                .isAdmin(user.getIsAdmin())
+                .entryDate(user.getEntryDate())
+                .departureDate(user.getDepartureDate())
+                .createdAt(user.getCreatedAt())
+                .lastLogin(user.getLastLogin())
+                .build();
+    }
+
+    private static Republic mapRepublicWithoutUsers(RepublicJpaEntity entity) {
+        if (entity == null) return null;
+
+        return Republic.builder()
+                .id(entity.getUuid())
+                .name(entity.getName())
+                .code(entity.getCode())
+                .address(Address.builder()
+                        .street(entity.getStreet())
+                        .number(entity.getNumber())
+                        .complement(entity.getComplement())
+                        .neighborhood(entity.getNeighborhood())
+                        .city(entity.getCity())
+                        .state(entity.getState())
+                        .zipCode(entity.getZipCode())
+                        .build())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+
+    private static RepublicJpaEntity mapRepublicEntityWithoutUsers(Republic republic) {
+        if (republic == null) return null;
+
+        RepublicJpaEntity entity = new RepublicJpaEntity();
+        entity.setUuid(republic.getId());
+        entity.setName(republic.getName());
+        entity.setCode(republic.getCode());
+
+        if (republic.getAddress() != null) {
+            entity.setStreet(republic.getAddress().getStreet());
+            entity.setNumber(republic.getAddress().getNumber());
+            entity.setComplement(republic.getAddress().getComplement());
+            entity.setNeighborhood(republic.getAddress().getNeighborhood());
+            entity.setCity(republic.getAddress().getCity());
+            entity.setState(republic.getAddress().getState());
+            entity.setZipCode(republic.getAddress().getZipCode());
+        }
+
+        entity.setCreatedAt(republic.getCreatedAt());
+        entity.setUpdatedAt(republic.getUpdatedAt());
+
+        return entity;
+    }
+
+    private static User.AuthProvider mapAuthProvider(UserJpaEntity.AuthProvider provider) {
+        if (provider == null) return null;
+
+        switch (provider) {
+            case email: return User.AuthProvider.EMAIL;
+            case GOOGLE: return User.AuthProvider.GOOGLE;
+            case FACEBOOK: return User.AuthProvider.FACEBOOK;
+            case PHONE: return User.AuthProvider.PHONE;
+            case GITHUB: return User.AuthProvider.GITHUB;
+            case CUSTOM: return User.AuthProvider.CUSTOM;
+            default: throw new IllegalArgumentException("Unknown provider: " + provider);
+        }
+    }
+
+    private static UserJpaEntity.AuthProvider mapAuthProviderToEntity(User.AuthProvider provider) {
+        if (provider == null) return null;
+
+        switch (provider) {
+            case EMAIL: return UserJpaEntity.AuthProvider.email;
+            case GOOGLE: return UserJpaEntity.AuthProvider.GOOGLE;
+            case FACEBOOK: return UserJpaEntity.AuthProvider.FACEBOOK;
+            case PHONE: return UserJpaEntity.AuthProvider.PHONE;
+            case GITHUB: return UserJpaEntity.AuthProvider.GITHUB;
+            case CUSTOM: return UserJpaEntity.AuthProvider.CUSTOM;
+            default: throw new IllegalArgumentException("Unknown provider: " + provider);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.rephelper.benchmark;
+
+import com.rephelper.application.dto.response.TaskResponse;
+import com.rephelper.application.mapper.CommonDtoMapperImpl;
+import com.rephelper.application.mapper.TaskDtoMapper;
+import com.rephelper.application.mapper.TaskDtoMapperImpl;
+import com.rephelper.application.mapper.UserDtoMapperImpl;
+import com.rephelper.domain.model.Task;
+import com.rephelper.infrastructure.adapter.persistence.ShallowEntityMapperImpl;
+import com.rephelper.infrastructure.adapter.persistence.TaskMapper;
+import com.rephelper.infrastructure.adapter.persistence.TaskMapperImpl;
+import com.rephelper.infrastructure.entity.TaskJpaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara os mappers escritos à mão (vários builders por entidade) com os mappers
+ * gerados pelo MapStruct (uma passada por entidade) para uma tarefa com república,
+ * criador e usuários atribuídos.
+ * Rode com {@code -prof gc} e compare {@code gc.alloc.rate.norm} (bytes por operação).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperAllocationBenchmark {
+
+    @Param({"0", "3"})
+    public int assignees;
+
+    private TaskJpaEntity entity;
+    private Task task;
+    private TaskMapper taskMapper;
+    private TaskDtoMapper taskDtoMapper;
+
+    @Setup
+    public void setUp() {
+        taskMapper = new TaskMapperImpl(new ShallowEntityMapperImpl());
+        taskDtoMapper = new TaskDtoMapperImpl(new UserDtoMapperImpl(), new CommonDtoMapperImpl());
+        entity = BenchmarkFixtures.task(42L, assignees);
+        task = taskMapper.toDomainEntity(entity);
+    }
+
+    @Benchmark
+    public Task toDomainLegacy() {
+        return LegacyTaskMappers.toDomainEntity(entity);
+    }
+
+    @Benchmark
+    public Task toDomainGenerated() {
+        return taskMapper.toDomainEntity(entity);
+    }
+
+    @Benchmark
+    public TaskJpaEntity toJpaLegacy() {
+        return LegacyTaskMappers.toJpaEntity(task);
+    }
+
+    @Benchmark
+    public TaskJpaEntity toJpaGenerated() {
+        return taskMapper.toJpaEntity(task);
+    }
+
+    @Benchmark
+    public TaskResponse toResponseLegacy() {
+        return LegacyTaskMappers.toTaskResponse(task);
+    }
+
+    @Benchmark
+    public TaskResponse toResponseGenerated() {
+        return taskDtoMapper.toTaskResponse(task);
+    }
+}
@@ -0,0 +1,96 @@
+package com.rephelper.benchmark;
+
+import com.rephelper.application.dto.response.TaskResponse;
+import com.rephelper.application.mapper.CommonDtoMapperImpl;
+import com.rephelper.application.mapper.TaskDtoMapper;
+import com.rephelper.application.mapper.TaskDtoMapperImpl;
+import com.rephelper.application.mapper.UserDtoMapperImpl;
+import com.rephelper.domain.model.Task;
+import com.rephelper.infrastructure.adapter.persistence.EventMapper;
+import com.rephelper.infrastructure.adapter.persistence.EventMapperImpl;
+import com.rephelper.infrastructure.adapter.persistence.ShallowEntityMapperImpl;
+import com.rephelper.infrastructure.adapter.persistence.TaskMapper;
+import com.rephelper.infrastructure.adapter.persistence.TaskMapperImpl;
+import com.rephelper.infrastructure.adapter.persistence.UserMapper;
+import com.rephelper.infrastructure.adapter.persistence.UserMapperImpl;
+import com.rephelper.infrastructure.entity.EventJpaEntity;
+import com.rephelper.infrastructure.entity.TaskJpaEntity;
+import com.rephelper.infrastructure.entity.UserJpaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ida e volta entidade JPA -> domínio -> entidade JPA dos mappers usados em toda
+ * leitura e gravação, e a conversão de uma página de tarefas para a resposta da API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperRoundTripBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int ASSIGNEES = 3;
+
+    private TaskMapper taskMapper;
+    private EventMapper eventMapper;
+    private UserMapper userMapper;
+    private TaskDtoMapper taskDtoMapper;
+
+    private TaskJpaEntity taskEntity;
+    private EventJpaEntity eventEntity;
+    private UserJpaEntity userEntity;
+    private List<Task> taskPage;
+
+    @Setup
+    public void setUp() {
+        ShallowEntityMapperImpl shallowEntityMapper = new ShallowEntityMapperImpl();
+        taskMapper = new TaskMapperImpl(shallowEntityMapper);
+        eventMapper = new EventMapperImpl(shallowEntityMapper);
+        userMapper = new UserMapperImpl(shallowEntityMapper);
+        taskDtoMapper = new TaskDtoMapperImpl(new UserDtoMapperImpl(), new CommonDtoMapperImpl());
+
+        taskEntity = BenchmarkFixtures.task(42L, ASSIGNEES);
+        eventEntity = BenchmarkFixtures.event(7L, ASSIGNEES);
+        userEntity = BenchmarkFixtures.user(1, BenchmarkFixtures.republic());
+        taskPage = BenchmarkFixtures.tasks(PAGE_SIZE, ASSIGNEES).stream()
+                .map(taskMapper::toDomainEntity)
+                .toList();
+    }
+
+    @Benchmark
+    public TaskJpaEntity taskRoundTrip() {
+        return taskMapper.toJpaEntity(taskMapper.toDomainEntity(taskEntity));
+    }
+
+    @Benchmark
+    public EventJpaEntity eventRoundTrip() {
+        return eventMapper.toJpaEntity(eventMapper.toDomainEntity(eventEntity));
+    }
+
+    @Benchmark
+    public UserJpaEntity userRoundTrip() {
+        return userMapper.toJpaEntity(userMapper.toDomainEntity(userEntity));
+    }
+
+    /**
+     * Página padrão (20 tarefas) convertida para a resposta da API
+     */
+    @Benchmark
+    public List<TaskResponse> taskResponsePage() {
+        return taskDtoMapper.toTaskResponseList(taskPage);
+    }
+}
@@ -0,0 +1,138 @@
+package com.rephelper.benchmark;
+
+import com.rephelper.application.dto.request.TaskFilterRequest;
+import com.rephelper.infrastructure.adapter.persistence.specification.TaskSpecification;
+import com.rephelper.infrastructure.adapter.persistence.util.TaskCursor;
+import com.rephelper.infrastructure.entity.RepublicJpaEntity;
+import com.rephelper.infrastructure.entity.TaskJpaEntity;
+import com.rephelper.infrastructure.entity.UserJpaEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem dos predicados de {@link TaskSpecification} para as listagens de tarefas.
+ * O metamodelo é inicializado a partir das entidades, sem conexão com o banco
+ * (dialeto fixo e leitura de metadados JDBC desativada), então roda offline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSpecificationBenchmark {
+
+    /**
+     * SIMPLE: status + intervalo de vencimento; CONTAINS: busca por trecho;
+     * FULL_TEXT: busca textual indexada com ordenação por relevância
+     */
+    @Param({"SIMPLE", "CONTAINS", "FULL_TEXT"})
+    public String filterKind;
+
+    private static final UUID REPUBLIC_ID = UUID.fromString("5b0c8a64-5a55-4d3e-9a3e-0d6f3c1f2a10");
+    private static final UUID USER_ID = UUID.nameUUIDFromBytes("benchmark-user-1".getBytes());
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+    private TaskFilterRequest filter;
+    private TaskCursor cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.PostgreSQLDialect")
+                .applySetting(AvailableSettings.ALLOW_METADATA_ON_BOOT, false)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "none")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(TaskJpaEntity.class)
+                .addAnnotatedClass(UserJpaEntity.class)
+                .addAnnotatedClass(RepublicJpaEntity.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+
+        TaskFilterRequest.TaskFilterRequestBuilder builder = TaskFilterRequest.builder()
+                .status("PENDING")
+                .dueDateFrom(BenchmarkFixtures.NOW)
+                .dueDateTo(BenchmarkFixtures.NOW.plusDays(30));
+        switch (filterKind) {
+            case "CONTAINS" -> builder.searchTerm("Lavar louça");
+            case "FULL_TEXT" -> builder.searchTerm("lavar louça")
+                    .searchMode(TaskFilterRequest.SEARCH_MODE_FULL_TEXT);
+            default -> {
+            }
+        }
+        filter = builder.build();
+        cursor = new TaskCursor("dueDate", Direction.ASC, BenchmarkFixtures.NOW.plusDays(3), 1234L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    /**
+     * Listagem da república na primeira página (paginação por offset)
+     */
+    @Benchmark
+    public Predicate republicFilters() {
+        return toPredicate(withOrdering(TaskSpecification.withFilters(REPUBLIC_ID, filter)));
+    }
+
+    /**
+     * Listagem da república em uma página seguinte (paginação por keyset)
+     */
+    @Benchmark
+    public Predicate republicFiltersAfterCursor() {
+        return toPredicate(withOrdering(TaskSpecification.withFilters(REPUBLIC_ID, filter)
+                .and(TaskSpecification.afterCursor(cursor))));
+    }
+
+    /**
+     * Listagem das tarefas atribuídas ao usuário
+     */
+    @Benchmark
+    public Predicate assignedFilters() {
+        return toPredicate(withOrdering(TaskSpecification.withAssignedFilters(USER_ID, filter)));
+    }
+
+    private Specification<TaskJpaEntity> withOrdering(Specification<TaskJpaEntity> specification) {
+        return filter.isFullTextSearch()
+                ? specification.and(TaskSpecification.orderByRelevance(filter.getSearchTerm()))
+                : specification;
+    }
+
+    private Predicate toPredicate(Specification<TaskJpaEntity> specification) {
+        CriteriaQuery<TaskJpaEntity> query = criteriaBuilder.createQuery(TaskJpaEntity.class);
+        Root<TaskJpaEntity> root = query.from(TaskJpaEntity.class);
+        return specification.toPredicate(root, query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,25 @@
+package com.rephelper.application.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para filtrar a caixa de notificações paginada por cursor
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationFilterRequest {
+    // Filtros
+    private String type;        // Nome de Notification.NotificationType
+    private String entityType;  // Ex.: task, expense, event
+    private String entityId;
+    private Boolean unreadOnly;
+
+    // Paginação (sempre das mais recentes para as mais antigas)
+    private Integer size;
+    private String cursor; // Cursor opaco retornado pela página anterior
+}
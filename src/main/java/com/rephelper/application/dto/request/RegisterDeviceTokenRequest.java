@@ -0,0 +1,24 @@
+package com.rephelper.application.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para registro do token de push (FCM) de um dispositivo
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegisterDeviceTokenRequest {
+    @NotBlank(message = "Token is required")
+    @Size(max = 512, message = "Token must have at most 512 characters")
+    private String token;
+
+    @Size(max = 20, message = "Platform must have at most 20 characters")
+    private String platform; // android, ios, web
+}
@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,6 +19,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class TaskFilterRequest {
+    public static final String SEARCH_MODE_FULL_TEXT = "FULL_TEXT";
+    public static final String SORT_BY_RELEVANCE = "relevance";
+
     // Filtros básicos
     private String status;
     private String category;
@@ -35,12 +40,31 @@ public class TaskFilterRequest {
     
     // Filtros de texto
     private String searchTerm; // Busca no título e descrição
+    private String searchMode; // CONTAINS (padrão, busca por trecho) ou FULL_TEXT (busca textual indexada)
     
     // Paginação
     private Integer page;
     private Integer size;
+    private String cursor; // Cursor opaco retornado pela página anterior (modo keyset)
     
     // Ordenação
-    private String sortBy;
+    private String sortBy; // No modo FULL_TEXT aceita também "relevance"
     private String sortDirection;
+
+    /**
+     * Indica se o termo de busca deve usar a busca textual indexada
+     */
+    @JsonIgnore
+    public boolean isFullTextSearch() {
+        return searchTerm != null && !searchTerm.trim().isEmpty()
+                && SEARCH_MODE_FULL_TEXT.equalsIgnoreCase(searchMode);
+    }
+
+    /**
+     * Indica se o resultado deve ser ordenado pela relevância da busca textual
+     */
+    @JsonIgnore
+    public boolean isSortedByRelevance() {
+        return isFullTextSearch() && SORT_BY_RELEVANCE.equalsIgnoreCase(sortBy);
+    }
 }
\ No newline at end of file
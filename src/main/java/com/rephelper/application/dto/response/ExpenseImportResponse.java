@@ -0,0 +1,31 @@
+package com.rephelper.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for expense import results, with the error of each rejected row
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseImportResponse {
+    private int totalRows;
+    private int importedRows;
+    private int failedRows;
+    private List<RowError> errors;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long lineNumber;
+        private String message;
+    }
+}
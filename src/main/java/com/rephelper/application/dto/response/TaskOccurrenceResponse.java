@@ -0,0 +1,35 @@
+package com.rephelper.application.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import com.rephelper.domain.model.Task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para uma ocorrência de tarefa no calendário.
+ * Ocorrências virtuais não possuem taskId: são derivadas da instância atual da série (sourceTaskId)
+ * e só viram tarefas quando se tornam a instância atual.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskOccurrenceResponse {
+    private Long taskId;
+    private Long sourceTaskId;
+    private Long seriesId;
+    private boolean virtual;
+    private String title;
+    private String description;
+    private String category;
+    private Task.TaskStatus status;
+    private LocalDateTime dueDate;
+    private Set<UserSummaryResponse> assignedUsers;
+    private String recurrenceType;
+    private Integer recurrenceInterval;
+}
@@ -0,0 +1,34 @@
+package com.rephelper.application.mapper;
+
+import com.rephelper.domain.model.Republic;
+import com.rephelper.domain.model.User;
+import org.mapstruct.Mapper;
+import org.mapstruct.Named;
+
+import java.util.UUID;
+
+/**
+ * Conversões auxiliares reutilizadas pelos mappers de DTO
+ */
+@Mapper(config = DtoMapperConfig.class)
+public interface CommonDtoMapper {
+
+    String REPUBLIC_REFERENCE = "republicReference";
+    String DISPLAY_NAME = "displayName";
+
+    /**
+     * Referência à república contendo apenas o ID recebido na requisição
+     */
+    @Named(REPUBLIC_REFERENCE)
+    default Republic toRepublicReference(UUID republicId) {
+        return Republic.builder().id(republicId).build();
+    }
+
+    /**
+     * Nome exibido do usuário: o apelido, ou o nome quando não houver apelido
+     */
+    @Named(DISPLAY_NAME)
+    default String toDisplayName(User user) {
+        return user.getNickname() != null ? user.getNickname() : user.getName();
+    }
+}
@@ -0,0 +1,19 @@
+package com.rephelper.application.mapper;
+
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.NullValueCheckStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Configuração MapStruct compartilhada pelos mappers de DTO.
+ * Propriedades de destino não mapeadas nem ignoradas explicitamente quebram a compilação.
+ */
+@MapperConfig(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+        nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS,
+        unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface DtoMapperConfig {
+}
@@ -2,43 +2,42 @@ package com.rephelper.application.mapper;
 
 import com.rephelper.application.dto.request.CreateExpenseRequest;
 import com.rephelper.application.dto.request.UpdateExpenseRequest;
+import com.rephelper.application.dto.response.ExpenseImportResponse;
 import com.rephelper.application.dto.response.ExpenseResponse;
 import com.rephelper.domain.model.Expense;
-import com.rephelper.domain.model.Republic;
-import org.springframework.stereotype.Component;
+import com.rephelper.domain.model.ExpenseImportResult;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+
+import static com.rephelper.application.mapper.CommonDtoMapper.DISPLAY_NAME;
+import static com.rephelper.application.mapper.CommonDtoMapper.REPUBLIC_REFERENCE;
 
 /**
  * Mapper for Expense DTOs
  */
-@Component
-public class ExpenseDtoMapper {
+@Mapper(config = DtoMapperConfig.class, uses = CommonDtoMapper.class, imports = LocalDateTime.class)
+public interface ExpenseDtoMapper {
 
     /**
      * Maps CreateExpenseRequest to Expense domain object
      */
-    public Expense toExpense(CreateExpenseRequest request) {
-        if (request == null) return null;
-
-        return Expense.builder()
-                .description(request.getDescription())
-                .amount(request.getAmount())
-                .expenseDate(request.getExpenseDate())
-                .category(request.getCategory())
-                .receiptUrl(request.getReceiptUrl())
-                .republic(Republic.builder().id(request.getRepublicId()).build())
-                .status(Expense.ExpenseStatus.PENDING)
-                .createdAt(LocalDateTime.now())
-                .build();
-    }
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "republic", source = "republicId", qualifiedByName = REPUBLIC_REFERENCE)
+    @Mapping(target = "creator", ignore = true)
+    @Mapping(target = "status", constant = "PENDING")
+    @Mapping(target = "approvalDate", ignore = true)
+    @Mapping(target = "reimbursementDate", ignore = true)
+    @Mapping(target = "rejectionReason", ignore = true)
+    @Mapping(target = "createdAt", expression = "java(LocalDateTime.now())")
+    Expense toExpense(CreateExpenseRequest request);
 
     /**
      * Updates Expense with data from UpdateExpenseRequest
      */
-    public void updateExpenseFromRequest(Expense expense, UpdateExpenseRequest request) {
+    default void updateExpenseFromRequest(Expense expense, UpdateExpenseRequest request) {
         if (expense == null || request == null) return;
 
         expense.updateDetails(
@@ -53,37 +52,21 @@ public class ExpenseDtoMapper {
     /**
      * Maps Expense domain object to ExpenseResponse
      */
-    public ExpenseResponse toExpenseResponse(Expense expense) {
-        if (expense == null) return null;
-
-        return ExpenseResponse.builder()
-                .id(expense.getId())
-                .description(expense.getDescription())
-                .amount(expense.getAmount())
-                .expenseDate(expense.getExpenseDate())
-                .category(expense.getCategory())
-                .receiptUrl(expense.getReceiptUrl())
-                .status(expense.getStatus())
-                .approvalDate(expense.getApprovalDate())
-                .reimbursementDate(expense.getReimbursementDate())
-                .rejectionReason(expense.getRejectionReason())
-                .republicId(expense.getRepublic() != null ? expense.getRepublic().getId() : null)
-                .republicName(expense.getRepublic() != null ? expense.getRepublic().getName() : null)
-                .creatorId(expense.getCreator() != null ? expense.getCreator().getId() : null)
-                .creatorName(expense.getCreator() != null ? ( expense.getCreator().getNickname() != null ? expense.getCreator().getNickname() : expense.getCreator().getName()) : null)
-                .creatorProfilePictureUrl(expense.getCreator() != null ? expense.getCreator().getProfilePictureUrl() : null)
-                .createdAt(expense.getCreatedAt())
-                .build();
-    }
+    @Mapping(target = "republicId", source = "republic.id")
+    @Mapping(target = "republicName", source = "republic.name")
+    @Mapping(target = "creatorId", source = "creator.id")
+    @Mapping(target = "creatorName", source = "creator", qualifiedByName = DISPLAY_NAME)
+    @Mapping(target = "creatorProfilePictureUrl", source = "creator.profilePictureUrl")
+    ExpenseResponse toExpenseResponse(Expense expense);
 
     /**
      * Maps a list of Expense domain objects to a list of ExpenseResponse DTOs
      */
-    public List<ExpenseResponse> toExpenseResponseList(List<Expense> expenses) {
-        if (expenses == null) return null;
+    List<ExpenseResponse> toExpenseResponseList(List<Expense> expenses);
 
-        return expenses.stream()
-                .map(this::toExpenseResponse)
-                .collect(Collectors.toList());
-    }
-}
\ No newline at end of file
+    /**
+     * Maps an ExpenseImportResult to ExpenseImportResponse
+     */
+    @Mapping(target = "failedRows", expression = "java(result.getErrors().size())")
+    ExpenseImportResponse toExpenseImportResponse(ExpenseImportResult result);
+}
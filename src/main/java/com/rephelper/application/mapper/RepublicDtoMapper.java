@@ -6,92 +6,34 @@ import com.rephelper.application.dto.response.AddressResponse;
 import com.rephelper.application.dto.response.RepublicResponse;
 import com.rephelper.domain.model.Address;
 import com.rephelper.domain.model.Republic;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-@Component
-public class RepublicDtoMapper {
+@Mapper(config = DtoMapperConfig.class)
+public interface RepublicDtoMapper {
 
-    @Autowired
-    protected UserDtoMapper userDtoMapper;
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "code", ignore = true)
+    @Mapping(target = "address", source = ".")
+    @Mapping(target = "owner", ignore = true)
+    @Mapping(target = "members", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Republic toRepublic(CreateRepublicRequest request);
 
-    public Republic toRepublic(CreateRepublicRequest request) {
-        if (request == null) return null;
+    @Mapping(target = "ownerId", source = "owner.id")
+    @Mapping(target = "ownerName", source = "owner.name")
+    RepublicResponse toRepublicResponse(Republic republic);
 
-        return Republic.builder()
-                .name(request.getName())
-                .address(toAddress(request))
-                .build();
-    }
+    List<RepublicResponse> toRepublicResponseList(List<Republic> republics);
 
-    public RepublicResponse toRepublicResponse(Republic republic) {
-        if (republic == null) return null;
-
-        return RepublicResponse.builder()
-                .id(republic.getId())
-                .name(republic.getName())
-                .code(republic.getCode())
-                .address(toAddressResponse(republic.getAddress()))
-                .ownerId(republic.getOwner() != null ? republic.getOwner().getId() : null)
-                .ownerName(republic.getOwner() != null ? republic.getOwner().getName() : null)
-                .createdAt(republic.getCreatedAt())
-                .updatedAt(republic.getUpdatedAt())
-                .build();
-    }
-
-    public List<RepublicResponse> toRepublicResponseList(List<Republic> republics) {
-        if (republics == null) return null;
-
-        return republics.stream()
-                .map(this::toRepublicResponse)
-                .collect(Collectors.toList());
-    }
-
-    public AddressResponse toAddressResponse(Address address) {
-        if (address == null) return null;
-
-        return AddressResponse.builder()
-                .street(address.getStreet())
-                .number(address.getNumber())
-                .complement(address.getComplement())
-                .neighborhood(address.getNeighborhood())
-                .city(address.getCity())
-                .state(address.getState())
-                .zipCode(address.getZipCode())
-                .fullAddress(address.getFullAddress())
-                .build();
-    }
+    AddressResponse toAddressResponse(Address address);
 
     // Method to create an Address object from the creation DTO
-    protected Address toAddress(CreateRepublicRequest request) {
-        if (request == null) return null;
-
-        return Address.builder()
-                .street(request.getStreet())
-                .number(request.getNumber())
-                .complement(request.getComplement())
-                .neighborhood(request.getNeighborhood())
-                .city(request.getCity())
-                .state(request.getState())
-                .zipCode(request.getZipCode())
-                .build();
-    }
+    Address toAddress(CreateRepublicRequest request);
 
     // Method to create an Address object from the update DTO
-    public Address toAddress(UpdateRepublicRequest request) {
-        if (request == null) return null;
-
-        return Address.builder()
-                .street(request.getStreet())
-                .number(request.getNumber())
-                .complement(request.getComplement())
-                .neighborhood(request.getNeighborhood())
-                .city(request.getCity())
-                .state(request.getState())
-                .zipCode(request.getZipCode())
-                .build();
-    }
-}
\ No newline at end of file
+    Address toAddress(UpdateRepublicRequest request);
+}
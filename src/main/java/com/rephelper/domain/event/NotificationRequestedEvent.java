@@ -0,0 +1,26 @@
+package com.rephelper.domain.event;
+
+import com.rephelper.domain.model.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Evento de domínio publicado quando uma notificação deve ser criada para um ou mais destinatários.
+ * A gravação acontece somente após o commit da transação que o publicou, em um único lote;
+ * a data de criação é a da gravação, para ser comparável à marca d'água de leitura.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NotificationRequestedEvent {
+    private final List<UUID> recipientIds;
+    private final String title;
+    private final String message;
+    private final Notification.NotificationType type;
+    private final String entityType;
+    private final String entityId;
+}
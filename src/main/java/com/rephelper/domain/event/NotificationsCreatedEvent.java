@@ -0,0 +1,17 @@
+package com.rephelper.domain.event;
+
+import com.rephelper.domain.model.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Evento de domínio publicado quando um lote de notificações é gravado.
+ * Os ouvintes devem reagir somente após o commit da transação que gravou o lote.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationsCreatedEvent {
+    private final List<Notification> notifications;
+}
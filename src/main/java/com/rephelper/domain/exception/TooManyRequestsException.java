@@ -0,0 +1,10 @@
+package com.rephelper.domain.exception;
+
+/**
+ * Exceção lançada quando um recurso limitado está ocupado e a requisição deve ser repetida depois
+ */
+public class TooManyRequestsException extends DomainException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.rephelper.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Resultado de uma importação de despesas: linhas lidas, linhas gravadas e o erro de cada linha recusada
+ */
+@Getter
+@AllArgsConstructor
+public class ExpenseImportResult {
+    private final int totalRows;
+    private final int importedRows;
+    private final List<RowError> errors;
+
+    /**
+     * Erro de uma linha do arquivo
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private final long lineNumber;
+        private final String message;
+    }
+}
@@ -0,0 +1,21 @@
+package com.rephelper.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Linha de um arquivo de importação de despesas, com os valores ainda como texto.
+ * A conversão e a validação são feitas pelo serviço, que reporta os erros pelo número da linha.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ExpenseImportRow {
+    private final long lineNumber;
+    private final String description;
+    private final String amount;
+    private final String expenseDate;
+    private final String category;
+    private final String receiptUrl;
+}
@@ -0,0 +1,34 @@
+package com.rephelper.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Lançamento do livro-razão de uma república. Lançamentos nunca são alterados:
+ * correções entram como novos lançamentos com o valor oposto.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class FinanceLedgerEntry {
+    private final Long id;
+    private final UUID republicId;
+    // Positivo para entradas, negativo para saídas
+    private final BigDecimal amount;
+    private final Kind kind;
+    private final String referenceType;
+    private final String referenceId;
+    private final LocalDateTime createdAt;
+
+    public enum Kind {
+        OPENING_BALANCE,
+        INCOME,
+        REIMBURSEMENT,
+        ADJUSTMENT
+    }
+}
@@ -0,0 +1,32 @@
+package com.rephelper.domain.model;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Total mensal de uma república por categoria e tipo de lançamento.
+ * Despesas entram no mês da data da despesa ao serem reembolsadas; receitas entram no mês
+ * da data da receita, com a fonte como categoria.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class FinanceMonthlyAggregate {
+    private final UUID republicId;
+    private final YearMonth yearMonth;
+    // Nulo quando o lançamento não tem categoria
+    private final String category;
+    private final Kind kind;
+    private final BigDecimal totalAmount;
+    private final long entryCount;
+
+    public enum Kind {
+        EXPENSE,
+        INCOME
+    }
+}
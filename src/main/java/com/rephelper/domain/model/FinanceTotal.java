@@ -0,0 +1,20 @@
+package com.rephelper.domain.model;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Soma e quantidade de lançamentos financeiros de um grupo (status, categoria, mês ou autor),
+ * calculadas pelo banco
+ *
+ * @param <K> Tipo da chave do grupo
+ */
+@Getter
+@AllArgsConstructor
+public class FinanceTotal<K> {
+    private final K key;
+    private final BigDecimal totalAmount;
+    private final long count;
+}
@@ -0,0 +1,18 @@
+package com.rephelper.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Saldo de uma república calculado pelo livro-razão
+ */
+@Getter
+@AllArgsConstructor
+public class LedgerBalance {
+    private final BigDecimal balance;
+    // Data do último lançamento; nula se a república não tem lançamentos
+    private final LocalDateTime lastEntryAt;
+}
@@ -61,6 +61,16 @@ public class Notification {
         this.readAt = LocalDateTime.now();
     }
 
+    /**
+     * Applies the recipient's read watermark: notifications created up to it count as read
+     */
+    public void applyReadWatermark(LocalDateTime readUpTo) {
+        if (!read && readUpTo != null && createdAt != null && !createdAt.isAfter(readUpTo)) {
+            this.read = true;
+            this.readAt = readUpTo;
+        }
+    }
+
     /**
      * Marks the notification as unread
      */
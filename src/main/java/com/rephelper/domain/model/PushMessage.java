@@ -0,0 +1,22 @@
+package com.rephelper.domain.model;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Conteúdo de uma mensagem push. Mensagens iguais são enviadas juntas, em multicast
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PushMessage {
+    private final String title;
+    private final String body;
+    // Dados entregues ao aplicativo (tipo e entidade relacionada)
+    private final Map<String, String> data;
+}
@@ -0,0 +1,22 @@
+package com.rephelper.domain.model;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Entrada do outbox de envio push: uma notificação a ser entregue nos dispositivos do destinatário
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PushOutboxEntry {
+    private final Long id;
+    private final Long notificationId;
+    private final UUID recipientId;
+    // Tentativas já iniciadas, incluindo a atual
+    private final int attempts;
+    private final PushMessage message;
+}
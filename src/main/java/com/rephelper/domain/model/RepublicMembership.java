@@ -0,0 +1,36 @@
+package com.rephelper.domain.model;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Vínculo de um usuário com a república atual, usado nas verificações de permissão
+ * dos serviços sem precisar carregar o usuário completo.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepublicMembership {
+    private UUID userId;
+    private UUID republicId;
+    private boolean republicAdmin;
+
+    /**
+     * Verifica se o usuário pertence à república informada
+     */
+    public boolean isMemberOf(UUID republicId) {
+        return this.republicId != null && this.republicId.equals(republicId);
+    }
+
+    /**
+     * Verifica se o usuário é administrador da república informada
+     */
+    public boolean isAdminOf(UUID republicId) {
+        return republicAdmin && isMemberOf(republicId);
+    }
+}
@@ -1,7 +1,9 @@
 package com.rephelper.domain.model;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import com.rephelper.application.dto.request.UpdateTaskRequest;
@@ -183,7 +185,14 @@ public class Task {
      * Calcula a próxima data de vencimento com base na recorrência
      */
     public LocalDateTime calculateNextDueDate() {
-        if (!isRecurring || dueDate == null || recurrenceType == null || recurrenceInterval == null) {
+        return calculateNextDueDateFrom(dueDate);
+    }
+
+    /**
+     * Calcula a data de vencimento seguinte a uma data qualquer da série, com base na recorrência
+     */
+    public LocalDateTime calculateNextDueDateFrom(LocalDateTime baseDate) {
+        if (!isRecurring || baseDate == null || recurrenceType == null || recurrenceInterval == null) {
             return null;
         }
         
@@ -191,21 +200,48 @@ public class Task {
         
         switch (recurrenceType) {
             case DAILY:
-                nextDueDate = dueDate.plusDays(recurrenceInterval);
+                nextDueDate = baseDate.plusDays(recurrenceInterval);
                 break;
             case WEEKLY:
-                nextDueDate = dueDate.plusWeeks(recurrenceInterval);
+                nextDueDate = baseDate.plusWeeks(recurrenceInterval);
                 break;
             case MONTHLY:
-                nextDueDate = dueDate.plusMonths(recurrenceInterval);
+                nextDueDate = baseDate.plusMonths(recurrenceInterval);
                 break;
             case YEARLY:
-                nextDueDate = dueDate.plusYears(recurrenceInterval);
+                nextDueDate = baseDate.plusYears(recurrenceInterval);
                 break;
         }
         
         return nextDueDate;
     }
+
+    /**
+     * Expande, em memória, as próximas ocorrências desta tarefa recorrente dentro da janela [from, to).
+     * Considera apenas ocorrências posteriores a esta instância e respeita a data final da recorrência.
+     * Nenhuma tarefa é criada: as datas são calculadas do mesmo modo que {@link #createRecurringInstance()}.
+     *
+     * @param from Início da janela (inclusivo)
+     * @param to Fim da janela (exclusivo)
+     * @param maxOccurrences Quantidade máxima de ocorrências retornadas
+     * @return Datas de vencimento das ocorrências futuras na janela
+     */
+    public List<LocalDateTime> expandOccurrences(LocalDateTime from, LocalDateTime to, int maxOccurrences) {
+        List<LocalDateTime> occurrences = new ArrayList<>();
+
+        LocalDateTime next = calculateNextDueDateFrom(dueDate);
+        while (next != null && next.isBefore(to) && occurrences.size() < maxOccurrences) {
+            if (recurrenceEndDate != null && next.isAfter(recurrenceEndDate)) {
+                break;
+            }
+            if (!next.isBefore(from)) {
+                occurrences.add(next);
+            }
+            next = calculateNextDueDateFrom(next);
+        }
+
+        return occurrences;
+    }
     
     /**
      * Verifica se a recorrência deve continuar
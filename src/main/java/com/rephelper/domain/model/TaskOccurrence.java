@@ -0,0 +1,51 @@
+package com.rephelper.domain.model;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ocorrência de uma tarefa em uma janela de calendário.
+ * Pode ser uma tarefa já persistida ou uma ocorrência virtual de uma série recorrente,
+ * calculada em memória a partir da instância atual da série (sem gravar linhas).
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskOccurrence {
+    /**
+     * Tarefa persistida (para ocorrências virtuais, a instância atual da série que as origina)
+     */
+    private Task task;
+    private Long seriesId;
+    private LocalDateTime dueDate;
+    private boolean virtual;
+
+    /**
+     * Cria a ocorrência de uma tarefa já persistida
+     */
+    public static TaskOccurrence of(Task task, Long seriesId) {
+        return TaskOccurrence.builder()
+                .task(task)
+                .seriesId(seriesId)
+                .dueDate(task.getDueDate())
+                .virtual(false)
+                .build();
+    }
+
+    /**
+     * Cria uma ocorrência virtual da série, derivada da instância atual
+     */
+    public static TaskOccurrence virtualOf(Task head, Long seriesId, LocalDateTime dueDate) {
+        return TaskOccurrence.builder()
+                .task(head)
+                .seriesId(seriesId)
+                .dueDate(dueDate)
+                .virtual(true)
+                .build();
+    }
+}
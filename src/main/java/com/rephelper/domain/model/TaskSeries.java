@@ -0,0 +1,72 @@
+package com.rephelper.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidade de domínio que representa uma série de tarefas recorrentes.
+ * Existe uma série por cadeia de recorrência; ela aponta para a instância atual (cabeça)
+ * e guarda a data de vencimento dessa instância, usada pelo job de recorrência.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSeries {
+    private Long id;
+    private UUID republicId;
+    private Task.RecurrenceType recurrenceType;
+    private Integer recurrenceInterval;
+    private LocalDateTime recurrenceEndDate;
+    private Long headTaskId;
+    private LocalDateTime nextDueDate;
+    @Builder.Default
+    private boolean active = true;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Cria uma nova série a partir da primeira instância de uma tarefa recorrente
+     */
+    public static TaskSeries startFrom(Task head) {
+        TaskSeries series = TaskSeries.builder()
+                .republicId(head.getRepublic() != null ? head.getRepublic().getId() : null)
+                .createdAt(LocalDateTime.now())
+                .build();
+        series.syncWith(head);
+        return series;
+    }
+
+    /**
+     * Avança a série para a nova instância gerada pela recorrência
+     */
+    public void advanceTo(Task newHead) {
+        syncWith(newHead);
+    }
+
+    /**
+     * Atualiza os dados de recorrência e a instância atual com base na tarefa cabeça
+     */
+    public void syncWith(Task head) {
+        this.headTaskId = head.getId();
+        this.recurrenceType = head.getRecurrenceType();
+        this.recurrenceInterval = head.getRecurrenceInterval();
+        this.recurrenceEndDate = head.getRecurrenceEndDate();
+        this.nextDueDate = head.getDueDate();
+        this.active = head.isRecurring() && head.getStatus() != Task.TaskStatus.CANCELLED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Encerra a série: o job de recorrência deixa de processá-la
+     */
+    public void end() {
+        this.active = false;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
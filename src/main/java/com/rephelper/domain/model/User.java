@@ -29,6 +29,7 @@ public class User {
     private String status;
     private Republic currentRepublic;
     private Boolean isAdmin;
+    private long membershipVersion; // Incrementada a cada mudança de república ou de administrador
     private LocalDateTime entryDate;
     private LocalDateTime departureDate;
     private LocalDateTime createdAt;
@@ -88,6 +89,7 @@ public class User {
      */
     public void joinRepublic(Republic republic) {
         this.currentRepublic = republic;
+        this.membershipVersion++;
 
         // Define a data de entrada se for a primeira vez
         if (this.entryDate == null) {
@@ -106,6 +108,7 @@ public class User {
             this.departureDate = LocalDateTime.now();
             this.isAdmin = false;
             this.currentRepublic = null;
+            this.membershipVersion++;
         }
     }
 
@@ -113,8 +116,9 @@ public class User {
      * Define o usuário como administrador da república
      */
     public void makeRepublicAdmin() {
-        if (this.currentRepublic != null) {
+        if (this.currentRepublic != null && !Boolean.TRUE.equals(this.isAdmin)) {
             this.isAdmin = true;
+            this.membershipVersion++;
         }
     }
 
@@ -122,6 +126,9 @@ public class User {
      * Remove o status de administrador da república
      */
     public void removeRepublicAdmin() {
+        if (Boolean.TRUE.equals(this.isAdmin)) {
+            this.membershipVersion++;
+        }
         this.isAdmin = false;
     }
 
@@ -1,11 +1,17 @@
 package com.rephelper.domain.port.in;
 
 import com.rephelper.domain.model.Expense;
+import com.rephelper.domain.model.ExpenseImportResult;
+import com.rephelper.domain.model.ExpenseImportRow;
+import com.rephelper.domain.model.FinanceTotal;
+import com.rephelper.domain.model.User;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Port for the expense service
@@ -17,6 +23,12 @@ public interface ExpenseServicePort {
      */
     Expense createExpense(Expense expense, UUID creatorId);
 
+    /**
+     * Imports pending expenses for a republic from parsed file rows, in chunked transactions.
+     * Invalid rows are skipped and reported; republic admins get a single summary notification.
+     */
+    ExpenseImportResult importExpenses(UUID republicId, Iterator<ExpenseImportRow> rows, UUID importerId);
+
     /**
      * Updates an existing expense
      */
@@ -54,6 +66,25 @@ public interface ExpenseServicePort {
      */
     List<Expense> getExpensesByCreatorId(UUID creatorId);
 
+    /**
+     * Gets expense totals (sum and count) by status for a republic
+     */
+    List<FinanceTotal<Expense.ExpenseStatus>> getExpenseTotalsByStatus(UUID republicId);
+
+    /**
+     * Gets totals by creator of the expenses with the given status in a date range for a republic
+     */
+    List<FinanceTotal<User>> getExpenseTotalsByCreator(UUID republicId, Expense.ExpenseStatus status,
+                                                       LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Streams the expenses of a republic with the optional status and date range to the consumer,
+     * ordered by date, in a single read-only transaction. The republic is not looked up here:
+     * callers check it before committing the response
+     */
+    void exportExpenses(UUID republicId, Expense.ExpenseStatus status, LocalDate startDate, LocalDate endDate,
+                        Consumer<Expense> consumer);
+
     /**
      * Approves an expense
      */
@@ -6,6 +6,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Port for the income service
@@ -47,6 +48,13 @@ public interface IncomeServicePort {
      */
     List<Income> getIncomesByContributorId(UUID contributorId);
 
+    /**
+     * Streams the incomes of a republic in the optional date range to the consumer,
+     * ordered by date, in a single read-only transaction. The republic is not looked up here:
+     * callers check it before committing the response
+     */
+    void exportIncomes(UUID republicId, LocalDateTime startDate, LocalDateTime endDate, Consumer<Income> consumer);
+
     /**
      * Deletes an income
      */
@@ -1,7 +1,11 @@
 package com.rephelper.domain.port.in;
 
+import com.rephelper.application.dto.request.NotificationFilterRequest;
+import com.rephelper.application.dto.response.CursorPagedResponse;
 import com.rephelper.domain.model.Notification;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -10,11 +14,19 @@ import java.util.UUID;
  */
 public interface NotificationServicePort {
     /**
-     * Creates a new notification
+     * Requests a new notification. It is persisted asynchronously after the current transaction
+     * commits, so the returned notification has no ID yet
      */
     Notification createNotification(UUID recipientId, String title, String message,
                                     Notification.NotificationType type, String entityType, String entityId);
 
+    /**
+     * Requests the same notification for several recipients. All rows are persisted asynchronously
+     * in a single batch after the current transaction commits
+     */
+    void createNotifications(Collection<UUID> recipientIds, String title, String message,
+                             Notification.NotificationType type, String entityType, String entityId);
+
     /**
      * Gets a notification by ID
      */
@@ -30,6 +42,17 @@ public interface NotificationServicePort {
      */
     List<Notification> getUnreadNotificationsByUser(UUID userId);
 
+    /**
+     * Gets up to {@code limit} notifications for a user created at or after the given time, oldest first
+     */
+    List<Notification> getNotificationsSince(UUID userId, LocalDateTime since, int limit);
+
+    /**
+     * Gets one page of a user's notifications, newest first, filtered by type, related entity or read state.
+     * Pass the returned cursor to fetch the next page
+     */
+    CursorPagedResponse<Notification> getInbox(UUID userId, NotificationFilterRequest filter);
+
     /**
      * Counts unread notifications for a user
      */
@@ -45,6 +68,16 @@ public interface NotificationServicePort {
      */
     void markAllNotificationsAsRead(UUID userId);
 
+    /**
+     * Registers (or refreshes) the push token of one of the user's devices
+     */
+    void registerDevice(UUID userId, String token, String platform);
+
+    /**
+     * Removes the push token of one of the user's devices
+     */
+    void unregisterDevice(UUID userId, String token);
+
     /**
      * Deletes a notification
      */
@@ -61,14 +94,19 @@ public interface NotificationServicePort {
     Notification notifyTaskAssigned(UUID recipientId, Long taskId, String taskTitle);
 
     /**
-     * Creates a task completion notification
+     * Creates task assignment notifications for several recipients
+     */
+    void notifyTaskAssigned(Collection<UUID> recipientIds, Long taskId, String taskTitle);
+
+    /**
+     * Creates task completion notifications for several recipients
      */
-    Notification notifyTaskCompleted(UUID recipientId, Long taskId, String taskTitle, UUID completedById);
+    void notifyTaskCompleted(Collection<UUID> recipientIds, Long taskId, String taskTitle, UUID completedById);
 
     /**
-     * Creates an expense creation notification
+     * Creates expense creation notifications for several recipients
      */
-    Notification notifyExpenseCreated(UUID recipientId, Long expenseId, String description, UUID creatorId);
+    void notifyExpenseCreated(Collection<UUID> recipientIds, Long expenseId, String description, UUID creatorId);
 
     /**
      * Creates an expense approval notification
@@ -116,12 +154,12 @@ public interface NotificationServicePort {
     Notification notifySystemNotification(UUID recipientId, String title, String message);
 
     /**
-     * Creates a task due soon notification
+     * Creates task due soon notifications for several recipients
      */
-    Notification notifyTaskDueSoon(UUID recipientId, Long taskId, String taskTitle, String message);
+    void notifyTaskDueSoon(Collection<UUID> recipientIds, Long taskId, String taskTitle, String message);
 
     /**
-     * Creates a task overdue notification
+     * Creates task overdue notifications for several recipients
      */
-    Notification notifyTaskOverdue(UUID recipientId, Long taskId, String taskTitle, String message);
+    void notifyTaskOverdue(Collection<UUID> recipientIds, Long taskId, String taskTitle, String message);
 }
\ No newline at end of file
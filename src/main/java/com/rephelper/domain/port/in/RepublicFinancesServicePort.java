@@ -1,8 +1,12 @@
 package com.rephelper.domain.port.in;
 
+import com.rephelper.domain.model.FinanceLedgerEntry;
+import com.rephelper.domain.model.FinanceMonthlyAggregate;
 import com.rephelper.domain.model.RepublicFinances;
 
 import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -20,12 +24,33 @@ public interface RepublicFinancesServicePort {
     RepublicFinances getRepublicFinances(UUID republicId);
 
     /**
-     * Updates the balance of a republic's finances
+     * Adjusts the balance of a republic's finances by appending an adjustment ledger entry
      */
     RepublicFinances updateBalance(UUID republicId, BigDecimal amount);
 
     /**
-     * Checks if a republic has enough balance for a specified amount
+     * Checks if a republic has enough balance for a specified amount.
+     * Only a hint: use {@link #debitIfCovered} to withdraw atomically.
      */
     boolean hasEnoughBalance(UUID republicId, BigDecimal amount);
+
+    /**
+     * Appends a ledger entry (positive amount for credits, negative for debits) without checking the balance
+     */
+    void recordEntry(UUID republicId, BigDecimal amount, FinanceLedgerEntry.Kind kind,
+                     String referenceType, String referenceId);
+
+    /**
+     * Atomically withdraws a positive amount if the balance covers it
+     *
+     * @return false if the balance is not enough (nothing is recorded)
+     */
+    boolean debitIfCovered(UUID republicId, BigDecimal amount, FinanceLedgerEntry.Kind kind,
+                           String referenceType, String referenceId);
+
+    /**
+     * Gets the materialized monthly totals (reimbursed expenses and incomes) of a republic
+     * by category, for the given month range (inclusive)
+     */
+    List<FinanceMonthlyAggregate> getMonthlyTotals(UUID republicId, YearMonth from, YearMonth to);
 }
\ No newline at end of file
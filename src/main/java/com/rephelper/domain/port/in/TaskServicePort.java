@@ -1,5 +1,6 @@
 package com.rephelper.domain.port.in;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -8,7 +9,9 @@ import org.springframework.data.domain.Pageable;
 
 import com.rephelper.application.dto.request.TaskFilterRequest;
 import com.rephelper.application.dto.request.UpdateTaskRequest;
+import com.rephelper.application.dto.response.CursorPagedResponse;
 import com.rephelper.domain.model.Task;
+import com.rephelper.domain.model.TaskOccurrence;
 
 /**
  * Porta de entrada definindo os casos de uso relacionados a tarefas.
@@ -109,4 +112,44 @@ public interface TaskServicePort {
      * @return Página de tarefas
      */
     Page<Task> findTasksAssignedWithFilters(UUID userId, TaskFilterRequest filter, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Busca tarefas com filtros usando paginação por cursor
+     *
+     * @param republicId ID da república
+     * @param filter Filtros a serem aplicados
+     * @return Página de tarefas com o cursor da próxima página
+     */
+    CursorPagedResponse<Task> findTasksWithFiltersByCursor(UUID republicId, TaskFilterRequest filter);
+
+    /**
+     * Busca tarefas atribuídas a um usuário com filtros usando paginação por cursor
+     *
+     * @param userId ID do usuário
+     * @param filter Filtros a serem aplicados
+     * @return Página de tarefas com o cursor da próxima página
+     */
+    CursorPagedResponse<Task> findTasksAssignedWithFiltersByCursor(UUID userId, TaskFilterRequest filter);
+
+    /**
+     * Obtém o calendário de tarefas de uma república na janela [from, to).
+     * Inclui as tarefas persistidas e as ocorrências futuras das séries recorrentes,
+     * calculadas em memória sem criar tarefas.
+     *
+     * @param republicId ID da república
+     * @param from Início da janela (inclusivo)
+     * @param to Fim da janela (exclusivo)
+     * @return Ocorrências ordenadas por data de vencimento
+     */
+    List<TaskOccurrence> getTaskCalendar(UUID republicId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Busca textual nas tarefas de uma república (título e descrição), ordenada por relevância
+     *
+     * @param republicId ID da república
+     * @param query Termos de busca
+     * @param pageable Informações de paginação
+     * @return Página de tarefas
+     */
+    Page<Task> searchTasks(UUID republicId, String query, Pageable pageable);
+}
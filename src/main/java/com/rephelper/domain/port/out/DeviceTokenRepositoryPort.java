@@ -0,0 +1,39 @@
+package com.rephelper.domain.port.out;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Porta de saída para o registro de tokens de push dos dispositivos dos usuários
+ */
+public interface DeviceTokenRepositoryPort {
+    /**
+     * Registra (ou renova) o token de um dispositivo do usuário
+     *
+     * @param userId ID do usuário
+     * @param token Token de registro do FCM
+     * @param platform Plataforma do dispositivo (android, ios, web)
+     */
+    void register(UUID userId, String token, String platform);
+
+    /**
+     * Remove o token de um dispositivo do usuário
+     */
+    void unregister(UUID userId, String token);
+
+    /**
+     * Busca os tokens dos usuários informados
+     *
+     * @return Tokens por usuário (usuários sem dispositivo não aparecem)
+     */
+    Map<UUID, List<String>> findTokensByUserIds(Collection<UUID> userIds);
+
+    /**
+     * Remove tokens rejeitados pelo serviço de push
+     *
+     * @return Quantidade de tokens removidos
+     */
+    int deleteTokens(Collection<String> tokens);
+}
@@ -1,11 +1,14 @@
 package com.rephelper.domain.port.out;
 
 import com.rephelper.domain.model.Expense;
+import com.rephelper.domain.model.FinanceTotal;
+import com.rephelper.domain.model.User;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Port for the expense repository
@@ -16,6 +19,11 @@ public interface ExpenseRepositoryPort {
      */
     Expense save(Expense expense);
 
+    /**
+     * Saves new expenses in batch; the generated IDs are not returned
+     */
+    void saveAll(List<Expense> expenses);
+
     /**
      * Finds an expense by its ID
      */
@@ -56,6 +64,26 @@ public interface ExpenseRepositoryPort {
      */
     List<Expense> findByRepublicIdAndCategory(UUID republicId, String category);
 
+    /**
+     * Sums and counts the expenses of a republic grouped by status
+     */
+    List<FinanceTotal<Expense.ExpenseStatus>> sumByStatus(UUID republicId);
+
+    /**
+     * Sums and counts the expenses of a republic with the given status and date range (inclusive),
+     * grouped by creator (id, name and nickname only), highest total first
+     */
+    List<FinanceTotal<User>> sumByCreator(UUID republicId, Expense.ExpenseStatus status,
+                                          LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Streams the expenses of a republic with the optional status and date range (inclusive), ordered by date,
+     * without loading them all in memory. Each expense carries only the creator's id, name and nickname.
+     * Must be consumed inside a transaction; the caller closes the stream.
+     */
+    Stream<Expense> streamForExport(UUID republicId, Expense.ExpenseStatus status,
+                                    LocalDate startDate, LocalDate endDate);
+
     /**
      * Deletes an expense
      */
@@ -0,0 +1,52 @@
+package com.rephelper.domain.port.out;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import com.rephelper.domain.model.FinanceMonthlyAggregate;
+
+/**
+ * Porta de saída para os totais mensais materializados das finanças de uma república
+ */
+public interface FinanceAggregateRepositoryPort {
+    /**
+     * Soma um valor e uma quantidade de lançamentos ao total do mês, criando-o se necessário.
+     * Valores negativos removem lançamentos do total.
+     *
+     * @param republicId ID da república
+     * @param yearMonth Mês do lançamento
+     * @param category Categoria (ou fonte, para receitas); nula quando não informada
+     * @param kind Tipo de lançamento
+     * @param amount Valor a somar
+     * @param entries Quantidade de lançamentos a somar
+     */
+    void add(UUID republicId, YearMonth yearMonth, String category, FinanceMonthlyAggregate.Kind kind,
+             BigDecimal amount, long entries);
+
+    /**
+     * Busca os totais de uma república no intervalo de meses informado (inclusivo)
+     *
+     * @param republicId ID da república
+     * @param from Primeiro mês
+     * @param to Último mês
+     * @return Totais por mês, categoria e tipo
+     */
+    List<FinanceMonthlyAggregate> findByRepublicIdAndMonthRange(UUID republicId, YearMonth from, YearMonth to);
+
+    /**
+     * Recalcula todos os totais de uma república a partir das despesas e receitas.
+     * Espera as transações com atualizações incrementais da república terminarem e
+     * bloqueia novas até o fim da transação.
+     *
+     * @param republicId ID da república
+     * @return Quantidade de totais gravados
+     */
+    int rebuild(UUID republicId);
+
+    /**
+     * Verifica se ainda não há nenhum total materializado (tabela nunca preenchida)
+     */
+    boolean isEmpty();
+}
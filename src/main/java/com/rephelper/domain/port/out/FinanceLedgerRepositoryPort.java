@@ -0,0 +1,60 @@
+package com.rephelper.domain.port.out;
+
+import java.util.UUID;
+
+import com.rephelper.domain.model.FinanceLedgerEntry;
+import com.rephelper.domain.model.LedgerBalance;
+
+/**
+ * Porta de saída para o livro-razão das finanças e seus snapshots de saldo.
+ * Lançamentos são apenas inseridos, sem bloquear linhas compartilhadas entre transações.
+ */
+public interface FinanceLedgerRepositoryPort {
+    /**
+     * Insere um lançamento incondicionalmente
+     *
+     * @param entry Lançamento (valor positivo ou negativo)
+     */
+    void append(FinanceLedgerEntry entry);
+
+    /**
+     * Insere um débito somente se o saldo da república o cobrir. Os débitos de uma mesma república
+     * são serializados até o fim da transação; créditos não esperam por eles.
+     *
+     * @param entry Lançamento com valor negativo
+     * @return false se o saldo for insuficiente (nada é inserido)
+     */
+    boolean appendDebitIfCovered(FinanceLedgerEntry entry);
+
+    /**
+     * Calcula o saldo como o último snapshot da república mais os lançamentos posteriores
+     *
+     * @param republicId ID da república
+     * @return Saldo atual
+     */
+    LedgerBalance getBalance(UUID republicId);
+
+    /**
+     * Retorna o maior ID de lançamento abaixo do qual não há mais inserções em andamento.
+     * Bloqueia novas inserções por um instante; deve rodar em uma transação curta própria.
+     *
+     * @return Último ID confirmado (0 se não houver lançamentos)
+     */
+    long findCommittedWatermark();
+
+    /**
+     * Grava um novo snapshot para cada república com lançamentos após o seu último snapshot,
+     * cobrindo os lançamentos até o ID informado
+     *
+     * @param watermark Último ID de lançamento coberto
+     * @return Quantidade de snapshots gravados
+     */
+    int snapshotUpTo(long watermark);
+
+    /**
+     * Remove os snapshots substituídos por um mais recente da mesma república
+     *
+     * @return Quantidade de snapshots removidos
+     */
+    int pruneSupersededSnapshots();
+}
@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Port for the income repository
@@ -46,6 +47,13 @@ public interface IncomeRepositoryPort {
      */
     List<Income> findByRepublicIdAndSource(UUID republicId, String source);
 
+    /**
+     * Streams the incomes of a republic in the optional date range (inclusive), ordered by date,
+     * without loading them all in memory. Each income carries only the contributor's id, name and nickname.
+     * Must be consumed inside a transaction; the caller closes the stream.
+     */
+    Stream<Income> streamForExport(UUID republicId, LocalDateTime startDate, LocalDateTime endDate);
+
     /**
      * Deletes an income
      */
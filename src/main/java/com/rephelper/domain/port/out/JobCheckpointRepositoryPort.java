@@ -0,0 +1,32 @@
+package com.rephelper.domain.port.out;
+
+import java.util.Optional;
+
+/**
+ * Porta de saída para os checkpoints de jobs agendados processados em lotes.
+ * Permite que uma execução interrompida seja retomada a partir do último lote confirmado.
+ */
+public interface JobCheckpointRepositoryPort {
+    /**
+     * Busca o último ID processado pelo job, se houver uma execução em andamento
+     *
+     * @param jobName Nome do job
+     * @return Último ID confirmado
+     */
+    Optional<Long> findLastProcessedId(String jobName);
+
+    /**
+     * Grava o último ID processado pelo job
+     *
+     * @param jobName Nome do job
+     * @param lastProcessedId Último ID confirmado
+     */
+    void saveCheckpoint(String jobName, Long lastProcessedId);
+
+    /**
+     * Remove o checkpoint do job ao final de uma execução completa
+     *
+     * @param jobName Nome do job
+     */
+    void clearCheckpoint(String jobName);
+}
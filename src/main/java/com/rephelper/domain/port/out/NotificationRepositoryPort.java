@@ -1,7 +1,11 @@
 package com.rephelper.domain.port.out;
 
+import com.rephelper.application.dto.request.NotificationFilterRequest;
+import com.rephelper.application.dto.response.CursorPagedResponse;
 import com.rephelper.domain.model.Notification;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +19,12 @@ public interface NotificationRepositoryPort {
      */
     Notification save(Notification notification);
 
+    /**
+     * Saves several notifications in a single JDBC batch. Recipients are referenced by ID only,
+     * and the returned notifications carry just the recipient ID
+     */
+    List<Notification> saveAll(List<Notification> notifications);
+
     /**
      * Finds a notification by its ID
      */
@@ -35,6 +45,18 @@ public interface NotificationRepositoryPort {
      */
     List<Notification> findUnreadByRecipientId(UUID recipientId);
 
+    /**
+     * Finds up to {@code limit} notifications of a recipient created at or after {@code since}, oldest first
+     * (ordered by creation time, then ID). The returned notifications carry just the recipient ID
+     */
+    List<Notification> findByRecipientIdCreatedSince(UUID recipientId, LocalDateTime since, int limit);
+
+    /**
+     * Finds one page of a recipient's notifications, newest first, using keyset (cursor) pagination.
+     * The returned notifications carry just the recipient ID
+     */
+    CursorPagedResponse<Notification> findInbox(UUID recipientId, NotificationFilterRequest filter);
+
     /**
      * Counts unread notifications by recipient ID
      */
@@ -46,10 +68,19 @@ public interface NotificationRepositoryPort {
     List<Notification> findByTypeAndRecipientId(Notification.NotificationType type, UUID recipientId);
 
     /**
-     * Marks all notifications as read for a recipient
+     * Marks all notifications as read for a recipient by advancing the recipient's read watermark:
+     * notifications created up to it count as read, regardless of their own read flag.
+     * Holds the recipient's read-state lock exclusively until the transaction ends
      */
     void markAllAsReadForRecipient(UUID recipientId);
 
+    /**
+     * Holds a shared read-state lock for each recipient until the transaction ends. Taken before new
+     * notifications are stamped, so a concurrent mark-all-read either commits first (and the new rows are
+     * stamped after its watermark) or waits until they are committed (and its watermark covers them)
+     */
+    void lockReadStateForInsert(Collection<UUID> recipientIds);
+
     /**
      * Deletes a notification
      */
@@ -59,4 +90,11 @@ public interface NotificationRepositoryPort {
      * Deletes notifications older than specified days for a recipient
      */
     void deleteOldNotifications(UUID recipientId, int days);
-}
\ No newline at end of file
+
+    /**
+     * Deletes up to {@code limit} notifications of the given types created before {@code cutoff}
+     *
+     * @return the recipient ID of each deleted notification
+     */
+    List<UUID> purgeExpired(Collection<Notification.NotificationType> types, LocalDateTime cutoff, int limit);
+}
@@ -0,0 +1,36 @@
+package com.rephelper.domain.port.out;
+
+import java.util.List;
+
+import com.rephelper.domain.model.PushMessage;
+
+/**
+ * Porta de saída para o serviço de envio push (FCM em produção, stub local em testes)
+ */
+public interface PushGatewayPort {
+
+    /**
+     * Quantidade máxima de tokens por chamada (limite do multicast do FCM)
+     */
+    int MAX_TOKENS_PER_CALL = 500;
+
+    /**
+     * Resultado do envio para um token
+     */
+    enum Outcome {
+        SENT,
+        // Token não registrado ou de outro projeto: deve ser removido
+        INVALID_TOKEN,
+        // Mensagem recusada pelo serviço (ex.: payload inválido): falha definitiva do envio, o token é mantido
+        REJECTED,
+        // Falha transitória: o envio pode ser repetido
+        RETRY
+    }
+
+    /**
+     * Envia a mesma mensagem para até {@link #MAX_TOKENS_PER_CALL} tokens em uma única chamada
+     *
+     * @return Resultado de cada token, na mesma ordem
+     */
+    List<Outcome> send(PushMessage message, List<String> tokens);
+}
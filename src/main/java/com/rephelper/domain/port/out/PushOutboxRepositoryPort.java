@@ -0,0 +1,48 @@
+package com.rephelper.domain.port.out;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import com.rephelper.domain.model.Notification;
+import com.rephelper.domain.model.PushOutboxEntry;
+
+/**
+ * Porta de saída para o outbox de envio push.
+ * As entradas são gravadas na mesma transação das notificações e drenadas por um worker.
+ */
+public interface PushOutboxRepositoryPort {
+    /**
+     * Enfileira o envio push das notificações já gravadas, na transação corrente.
+     * Destinatários sem dispositivo registrado são ignorados
+     *
+     * @param notifications Notificações gravadas (com ID)
+     */
+    void enqueue(List<Notification> notifications);
+
+    /**
+     * Reserva até {@code limit} entradas pendentes pelo tempo da reserva; ao fim dela,
+     * as entradas não concluídas voltam a ficar disponíveis
+     *
+     * @param limit Tamanho máximo do lote
+     * @param lease Duração da reserva
+     * @return Entradas reservadas, com o conteúdo da notificação
+     */
+    List<PushOutboxEntry> claimDue(int limit, Duration lease);
+
+    /**
+     * Marca as entradas como enviadas
+     */
+    void markSent(Collection<Long> ids);
+
+    /**
+     * Agenda uma nova tentativa para as entradas
+     */
+    void reschedule(Collection<Long> ids, LocalDateTime nextAttemptAt, String error);
+
+    /**
+     * Marca as entradas como falhas definitivas
+     */
+    void markFailed(Collection<Long> ids, String error);
+}
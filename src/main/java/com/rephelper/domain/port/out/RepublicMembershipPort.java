@@ -0,0 +1,19 @@
+package com.rephelper.domain.port.out;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.rephelper.domain.model.RepublicMembership;
+
+/**
+ * Porta de saída para consultar o vínculo de um usuário com a república.
+ */
+public interface RepublicMembershipPort {
+    /**
+     * Busca o vínculo atual do usuário com a república
+     *
+     * @param userId ID do usuário
+     * @return Vínculo do usuário, ou vazio se o usuário não existir
+     */
+    Optional<RepublicMembership> findByUserId(UUID userId);
+}
@@ -0,0 +1,21 @@
+package com.rephelper.domain.port.out;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Porta de saída para o registro de lembretes de tarefas já enviados.
+ * Garante no máximo um lembrete por tarefa, tipo de lembrete e prazo.
+ */
+public interface TaskReminderRepositoryPort {
+    /**
+     * Registra os lembretes das tarefas informadas e retorna as que ainda não haviam
+     * recebido esse tipo de lembrete para o prazo atual
+     *
+     * @param kind Tipo de lembrete (ex.: due-soon, overdue)
+     * @param dueDates Prazo atual de cada tarefa, por ID
+     * @return IDs das tarefas cujo lembrete deve ser enviado
+     */
+    Set<Long> claimReminders(String kind, Map<Long, LocalDateTime> dueDates);
+}
@@ -1,5 +1,7 @@
 package com.rephelper.domain.port.out;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -8,6 +10,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.rephelper.application.dto.request.TaskFilterRequest;
+import com.rephelper.application.dto.response.CursorPagedResponse;
 import com.rephelper.domain.model.Task;
 
 /**
@@ -89,6 +92,45 @@ public interface TaskRepositoryPort {
      * @return Página de tarefas
      */
     Page<Task> findAssignedWithFilters(UUID userId, TaskFilterRequest filter, Pageable pageable);
+
+    /**
+     * Busca textual nas tarefas de uma república, ordenada por relevância
+     *
+     * @param republicId ID da república
+     * @param query Termos de busca
+     * @param pageable Informações de paginação
+     * @return Página de tarefas ordenada por relevância
+     */
+    Page<Task> searchByRepublic(UUID republicId, String query, Pageable pageable);
+
+    /**
+     * Busca todas as tarefas de uma república com vencimento na janela informada, sem paginação
+     *
+     * @param republicId ID da república
+     * @param from Início da janela (inclusivo)
+     * @param to Fim da janela (exclusivo)
+     * @return Tarefas ordenadas por data de vencimento
+     */
+    List<Task> findByRepublicIdAndDueDateBetween(UUID republicId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Busca tarefas com filtros usando paginação por cursor (keyset).
+     * Não executa consulta de contagem: o custo de qualquer página é o mesmo da primeira.
+     *
+     * @param republicId ID da república
+     * @param filter Filtros a serem aplicados (cursor, size, sortBy e sortDirection)
+     * @return Página de tarefas com o cursor da próxima página
+     */
+    CursorPagedResponse<Task> findWithFiltersByCursor(UUID republicId, TaskFilterRequest filter);
+
+    /**
+     * Busca tarefas atribuídas a um usuário com filtros usando paginação por cursor (keyset)
+     *
+     * @param userId ID do usuário
+     * @param filter Filtros a serem aplicados (cursor, size, sortBy e sortDirection)
+     * @return Página de tarefas com o cursor da próxima página
+     */
+    CursorPagedResponse<Task> findAssignedWithFiltersByCursor(UUID userId, TaskFilterRequest filter);
     
     /**
      * Busca tarefas pendentes ou em progresso com prazo de vencimento nas próximas 24 horas
@@ -112,18 +154,36 @@ public interface TaskRepositoryPort {
     List<Task> findTasksOverdueMoreThanOneDay();
     
     /**
-     * Busca tarefas recorrentes vencidas que não foram concluídas
-     * 
-     * @return Lista de tarefas recorrentes vencidas
+     * Busca as tarefas com os IDs informados
+     *
+     * @param ids IDs das tarefas
+     * @return Tarefas encontradas (IDs inexistentes são ignorados)
+     */
+    List<Task> findAllByIds(Collection<Long> ids);
+
+    /**
+     * Salva várias tarefas de uma vez, usando inserções em lote (JDBC batch)
+     *
+     * @param tasks Tarefas a serem salvas
+     * @return Tarefas salvas, na mesma ordem
+     */
+    List<Task> saveAll(List<Task> tasks);
+
+    /**
+     * Marca as tarefas informadas como atrasadas (OVERDUE) em uma única operação
+     *
+     * @param taskIds IDs das tarefas
+     * @return Quantidade de tarefas atualizadas
      */
-    List<Task> findOverdueRecurringTasks();
+    int markAsOverdue(Collection<Long> taskIds);
     
     /**
-     * Busca tarefas recorrentes concluídas
-     * 
-     * @return Lista de tarefas recorrentes concluídas
+     * Marca como OVERDUE, em um único UPDATE, um lote de tarefas pendentes ou em progresso já vencidas
+     *
+     * @param limit Tamanho máximo do lote
+     * @return IDs das tarefas que passaram para OVERDUE
      */
-    List<Task> findCompletedRecurringTasks();
+    List<Long> transitionOverdueTasks(int limit);
     
     /**
      * Verifica se existe alguma tarefa com o ID pai especificado
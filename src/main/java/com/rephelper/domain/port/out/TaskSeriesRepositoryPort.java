@@ -0,0 +1,48 @@
+package com.rephelper.domain.port.out;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.rephelper.domain.model.TaskSeries;
+
+/**
+ * Porta de saída para operações de repositório relacionadas a séries de tarefas recorrentes.
+ */
+public interface TaskSeriesRepositoryPort {
+    /**
+     * Salva ou atualiza uma série
+     */
+    TaskSeries save(TaskSeries series);
+
+    /**
+     * Salva ou atualiza várias séries de uma vez
+     */
+    List<TaskSeries> saveAll(List<TaskSeries> series);
+
+    /**
+     * Busca a série cuja instância atual é a tarefa informada
+     *
+     * @param headTaskId ID da tarefa cabeça da série
+     * @return Série, se a tarefa for a instância atual de alguma
+     */
+    Optional<TaskSeries> findByHeadTaskId(Long headTaskId);
+
+    /**
+     * Busca um lote de séries ativas cuja instância atual já venceu
+     *
+     * @param afterId Último ID de série já processado (exclusivo); use 0 para começar do início
+     * @param upToId Maior ID de série a considerar (inclusivo); use Long.MAX_VALUE para ir até o fim
+     * @param limit Tamanho máximo do lote
+     * @return Lote de séries ordenado por ID
+     */
+    List<TaskSeries> findDueSeries(Long afterId, Long upToId, int limit);
+
+    /**
+     * Busca as séries ativas de uma república
+     *
+     * @param republicId ID da república
+     * @return Séries ativas
+     */
+    List<TaskSeries> findActiveByRepublicId(UUID republicId);
+}
@@ -0,0 +1,48 @@
+package com.rephelper.domain.port.out;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Porta de saída para os contadores de notificações não lidas por usuário.
+ * Os contadores são mantidos incrementalmente; a contagem no banco só é feita quando o
+ * contador do usuário não está carregado. Alterações feitas dentro de uma transação
+ * só são aplicadas após o commit.
+ */
+public interface UnreadNotificationCounterPort {
+    /**
+     * Retorna a quantidade de notificações não lidas do usuário
+     *
+     * @param recipientId ID do usuário
+     * @return Quantidade de notificações não lidas
+     */
+    int countUnread(UUID recipientId);
+
+    /**
+     * Registra uma nova notificação não lida para cada destinatário
+     *
+     * @param recipientIds IDs dos destinatários (um incremento por ocorrência)
+     */
+    void increment(Collection<UUID> recipientIds);
+
+    /**
+     * Registra que uma notificação não lida do usuário foi lida ou excluída
+     *
+     * @param recipientId ID do usuário
+     */
+    void decrement(UUID recipientId);
+
+    /**
+     * Zera o contador do usuário (todas as notificações marcadas como lidas)
+     *
+     * @param recipientId ID do usuário
+     */
+    void reset(UUID recipientId);
+
+    /**
+     * Descarta o contador do usuário, forçando nova contagem na próxima leitura
+     *
+     * @param recipientId ID do usuário
+     */
+    void invalidate(UUID recipientId);
+}
@@ -1,7 +1,9 @@
 package com.rephelper.domain.port.out;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import com.rephelper.domain.model.User;
@@ -21,6 +23,16 @@ public interface UserRepositoryPort {
      */
     Optional<User> findById(UUID id);
 
+    /**
+     * Retorna, dentre os IDs informados, os que pertencem a usuários existentes
+     */
+    Set<UUID> findExistingIds(Collection<UUID> ids);
+
+    /**
+     * Busca a versão atual do vínculo do usuário com a república, sem carregar o usuário
+     */
+    Optional<Long> findMembershipVersionById(UUID id);
+
     /**
      * Busca um usuário pelo email
      */
@@ -5,10 +5,12 @@ import com.rephelper.domain.exception.ResourceNotFoundException;
 import com.rephelper.domain.exception.ValidationException;
 import com.rephelper.domain.model.BudgetPlan;
 import com.rephelper.domain.model.Republic;
+import com.rephelper.domain.model.RepublicMembership;
 import com.rephelper.domain.model.User;
 import com.rephelper.domain.port.in.BudgetPlanServicePort;
 import com.rephelper.domain.port.out.BudgetPlanRepositoryPort;
 import com.rephelper.domain.port.out.RepublicRepositoryPort;
+import com.rephelper.domain.port.out.RepublicMembershipPort;
 import com.rephelper.domain.port.out.UserRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -28,6 +30,7 @@ public class BudgetPlanServiceImpl implements BudgetPlanServicePort {
     private final BudgetPlanRepositoryPort budgetPlanRepository;
     private final RepublicRepositoryPort republicRepository;
     private final UserRepositoryPort userRepository;
+    private final RepublicMembershipPort membershipPort;
 
     @Override
     public BudgetPlan createOrUpdateBudgetPlan(UUID republicId, Integer year, Integer month,
@@ -148,13 +151,11 @@ public class BudgetPlanServiceImpl implements BudgetPlanServicePort {
         BudgetPlan budgetPlan = getBudgetPlanById(id);
 
         // Validate user
-        User deleter = userRepository.findById(deleterId)
+        RepublicMembership membership = membershipPort.findByUserId(deleterId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + deleterId));
 
         // Check if user is admin of the republic
-        boolean isRepublicAdmin = deleter.getCurrentRepublic() != null &&
-                deleter.getCurrentRepublic().getId().equals(budgetPlan.getRepublic().getId()) &&
-                deleter.isRepublicAdmin();
+        boolean isRepublicAdmin = membership.isAdminOf(budgetPlan.getRepublic().getId());
 
         if (!isRepublicAdmin) {
             throw new ForbiddenException("You do not have permission to delete budget plans");
@@ -1,8 +1,10 @@
 package com.rephelper.domain.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import com.rephelper.domain.model.*;
 import com.rephelper.domain.port.in.NotificationServicePort;
@@ -15,6 +17,7 @@ import com.rephelper.domain.exception.ValidationException;
 import com.rephelper.domain.port.in.EventServicePort;
 import com.rephelper.domain.port.out.EventRepositoryPort;
 import com.rephelper.domain.port.out.RepublicRepositoryPort;
+import com.rephelper.domain.port.out.RepublicMembershipPort;
 import com.rephelper.domain.port.out.UserRepositoryPort;
 
 import lombok.RequiredArgsConstructor;
@@ -28,6 +31,7 @@ public class EventServiceImpl implements EventServicePort {
 
     private final EventRepositoryPort eventRepository;
     private final UserRepositoryPort userRepository;
+    private final RepublicMembershipPort membershipPort;
     private final RepublicRepositoryPort republicRepository;
     private final NotificationServicePort notificationService;
 
@@ -114,14 +118,12 @@ public class EventServiceImpl implements EventServicePort {
         Event event = getEventById(id);
 
         // Validar usuário
-        User user = userRepository.findById(modifierUserId)
+        RepublicMembership membership = membershipPort.findByUserId(modifierUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + modifierUserId));
 
         // Verificar se o usuário é o criador do evento ou um administrador da república
         boolean isCreator = event.getCreator().getId().equals(modifierUserId);
-        boolean isRepublicAdmin = user.getCurrentRepublic() != null &&
-                user.getCurrentRepublic().getId().equals(event.getRepublic().getId()) &&
-                user.isRepublicAdmin();
+        boolean isRepublicAdmin = membership.isAdminOf(event.getRepublic().getId());
 
         if (!isCreator && !isRepublicAdmin) {
             throw new ForbiddenException("You do not have permission to update this event");
@@ -145,14 +147,12 @@ public class EventServiceImpl implements EventServicePort {
         Event event = getEventById(id);
 
         // Validar usuário
-        User user = userRepository.findById(userId)
+        RepublicMembership membership = membershipPort.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
         // Verificar se o usuário é o criador do evento ou um administrador da república
         boolean isCreator = event.getCreator().getId().equals(userId);
-        boolean isRepublicAdmin = user.getCurrentRepublic() != null &&
-                user.getCurrentRepublic().getId().equals(event.getRepublic().getId()) &&
-                user.isRepublicAdmin();
+        boolean isRepublicAdmin = membership.isAdminOf(event.getRepublic().getId());
 
         if (!isCreator && !isRepublicAdmin) {
             throw new ForbiddenException("You do not have permission to delete this event");
@@ -181,6 +181,7 @@ public class EventServiceImpl implements EventServicePort {
         }
 
         // Para cada usuário a ser convidado
+        List<UUID> invitedIds = new ArrayList<>();
         for (UUID userId : userIds) {
             // Verificar se o usuário já foi convidado
             if (event.isUserInvited(userId)) {
@@ -199,18 +200,19 @@ public class EventServiceImpl implements EventServicePort {
 
             // Use the new repository method that handles the entity relationships
             eventRepository.inviteUserToEvent(eventId, userId, Event.InvitationStatus.INVITED);
-            
-            // Enviar notificação de convite
-            notificationService.createNotification(
-                userId,
-                "Convite para evento: " + event.getTitle(),
-                    ( inviter.getNickname() != null  ? inviter.getNickname() : inviter.getName() ) + " convidou você para o evento: " + event.getTitle(),
-                EVENT_INVITATION,
-                "event",
-                eventId.toString()
-            );
+            invitedIds.add(userId);
         }
 
+        // Enviar notificação de convite aos convidados, em um único lote
+        notificationService.createNotifications(
+            invitedIds,
+            "Convite para evento: " + event.getTitle(),
+                ( inviter.getNickname() != null  ? inviter.getNickname() : inviter.getName() ) + " convidou você para o evento: " + event.getTitle(),
+            EVENT_INVITATION,
+            "event",
+            eventId.toString()
+        );
+
         // Salvar evento com novos convites
         return eventRepository.save(event);
     }
@@ -316,18 +318,18 @@ public class EventServiceImpl implements EventServicePort {
      */
     private void notifyRepublicMembersAboutNewEvent(Event event, User creator) {
         if (event.getRepublic() != null && event.getRepublic().getMembers() != null) {
-            event.getRepublic().getMembers().stream()
-                    .filter(member -> !member.getId().equals(creator.getId())) // Excluir o criador
-                    .forEach(member -> {
-                        notificationService.createNotification(
-                            member.getId(),
-                            "Novo evento na república: " + event.getTitle(),
-                                ( creator.getNickname() != null  ? creator.getNickname() : creator.getName() ) + " criou um novo evento: " + event.getTitle(),
-                            Notification.NotificationType.EVENT_CREATED,
-                            "event",
-                            event.getId().toString()
-                        );
-                    });
+            List<UUID> memberIds = event.getRepublic().getMembers().stream()
+                    .map(User::getId)
+                    .filter(memberId -> !memberId.equals(creator.getId())) // Excluir o criador
+                    .collect(Collectors.toList());
+            notificationService.createNotifications(
+                memberIds,
+                "Novo evento na república: " + event.getTitle(),
+                    ( creator.getNickname() != null  ? creator.getNickname() : creator.getName() ) + " criou um novo evento: " + event.getTitle(),
+                Notification.NotificationType.EVENT_CREATED,
+                "event",
+                event.getId().toString()
+            );
         }
     }
 }
\ No newline at end of file
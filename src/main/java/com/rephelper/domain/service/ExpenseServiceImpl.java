@@ -8,28 +8,60 @@ import com.rephelper.domain.port.in.ExpenseServicePort;
 import com.rephelper.domain.port.in.NotificationServicePort;
 import com.rephelper.domain.port.in.RepublicFinancesServicePort;
 import com.rephelper.domain.port.out.ExpenseRepositoryPort;
+import com.rephelper.domain.port.out.FinanceAggregateRepositoryPort;
 import com.rephelper.domain.port.out.RepublicRepositoryPort;
+import com.rephelper.domain.port.out.RepublicMembershipPort;
 import com.rephelper.domain.port.out.UserRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Slf4j
 public class ExpenseServiceImpl implements ExpenseServicePort {
 
+    // Limites das colunas de expenses (NUMERIC(10, 2) e VARCHAR(255))
+    private static final BigDecimal MAX_IMPORT_AMOUNT = new BigDecimal("99999999.99");
+    private static final int MAX_IMPORT_TEXT_LENGTH = 255;
+    private static final DateTimeFormatter IMPORT_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("dd/MM/uuuu").withResolverStyle(ResolverStyle.STRICT);
+
     private final ExpenseRepositoryPort expenseRepository;
     private final UserRepositoryPort userRepository;
+    private final RepublicMembershipPort membershipPort;
     private final RepublicRepositoryPort republicRepository;
     private final RepublicFinancesServicePort republicFinancesService;
     private final NotificationServicePort notificationService;
+    private final FinanceAggregateRepositoryPort financeAggregateRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${rephelper.finance.import.chunk-size:500}")
+    private int importChunkSize;
+
+    @Value("${rephelper.finance.import.max-rows:20000}")
+    private int importMaxRows;
 
     @Override
     public Expense createExpense(Expense expense, UUID creatorUserId) {
@@ -64,19 +96,80 @@ public class ExpenseServiceImpl implements ExpenseServicePort {
         Expense savedExpense = expenseRepository.save(expense);
 
         // Notify republic admins about the new expense
-        List<User> republicMembers = userRepository.findByCurrentRepublicId(republic.getId());
-        for (User member : republicMembers) {
-            if (member.isRepublicAdmin() && !member.getId().equals(creatorUserId)) {
-                notificationService.notifyExpenseCreated(
-                        member.getId(),
-                        savedExpense.getId(),
-                        savedExpense.getDescription(),
-                        creatorUserId
-                );
+        List<UUID> adminIds = userRepository.findByCurrentRepublicId(republic.getId()).stream()
+                .filter(member -> member.isRepublicAdmin() && !member.getId().equals(creatorUserId))
+                .map(User::getId)
+                .collect(Collectors.toList());
+        notificationService.notifyExpenseCreated(
+                adminIds,
+                savedExpense.getId(),
+                savedExpense.getDescription(),
+                creatorUserId
+        );
+
+        return savedExpense;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ExpenseImportResult importExpenses(UUID republicId, Iterator<ExpenseImportRow> rows, UUID importerId) {
+        // Validar usuário e república uma única vez para o arquivo inteiro
+        User importer = transactionTemplate.execute(status -> userRepository.findById(importerId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + importerId)));
+
+        if (importer.getCurrentRepublic() == null || !importer.getCurrentRepublic().getId().equals(republicId)) {
+            throw new ForbiddenException("You can only import expenses for your own republic");
+        }
+
+        Republic republic = transactionTemplate.execute(status -> republicRepository.findById(republicId)
+                .orElseThrow(() -> new ResourceNotFoundException("Republic not found with id: " + republicId)));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ExpenseImportResult.RowError> errors = new ArrayList<>();
+        List<Expense> chunk = new ArrayList<>(importChunkSize);
+        List<Long> chunkLines = new ArrayList<>(importChunkSize);
+        int totalRows = 0;
+        int importedRows = 0;
+
+        // As linhas são lidas conforme o arquivo avança; só o bloco atual fica em memória
+        while (rows.hasNext()) {
+            ExpenseImportRow row = rows.next();
+            if (totalRows == importMaxRows) {
+                errors.add(new ExpenseImportResult.RowError(row.getLineNumber(),
+                        "Row limit of " + importMaxRows + " reached; this and the following rows were not imported"));
+                break;
+            }
+            totalRows++;
+
+            try {
+                chunk.add(toImportedExpense(row, republic, importer, now));
+                chunkLines.add(row.getLineNumber());
+            } catch (ValidationException e) {
+                errors.add(new ExpenseImportResult.RowError(row.getLineNumber(), e.getMessage()));
+                continue;
+            }
+
+            if (chunk.size() == importChunkSize) {
+                importedRows += saveImportChunk(chunk, chunkLines, errors);
+                chunk.clear();
+                chunkLines.clear();
             }
         }
 
-        return savedExpense;
+        if (!chunk.isEmpty()) {
+            importedRows += saveImportChunk(chunk, chunkLines, errors);
+        }
+
+        // Uma única notificação de resumo para os administradores, em vez de uma por despesa
+        if (importedRows > 0) {
+            notifyExpensesImported(republicId, importer, importedRows);
+        }
+
+        errors.sort(Comparator.comparingLong(ExpenseImportResult.RowError::getLineNumber));
+        log.info("Importação de despesas na república {}: {} linhas lidas, {} gravadas, {} recusadas",
+                republicId, totalRows, importedRows, errors.size());
+
+        return new ExpenseImportResult(totalRows, importedRows, errors);
     }
 
     @Override
@@ -87,14 +180,12 @@ public class ExpenseServiceImpl implements ExpenseServicePort {
         Expense expense = getExpenseById(id);
 
         // Validar usuário
-        User modifier = userRepository.findById(modifierId)
+        RepublicMembership membership = membershipPort.findByUserId(modifierId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + modifierId));
 
         // Verificar se o usuário é o criador ou administrador
         boolean isCreator = expense.getCreator().getId().equals(modifierId);
-        boolean isRepublicAdmin = modifier.getCurrentRepublic() != null &&
-                modifier.getCurrentRepublic().getId().equals(expense.getRepublic().getId()) &&
-                modifier.isRepublicAdmin();
+        boolean isRepublicAdmin = membership.isAdminOf(expense.getRepublic().getId());
 
         if (!isCreator && !isRepublicAdmin) {
             throw new ForbiddenException("You do not have permission to update this expense");
@@ -178,19 +269,51 @@ public class ExpenseServiceImpl implements ExpenseServicePort {
         return expenseRepository.findByCreatorId(creatorId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<FinanceTotal<Expense.ExpenseStatus>> getExpenseTotalsByStatus(UUID republicId) {
+        // Verificar se a república existe
+        if (!republicRepository.findById(republicId).isPresent()) {
+            throw new ResourceNotFoundException("Republic not found with id: " + republicId);
+        }
+
+        return expenseRepository.sumByStatus(republicId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FinanceTotal<User>> getExpenseTotalsByCreator(UUID republicId, Expense.ExpenseStatus status,
+                                                              LocalDate startDate, LocalDate endDate) {
+        validateTotalsRequest(republicId, startDate, endDate);
+        return expenseRepository.sumByCreator(republicId, status, startDate, endDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportExpenses(UUID republicId, Expense.ExpenseStatus status, LocalDate startDate, LocalDate endDate,
+                               Consumer<Expense> consumer) {
+        // Validar intervalo de datas
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new ValidationException("Start date cannot be after end date");
+        }
+
+        // Percorrer o cursor sem acumular as despesas em memória
+        try (Stream<Expense> expenses = expenseRepository.streamForExport(republicId, status, startDate, endDate)) {
+            expenses.forEach(consumer);
+        }
+    }
+
     @Override
     public Expense approveExpense(Long id, UUID approverId) {
         // Obter despesa
         Expense expense = getExpenseById(id);
 
         // Validar usuário
-        User approver = userRepository.findById(approverId)
+        RepublicMembership membership = membershipPort.findByUserId(approverId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + approverId));
 
         // Verificar se o usuário é administrador da república
-        boolean isRepublicAdmin = approver.getCurrentRepublic() != null &&
-                approver.getCurrentRepublic().getId().equals(expense.getRepublic().getId()) &&
-                approver.isRepublicAdmin();
+        boolean isRepublicAdmin = membership.isAdminOf(expense.getRepublic().getId());
 
         if (!isRepublicAdmin) {
             throw new ForbiddenException("You do not have permission to approve expenses");
@@ -220,13 +343,11 @@ public class ExpenseServiceImpl implements ExpenseServicePort {
         Expense expense = getExpenseById(id);
 
         // Validar usuário
-        User rejecter = userRepository.findById(rejecterId)
+        RepublicMembership membership = membershipPort.findByUserId(rejecterId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + rejecterId));
 
         // Verificar se o usuário é administrador da república
-        boolean isRepublicAdmin = rejecter.getCurrentRepublic() != null &&
-                rejecter.getCurrentRepublic().getId().equals(expense.getRepublic().getId()) &&
-                rejecter.isRepublicAdmin();
+        boolean isRepublicAdmin = membership.isAdminOf(expense.getRepublic().getId());
 
         if (!isRepublicAdmin) {
             throw new ForbiddenException("You do not have permission to reject expenses");
@@ -256,28 +377,28 @@ public class ExpenseServiceImpl implements ExpenseServicePort {
         Expense expense = getExpenseById(id);
 
         // Validar usuário
-        User reimburser = userRepository.findById(reimburserId)
+        RepublicMembership membership = membershipPort.findByUserId(reimburserId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + reimburserId));
 
         // Verificar se o usuário é administrador da república
-        boolean isRepublicAdmin = reimburser.getCurrentRepublic() != null &&
-                reimburser.getCurrentRepublic().getId().equals(expense.getRepublic().getId()) &&
-                reimburser.isRepublicAdmin();
+        boolean isRepublicAdmin = membership.isAdminOf(expense.getRepublic().getId());
 
         if (!isRepublicAdmin) {
             throw new ForbiddenException("You do not have permission to mark expenses as reimbursed");
         }
 
-        // Verificar se a república tem saldo suficiente
-        if (!republicFinancesService.hasEnoughBalance(expense.getRepublic().getId(), expense.getAmount())) {
-            throw new ValidationException("Republic does not have enough balance to reimburse this expense");
-        }
-
         // Marcar como reembolsada
         expense.reimburse();
 
-        // Atualizar finanças da república
-        republicFinancesService.updateBalance(expense.getRepublic().getId(), expense.getAmount().negate());
+        // Debitar do saldo da república, somente se houver saldo suficiente (verificação e débito atômicos)
+        if (!republicFinancesService.debitIfCovered(expense.getRepublic().getId(), expense.getAmount(),
+                FinanceLedgerEntry.Kind.REIMBURSEMENT, "expense", expense.getId().toString())) {
+            throw new ValidationException("Republic does not have enough balance to reimburse this expense");
+        }
+
+        // Somar ao total mensal da categoria
+        financeAggregateRepository.add(expense.getRepublic().getId(), YearMonth.from(expense.getExpenseDate()),
+                expense.getCategory(), FinanceMonthlyAggregate.Kind.EXPENSE, expense.getAmount(), 1);
 
         Expense reimbursedExpense = expenseRepository.save(expense);
 
@@ -296,20 +417,19 @@ public class ExpenseServiceImpl implements ExpenseServicePort {
         // Notify all republic members about the significant expense
         boolean isSignificantExpense = expense.getAmount().compareTo(new BigDecimal("100")) > 0;
         if (isSignificantExpense) {
-            List<User> republicMembers = userRepository.findByCurrentRepublicId(expense.getRepublic().getId());
-            for (User member : republicMembers) {
-                if (!member.getId().equals(reimburser.getId()) &&
-                        (expense.getCreator() == null || !member.getId().equals(expense.getCreator().getId()))) {
-                    notificationService.createNotification(
-                            member.getId(),
-                            "Despesa Significativa Reembolsada",
-                            "Uma despesa de " + expense.getAmount() + " para '" + expense.getDescription() + "' foi reembolsada",
-                            Notification.NotificationType.EXPENSE_REIMBURSED,
-                            "expense",
-                            expense.getId().toString()
-                    );
-                }
-            }
+            List<UUID> memberIds = userRepository.findByCurrentRepublicId(expense.getRepublic().getId()).stream()
+                    .map(User::getId)
+                    .filter(memberId -> !memberId.equals(reimburserId) &&
+                            (expense.getCreator() == null || !memberId.equals(expense.getCreator().getId())))
+                    .collect(Collectors.toList());
+            notificationService.createNotifications(
+                    memberIds,
+                    "Despesa Significativa Reembolsada",
+                    "Uma despesa de " + expense.getAmount() + " para '" + expense.getDescription() + "' foi reembolsada",
+                    Notification.NotificationType.EXPENSE_REIMBURSED,
+                    "expense",
+                    expense.getId().toString()
+            );
         }
 
         return reimbursedExpense;
@@ -321,14 +441,12 @@ public class ExpenseServiceImpl implements ExpenseServicePort {
         Expense expense = getExpenseById(id);
 
         // Validar usuário
-        User modifier = userRepository.findById(modifierId)
+        RepublicMembership membership = membershipPort.findByUserId(modifierId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + modifierId));
 
         // Verificar se o usuário é o criador ou administrador
         boolean isCreator = expense.getCreator().getId().equals(modifierId);
-        boolean isRepublicAdmin = modifier.getCurrentRepublic() != null &&
-                modifier.getCurrentRepublic().getId().equals(expense.getRepublic().getId()) &&
-                modifier.isRepublicAdmin();
+        boolean isRepublicAdmin = membership.isAdminOf(expense.getRepublic().getId());
 
         if (!isCreator && !isRepublicAdmin) {
             throw new ForbiddenException("You do not have permission to reset this expense");
@@ -346,20 +464,19 @@ public class ExpenseServiceImpl implements ExpenseServicePort {
         Expense expense = getExpenseById(id);
 
         // Validar usuário
-        User deleter = userRepository.findById(deleterId)
+        RepublicMembership membership = membershipPort.findByUserId(deleterId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + deleterId));
 
         // Verificar se o usuário é o criador ou administrador
         boolean isCreator = expense.getCreator().getId().equals(deleterId);
-        boolean isRepublicAdmin = deleter.getCurrentRepublic() != null &&
-                deleter.getCurrentRepublic().getId().equals(expense.getRepublic().getId()) &&
-                deleter.isRepublicAdmin();
+        boolean isRepublicAdmin = membership.isAdminOf(expense.getRepublic().getId());
 
         if (!isCreator && !isRepublicAdmin) {
             throw new ForbiddenException("You do not have permission to delete this expense");
         }
 
-        // Somente despesas pendentes ou rejeitadas podem ser excluídas
+        // Somente despesas pendentes ou rejeitadas podem ser excluídas; como as reembolsadas
+        // ficam de fora, a exclusão nunca altera os totais mensais
         if (expense.getStatus() != Expense.ExpenseStatus.PENDING &&
                 expense.getStatus() != Expense.ExpenseStatus.REJECTED) {
             throw new ValidationException("Only pending or rejected expenses can be deleted");
@@ -368,4 +485,153 @@ public class ExpenseServiceImpl implements ExpenseServicePort {
         // Excluir despesa
         expenseRepository.delete(expense);
     }
-}
\ No newline at end of file
+
+    /**
+     * Valida a república e o intervalo de datas (obrigatório) de uma consulta de totais
+     */
+    private void validateTotalsRequest(UUID republicId, LocalDate startDate, LocalDate endDate) {
+        // Verificar se a república existe
+        if (!republicRepository.findById(republicId).isPresent()) {
+            throw new ResourceNotFoundException("Republic not found with id: " + republicId);
+        }
+
+        // Validar intervalo de datas
+        if (startDate == null || endDate == null) {
+            throw new ValidationException("Start date and end date are required");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new ValidationException("Start date cannot be after end date");
+        }
+    }
+
+    /**
+     * Converte e valida uma linha da importação; a despesa entra como pendente
+     *
+     * @throws ValidationException com o motivo da recusa da linha
+     */
+    private Expense toImportedExpense(ExpenseImportRow row, Republic republic, User creator, LocalDateTime now) {
+        String description = trimToNull(row.getDescription());
+        if (description == null) {
+            throw new ValidationException("Description is required");
+        }
+        requireMaxLength("Description", description);
+
+        String category = trimToNull(row.getCategory());
+        requireMaxLength("Category", category);
+
+        String receiptUrl = trimToNull(row.getReceiptUrl());
+        requireMaxLength("Receipt URL", receiptUrl);
+
+        return Expense.builder()
+                .republic(republic)
+                .creator(creator)
+                .description(description)
+                .amount(parseImportAmount(row.getAmount()))
+                .expenseDate(parseImportDate(row.getExpenseDate()))
+                .category(category)
+                .receiptUrl(receiptUrl)
+                .status(Expense.ExpenseStatus.PENDING)
+                .createdAt(now)
+                .build();
+    }
+
+    /**
+     * Aceita "1234.56", "1234,56" e "1.234,56", com ou sem "R$"
+     */
+    static BigDecimal parseImportAmount(String value) {
+        String text = trimToNull(value);
+        if (text == null) {
+            throw new ValidationException("Amount is required");
+        }
+
+        String normalized = text.replace("R$", "").replace(" ", "");
+        if (normalized.indexOf(',') >= 0) {
+            normalized = normalized.replace(".", "").replace(',', '.');
+        }
+
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(normalized);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Invalid amount: " + text);
+        }
+
+        if (amount.signum() <= 0) {
+            throw new ValidationException("Amount must be positive");
+        }
+        if (amount.stripTrailingZeros().scale() > 2) {
+            throw new ValidationException("Amount cannot have more than 2 decimal places");
+        }
+        if (amount.compareTo(MAX_IMPORT_AMOUNT) > 0) {
+            throw new ValidationException("Amount cannot exceed " + MAX_IMPORT_AMOUNT);
+        }
+        return amount.setScale(2);
+    }
+
+    /**
+     * Aceita datas ISO (yyyy-MM-dd) e no formato das planilhas brasileiras (dd/MM/yyyy)
+     */
+    static LocalDate parseImportDate(String value) {
+        String text = trimToNull(value);
+        if (text == null) {
+            throw new ValidationException("Expense date is required");
+        }
+
+        try {
+            return text.indexOf('/') >= 0 ? LocalDate.parse(text, IMPORT_DATE_FORMAT) : LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new ValidationException("Invalid expense date: " + text + " (expected yyyy-MM-dd or dd/MM/yyyy)");
+        }
+    }
+
+    private static void requireMaxLength(String field, String value) {
+        if (value != null && value.length() > MAX_IMPORT_TEXT_LENGTH) {
+            throw new ValidationException(field + " cannot exceed " + MAX_IMPORT_TEXT_LENGTH + " characters");
+        }
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    /**
+     * Grava um bloco da importação em sua própria transação (inserções em lote pelo Hibernate)
+     *
+     * @return Quantidade de despesas gravadas; se o bloco falhar, as linhas são reportadas como erro
+     */
+    private int saveImportChunk(List<Expense> chunk, List<Long> lines, List<ExpenseImportResult.RowError> errors) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> expenseRepository.saveAll(chunk));
+            return chunk.size();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar bloco de {} despesas importadas: {}", chunk.size(), e.getMessage());
+            lines.forEach(line -> errors.add(new ExpenseImportResult.RowError(line, "Row could not be saved")));
+            return 0;
+        }
+    }
+
+    /**
+     * Notifica os administradores da república (exceto quem importou) com o total importado
+     */
+    private void notifyExpensesImported(UUID republicId, User importer, int importedRows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<UUID> adminIds = userRepository.findByCurrentRepublicId(republicId).stream()
+                    .filter(member -> member.isRepublicAdmin() && !member.getId().equals(importer.getId()))
+                    .map(User::getId)
+                    .collect(Collectors.toList());
+
+            String importerName = importer.getNickname() != null ? importer.getNickname() : importer.getName();
+            notificationService.createNotifications(
+                    adminIds,
+                    "Despesas Importadas",
+                    importedRows + " despesas pendentes foram importadas por " + importerName,
+                    Notification.NotificationType.EXPENSE_CREATED,
+                    "expense",
+                    null
+            );
+        });
+    }
+}
@@ -0,0 +1,88 @@
+package com.rephelper.domain.service;
+
+import com.rephelper.domain.model.Republic;
+import com.rephelper.domain.port.out.FinanceAggregateRepositoryPort;
+import com.rephelper.domain.port.out.RepublicRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Job de recálculo dos totais mensais de finanças.
+ * Os totais são mantidos incrementalmente pelos serviços de despesas e receitas; este job preenche
+ * a tabela na primeira inicialização e a recalcula periodicamente, corrigindo qualquer divergência.
+ * Cada república é recalculada em sua própria transação.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FinanceAggregateRebuildJob {
+
+    private final FinanceAggregateRepositoryPort financeAggregateRepository;
+    private final RepublicRepositoryPort republicRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${rephelper.finance.aggregates.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    /**
+     * Preenche os totais a partir do histórico se a tabela ainda estiver vazia
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!backfillOnStartup) {
+            return;
+        }
+
+        Boolean empty = transactionTemplate.execute(status -> financeAggregateRepository.isEmpty());
+        if (Boolean.TRUE.equals(empty)) {
+            log.info("Tabela de totais mensais vazia: preenchendo a partir do histórico");
+            rebuildAll();
+        }
+    }
+
+    /**
+     * Recalcula os totais mensais de todas as repúblicas
+     * Executa aos domingos às 04:00
+     */
+    @Scheduled(cron = "${rephelper.finance.aggregates.rebuild-cron:0 0 4 * * SUN}")
+    public void rebuildAll() {
+        log.info("Iniciando recálculo dos totais mensais de finanças");
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        List<UUID> republicIds = republicRepository.findAll().stream()
+                .map(Republic::getId)
+                .collect(Collectors.toList());
+
+        int rows = 0;
+        int failures = 0;
+        for (UUID republicId : republicIds) {
+            try {
+                Integer written = transactionTemplate.execute(status -> financeAggregateRepository.rebuild(republicId));
+                rows += written != null ? written : 0;
+            } catch (RuntimeException e) {
+                // Os totais incrementais da república continuam válidos; nova tentativa na próxima execução
+                failures++;
+                log.warn("Falha ao recalcular os totais mensais da república {}: {}", republicId, e.getMessage());
+            }
+        }
+
+        meterRegistry.counter("rephelper.finance.aggregates.rebuild.failures").increment(failures);
+        long elapsedNanos = sample.stop(meterRegistry.timer("rephelper.finance.aggregates.rebuild.duration"));
+        log.info("Recálculo dos totais mensais concluído: {} repúblicas, {} totais gravados, {} falhas em {} ms",
+                republicIds.size(), rows, failures, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+}
@@ -0,0 +1,52 @@
+package com.rephelper.domain.service;
+
+import com.rephelper.domain.port.out.FinanceLedgerRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job de snapshots do saldo do livro-razão.
+ * O saldo de uma república é o último snapshot mais os lançamentos posteriores; gravar snapshots
+ * periodicamente mantém essa soma curta. O watermark é lido em uma transação própria e curta,
+ * que espera as inserções em andamento, para que nenhum lançamento abaixo dele seja confirmado
+ * depois do snapshot.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FinanceLedgerSnapshotJob {
+
+    private final FinanceLedgerRepositoryPort financeLedgerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Grava os snapshots das repúblicas com lançamentos novos e remove os substituídos
+     * Executa a cada hora, aos 15 minutos
+     */
+    @Scheduled(cron = "${rephelper.finance.ledger.snapshot-cron:0 15 * * * *}")
+    public void snapshotBalances() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Long watermark = transactionTemplate.execute(status -> financeLedgerRepository.findCommittedWatermark());
+        if (watermark == null || watermark == 0) {
+            return;
+        }
+
+        Integer written = transactionTemplate.execute(status -> financeLedgerRepository.snapshotUpTo(watermark));
+        Integer pruned = transactionTemplate.execute(status -> financeLedgerRepository.pruneSupersededSnapshots());
+
+        int snapshots = written != null ? written : 0;
+        meterRegistry.counter("rephelper.finance.ledger.snapshots.written").increment(snapshots);
+        long elapsedNanos = sample.stop(meterRegistry.timer("rephelper.finance.ledger.snapshot.duration"));
+        log.info("Snapshots do livro-razão até o lançamento {}: {} gravados, {} substituídos removidos em {} ms",
+                watermark, snapshots, pruned != null ? pruned : 0, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+}
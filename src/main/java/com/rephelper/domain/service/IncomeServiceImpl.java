@@ -3,15 +3,20 @@ package com.rephelper.domain.service;
 import com.rephelper.domain.exception.ForbiddenException;
 import com.rephelper.domain.exception.ResourceNotFoundException;
 import com.rephelper.domain.exception.ValidationException;
+import com.rephelper.domain.model.FinanceLedgerEntry;
+import com.rephelper.domain.model.FinanceMonthlyAggregate;
 import com.rephelper.domain.model.Income;
 import com.rephelper.domain.model.Notification;
 import com.rephelper.domain.model.Republic;
+import com.rephelper.domain.model.RepublicMembership;
 import com.rephelper.domain.model.User;
 import com.rephelper.domain.port.in.IncomeServicePort;
 import com.rephelper.domain.port.in.NotificationServicePort;
 import com.rephelper.domain.port.in.RepublicFinancesServicePort;
+import com.rephelper.domain.port.out.FinanceAggregateRepositoryPort;
 import com.rephelper.domain.port.out.IncomeRepositoryPort;
 import com.rephelper.domain.port.out.RepublicRepositoryPort;
+import com.rephelper.domain.port.out.RepublicMembershipPort;
 import com.rephelper.domain.port.out.UserRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,8 +24,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -29,9 +39,11 @@ public class IncomeServiceImpl implements IncomeServicePort {
 
     private final IncomeRepositoryPort incomeRepository;
     private final UserRepositoryPort userRepository;
+    private final RepublicMembershipPort membershipPort;
     private final RepublicRepositoryPort republicRepository;
     private final RepublicFinancesServicePort republicFinancesService;
     private final NotificationServicePort notificationService;
+    private final FinanceAggregateRepositoryPort financeAggregateRepository;
 
     @Override
     public Income createIncome(Income income, UUID contributorId) {
@@ -69,8 +81,12 @@ public class IncomeServiceImpl implements IncomeServicePort {
         // Salvar receita
         Income savedIncome = incomeRepository.save(income);
 
-        // Atualizar finanças da república
-        republicFinancesService.updateBalance(republic.getId(), income.getAmount());
+        // Lançar a receita no livro-razão da república
+        republicFinancesService.recordEntry(republic.getId(), income.getAmount(),
+                FinanceLedgerEntry.Kind.INCOME, "income", savedIncome.getId().toString());
+
+        // Somar ao total mensal da fonte
+        addToMonthlyTotal(income, 1);
 
         // Criar notificação para o contribuidor
         notificationService.createNotification(
@@ -85,20 +101,19 @@ public class IncomeServiceImpl implements IncomeServicePort {
         // Notificar administradores da república sobre nova receita (especialmente para valores significativos)
         boolean isSignificantAmount = income.getAmount().compareTo(new BigDecimal("100")) > 0;
         if (isSignificantAmount) {
-            List<User> republicMembers = userRepository.findByCurrentRepublicId(republic.getId());
-            for (User member : republicMembers) {
-                if (member.isRepublicAdmin() && !member.getId().equals(contributorId)) {
-                    notificationService.createNotification(
-                            member.getId(),
-                            "Nova Receita Registrada",
-                            contributor.getNickname() != null ? contributor.getNickname() : contributor.getName()
-                                    + " registrou uma nova receita de R$ " + income.getAmount() + " da fonte: " + income.getSource(),
-                            Notification.NotificationType.INCOME_CREATED,
-                            "income",
-                            savedIncome.getId().toString()
-                    );
-                }
-            }
+            List<UUID> adminIds = userRepository.findByCurrentRepublicId(republic.getId()).stream()
+                    .filter(member -> member.isRepublicAdmin() && !member.getId().equals(contributorId))
+                    .map(User::getId)
+                    .collect(Collectors.toList());
+            notificationService.createNotifications(
+                    adminIds,
+                    "Nova Receita Registrada",
+                    contributor.getNickname() != null ? contributor.getNickname() : contributor.getName()
+                            + " registrou uma nova receita de R$ " + income.getAmount() + " da fonte: " + income.getSource(),
+                    Notification.NotificationType.INCOME_CREATED,
+                    "income",
+                    savedIncome.getId().toString()
+            );
         }
 
         return savedIncome;
@@ -110,14 +125,12 @@ public class IncomeServiceImpl implements IncomeServicePort {
         Income income = getIncomeById(id);
 
         // Validar usuário
-        User modifier = userRepository.findById(modifierId)
+        RepublicMembership membership = membershipPort.findByUserId(modifierId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + modifierId));
 
         // Verificar se o usuário é o contribuidor ou administrador
         boolean isContributor = income.getContributor() != null && income.getContributor().getId().equals(modifierId);
-        boolean isRepublicAdmin = modifier.getCurrentRepublic() != null &&
-                modifier.getCurrentRepublic().getId().equals(income.getRepublic().getId()) &&
-                modifier.isRepublicAdmin();
+        boolean isRepublicAdmin = membership.isAdminOf(income.getRepublic().getId());
 
         if (!isContributor && !isRepublicAdmin) {
             throw new ForbiddenException("You do not have permission to update this income");
@@ -127,6 +140,8 @@ public class IncomeServiceImpl implements IncomeServicePort {
         BigDecimal originalAmount = income.getAmount();
         BigDecimal newAmount = amount != null ? amount : originalAmount;
         BigDecimal delta = newAmount.subtract(originalAmount);
+        YearMonth originalMonth = YearMonth.from(income.getIncomeDate());
+        String originalSource = income.getSource();
 
         // Atualizar detalhes da receita
         income.updateDetails(description, amount, incomeDate, source);
@@ -136,7 +151,8 @@ public class IncomeServiceImpl implements IncomeServicePort {
 
         // Se o valor mudou, atualizar finanças da república
         if (delta.compareTo(BigDecimal.ZERO) != 0) {
-            republicFinancesService.updateBalance(income.getRepublic().getId(), delta);
+            republicFinancesService.recordEntry(income.getRepublic().getId(), delta,
+                    FinanceLedgerEntry.Kind.INCOME, "income", income.getId().toString());
 
             // Notificar o contribuidor sobre a atualização da receita (se não for ele quem está atualizando)
             if (income.getContributor() != null && !income.getContributor().getId().equals(modifierId)) {
@@ -152,24 +168,32 @@ public class IncomeServiceImpl implements IncomeServicePort {
 
             // Notificar administradores sobre alterações significativas de valor
             if (delta.abs().compareTo(new BigDecimal("50")) > 0) {
-                List<User> republicMembers = userRepository.findByCurrentRepublicId(income.getRepublic().getId());
-                for (User member : republicMembers) {
-                    if (member.isRepublicAdmin() && !member.getId().equals(modifierId) &&
-                            (income.getContributor() == null || !member.getId().equals(income.getContributor().getId()))) {
-                        notificationService.createNotification(
-                                member.getId(),
-                                "Valor de Receita Modificado",
-                                "O valor da receita '" + income.getDescription() + "' foi modificado de R$ " +
-                                        originalAmount + " para R$ " + newAmount,
-                                Notification.NotificationType.INCOME_CREATED, // Reutilizando este tipo
-                                "income",
-                                income.getId().toString()
-                        );
-                    }
-                }
+                List<UUID> adminIds = userRepository.findByCurrentRepublicId(income.getRepublic().getId()).stream()
+                        .filter(member -> member.isRepublicAdmin() && !member.getId().equals(modifierId) &&
+                                (income.getContributor() == null || !member.getId().equals(income.getContributor().getId())))
+                        .map(User::getId)
+                        .collect(Collectors.toList());
+                notificationService.createNotifications(
+                        adminIds,
+                        "Valor de Receita Modificado",
+                        "O valor da receita '" + income.getDescription() + "' foi modificado de R$ " +
+                                originalAmount + " para R$ " + newAmount,
+                        Notification.NotificationType.INCOME_CREATED, // Reutilizando este tipo
+                        "income",
+                        income.getId().toString()
+                );
             }
         }
 
+        // Mover a receita entre os totais mensais se o valor, o mês ou a fonte mudaram
+        if (delta.compareTo(BigDecimal.ZERO) != 0
+                || !originalMonth.equals(YearMonth.from(income.getIncomeDate()))
+                || !Objects.equals(originalSource, income.getSource())) {
+            financeAggregateRepository.add(income.getRepublic().getId(), originalMonth, originalSource,
+                    FinanceMonthlyAggregate.Kind.INCOME, originalAmount.negate(), -1);
+            addToMonthlyTotal(income, 1);
+        }
+
         return updatedIncome;
     }
 
@@ -229,6 +253,20 @@ public class IncomeServiceImpl implements IncomeServicePort {
         return incomeRepository.findByContributorId(contributorId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportIncomes(UUID republicId, LocalDateTime startDate, LocalDateTime endDate, Consumer<Income> consumer) {
+        // Validate date range
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new ValidationException("Start date cannot be after end date");
+        }
+
+        // Percorrer o cursor sem acumular as receitas em memória
+        try (Stream<Income> incomes = incomeRepository.streamForExport(republicId, startDate, endDate)) {
+            incomes.forEach(consumer);
+        }
+    }
+
     @Override
     public void deleteIncome(Long id, UUID deleterId) {
         // Obter receita
@@ -248,8 +286,12 @@ public class IncomeServiceImpl implements IncomeServicePort {
             throw new ForbiddenException("You do not have permission to delete this income");
         }
 
-        // Atualizar finanças da república (subtrair o valor da receita)
-        republicFinancesService.updateBalance(income.getRepublic().getId(), income.getAmount().negate());
+        // Estornar a receita no livro-razão da república
+        republicFinancesService.recordEntry(income.getRepublic().getId(), income.getAmount().negate(),
+                FinanceLedgerEntry.Kind.INCOME, "income", income.getId().toString());
+
+        // Remover do total mensal da fonte
+        addToMonthlyTotal(income, -1);
 
         // Notificar administradores e contribuidor sobre a exclusão da receita
         String notificationTitle = "Receita Excluída";
@@ -270,24 +312,31 @@ public class IncomeServiceImpl implements IncomeServicePort {
 
         // Notificar administradores para valores significativos
         if (income.getAmount().compareTo(new BigDecimal("100")) > 0) {
-            List<User> republicMembers = userRepository.findByCurrentRepublicId(income.getRepublic().getId());
-            for (User member : republicMembers) {
-                if (member.isRepublicAdmin() && !member.getId().equals(deleterId) &&
-                        (income.getContributor() == null || !member.getId().equals(income.getContributor().getId()))) {
-                    notificationService.createNotification(
-                            member.getId(),
-                            notificationTitle,
-                            notificationMessage,
-                            Notification.NotificationType.INCOME_CREATED, // Reutilizando este tipo
-                            "income",
-                            income.getId().toString()
-                    );
-                }
-            }
+            List<UUID> adminIds = userRepository.findByCurrentRepublicId(income.getRepublic().getId()).stream()
+                    .filter(member -> member.isRepublicAdmin() && !member.getId().equals(deleterId) &&
+                            (income.getContributor() == null || !member.getId().equals(income.getContributor().getId())))
+                    .map(User::getId)
+                    .collect(Collectors.toList());
+            notificationService.createNotifications(
+                    adminIds,
+                    notificationTitle,
+                    notificationMessage,
+                    Notification.NotificationType.INCOME_CREATED, // Reutilizando este tipo
+                    "income",
+                    income.getId().toString()
+            );
         }
 
         // Excluir receita
         incomeRepository.delete(income);
     }
 
-}
\ No newline at end of file
+    /**
+     * Soma (sign = 1) ou remove (sign = -1) a receita do total mensal da sua fonte
+     */
+    private void addToMonthlyTotal(Income income, int sign) {
+        financeAggregateRepository.add(income.getRepublic().getId(), YearMonth.from(income.getIncomeDate()),
+                income.getSource(), FinanceMonthlyAggregate.Kind.INCOME,
+                sign < 0 ? income.getAmount().negate() : income.getAmount(), sign);
+    }
+}
@@ -0,0 +1,174 @@
+package com.rephelper.domain.service;
+
+import com.rephelper.domain.event.NotificationRequestedEvent;
+import com.rephelper.domain.event.NotificationsCreatedEvent;
+import com.rephelper.domain.model.Notification;
+import com.rephelper.domain.model.User;
+import com.rephelper.domain.port.out.NotificationRepositoryPort;
+import com.rephelper.domain.port.out.PushOutboxRepositoryPort;
+import com.rephelper.domain.port.out.UnreadNotificationCounterPort;
+import com.rephelper.domain.port.out.UserRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Grava as notificações solicitadas via {@link NotificationRequestedEvent} depois do commit
+ * da transação de negócio, no executor limitado de notificações, com novas tentativas e métricas.
+ * Assim a operação que originou a notificação libera a conexão assim que suas próprias linhas são gravadas.
+ */
+@Service
+@Slf4j
+public class NotificationDispatcher {
+
+    private final NotificationRepositoryPort notificationRepository;
+    private final UnreadNotificationCounterPort unreadCounter;
+    private final PushOutboxRepositoryPort pushOutboxRepository;
+    private final UserRepositoryPort userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${rephelper.notifications.dispatch.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${rephelper.notifications.dispatch.retry-backoff:200ms}")
+    private Duration retryBackoff;
+
+    @Value("${rephelper.push.enabled:true}")
+    private boolean pushEnabled;
+
+    public NotificationDispatcher(NotificationRepositoryPort notificationRepository,
+                                  UnreadNotificationCounterPort unreadCounter,
+                                  PushOutboxRepositoryPort pushOutboxRepository,
+                                  UserRepositoryPort userRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  @Qualifier("notificationDispatchExecutor") TaskExecutor executor,
+                                  MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.unreadCounter = unreadCounter;
+        this.pushOutboxRepository = pushOutboxRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        // Quando a tarefa roda na thread chamadora (fila cheia), a transação original já foi confirmada
+        // mas ainda está vinculada à thread: é preciso abrir uma nova
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Agenda a gravação da notificação após o commit. Sem transação ativa, agenda imediatamente.
+     * Se a transação for revertida, a notificação é descartada junto com ela.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationRequested(NotificationRequestedEvent event) {
+        meterRegistry.counter("rephelper.notifications.dispatch.submitted").increment();
+        executor.execute(() -> dispatch(event));
+    }
+
+    private void dispatch(NotificationRequestedEvent event) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = deliver(event);
+        sample.stop(meterRegistry.timer("rephelper.notifications.dispatch.duration", "outcome", outcome));
+        meterRegistry.counter("rephelper.notifications.dispatch.completed", "outcome", outcome).increment();
+    }
+
+    /**
+     * Grava a notificação, repetindo com espera exponencial em caso de falha transitória
+     *
+     * @return resultado para as métricas: delivered, dropped ou failed
+     */
+    private String deliver(NotificationRequestedEvent event) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Integer saved = transactionTemplate.execute(status -> persist(event));
+                return saved != null && saved > 0 ? "delivered" : "dropped";
+            } catch (RuntimeException e) {
+                // Inclui o destinatário removido entre a filtragem e a gravação: a nova tentativa filtra de novo
+                if (attempt >= maxAttempts) {
+                    log.error("Falha ao gravar notificação '{}' para {} destinatários após {} tentativas",
+                            event.getTitle(), event.getRecipientIds().size(), attempt, e);
+                    return "failed";
+                }
+
+                meterRegistry.counter("rephelper.notifications.dispatch.retries").increment();
+                log.warn("Tentativa {} de gravar notificação '{}' falhou: {}",
+                        attempt, event.getTitle(), e.getMessage());
+
+                try {
+                    Thread.sleep(retryBackoff.multipliedBy(1L << (attempt - 1)));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return "failed";
+                }
+            }
+        }
+    }
+
+    /**
+     * Grava uma linha por destinatário em um único lote, referenciando os usuários apenas pela chave,
+     * e enfileira o envio push na mesma transação. Destinatários removidos desde a solicitação são
+     * ignorados, para que um único usuário excluído não derrube o lote inteiro.
+     *
+     * @return número de notificações gravadas
+     */
+    private int persist(NotificationRequestedEvent event) {
+        Set<UUID> existing = userRepository.findExistingIds(event.getRecipientIds());
+        List<UUID> recipientIds = event.getRecipientIds().stream()
+                .filter(existing::contains)
+                .collect(Collectors.toList());
+        if (recipientIds.size() < event.getRecipientIds().size()) {
+            log.warn("Notificação '{}': {} destinatários removidos foram ignorados",
+                    event.getTitle(), event.getRecipientIds().size() - recipientIds.size());
+        }
+        if (recipientIds.isEmpty()) {
+            return 0;
+        }
+
+        // created_at é carimbado só depois do bloqueio, para ficar do lado certo da marca d'água de leitura
+        notificationRepository.lockReadStateForInsert(recipientIds);
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Notification> notifications = recipientIds.stream()
+                .map(recipientId -> Notification.builder()
+                        .recipient(User.builder().id(recipientId).build())
+                        .title(event.getTitle())
+                        .message(event.getMessage())
+                        .type(event.getType())
+                        .entityType(event.getEntityType())
+                        .entityId(event.getEntityId())
+                        .read(false)
+                        .createdAt(createdAt)
+                        .build())
+                .collect(Collectors.toList());
+
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        if (pushEnabled) {
+            pushOutboxRepository.enqueue(saved);
+        }
+        unreadCounter.increment(recipientIds);
+        eventPublisher.publishEvent(new NotificationsCreatedEvent(saved));
+        meterRegistry.counter("rephelper.notifications.dispatch.rows").increment(notifications.size());
+        return saved.size();
+    }
+}
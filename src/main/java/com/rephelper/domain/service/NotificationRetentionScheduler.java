@@ -0,0 +1,150 @@
+package com.rephelper.domain.service;
+
+import com.rephelper.domain.model.Notification;
+import com.rephelper.domain.port.out.NotificationRepositoryPort;
+import com.rephelper.domain.port.out.UnreadNotificationCounterPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serviço agendado de retenção global de notificações.
+ * Cada tipo tem seu prazo de retenção (ou o prazo padrão); as notificações vencidas são removidas
+ * em lotes por DELETE, cada lote em sua própria transação, para não manter bloqueios longos
+ * nem inflar o WAL de uma só vez. Os tipos com o mesmo prazo são removidos na mesma consulta.
+ */
+@Service
+@Slf4j
+public class NotificationRetentionScheduler {
+
+    private final NotificationRepositoryPort notificationRepository;
+    private final UnreadNotificationCounterPort unreadCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<Notification.NotificationType, Duration> retentionByType;
+
+    @Value("${rephelper.notifications.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    public NotificationRetentionScheduler(NotificationRepositoryPort notificationRepository,
+                                          UnreadNotificationCounterPort unreadCounter,
+                                          TransactionTemplate transactionTemplate,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${rephelper.notifications.retention.default:90d}") Duration defaultRetention,
+                                          @Value("${rephelper.notifications.retention.per-type:}") String perType) {
+        this.notificationRepository = notificationRepository;
+        this.unreadCounter = unreadCounter;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.retentionByType = parseRetention(defaultRetention, perType);
+    }
+
+    /**
+     * Remove as notificações com prazo de retenção vencido
+     * Executa diariamente às 03:30
+     */
+    @Scheduled(cron = "${rephelper.notifications.retention.cron:0 30 3 * * *}")
+    public void purgeExpiredNotifications() {
+        log.info("Iniciando remoção de notificações com retenção vencida");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        LocalDateTime now = LocalDateTime.now();
+
+        // Agrupa os tipos por prazo: uma sequência de lotes por prazo distinto
+        Map<Duration, List<Notification.NotificationType>> typesByRetention = new TreeMap<>();
+        retentionByType.forEach((type, retention) ->
+                typesByRetention.computeIfAbsent(retention, key -> new ArrayList<>()).add(type));
+
+        int total = 0;
+        for (Map.Entry<Duration, List<Notification.NotificationType>> entry : typesByRetention.entrySet()) {
+            total += purge(entry.getValue(), now.minus(entry.getKey()), entry.getKey());
+        }
+
+        long elapsedNanos = sample.stop(meterRegistry.timer("rephelper.notifications.retention.duration"));
+        log.info("Remoção de notificações concluída: {} notificações removidas em {} ms",
+                total, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    /**
+     * Remove em lotes as notificações dos tipos informados criadas antes do corte
+     *
+     * @return Quantidade de notificações removidas
+     */
+    private int purge(List<Notification.NotificationType> types, LocalDateTime cutoff, Duration retention) {
+        int purged = 0;
+        int chunks = 0;
+
+        while (true) {
+            long chunkStart = System.nanoTime();
+            List<UUID> recipients = transactionTemplate.execute(
+                    status -> notificationRepository.purgeExpired(types, cutoff, chunkSize));
+            if (recipients == null || recipients.isEmpty()) {
+                break;
+            }
+
+            chunks++;
+            purged += recipients.size();
+
+            // Os contadores de não lidas desses usuários podem ter incluído linhas removidas
+            Set<UUID> affected = new HashSet<>(recipients);
+            affected.forEach(unreadCounter::invalidate);
+
+            log.debug("Lote {} da retenção de {}: {} notificações removidas em {} ms",
+                    chunks, retention, recipients.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkStart));
+
+            if (recipients.size() < chunkSize) {
+                break;
+            }
+        }
+
+        meterRegistry.counter("rephelper.notifications.retention.purged", "retention", retention.toString())
+                .increment(purged);
+        if (purged > 0) {
+            log.info("Retenção de {} ({} tipos): {} notificações removidas em {} lotes",
+                    retention, types.size(), purged, chunks);
+        }
+        return purged;
+    }
+
+    /**
+     * Monta o prazo de retenção de cada tipo a partir do padrão e das exceções no formato
+     * {@code TIPO=prazo,TIPO=prazo} (ex.: {@code TASK_DUE_SOON=14d,TASK_OVERDUE=30d})
+     */
+    private static Map<Notification.NotificationType, Duration> parseRetention(Duration defaultRetention, String perType) {
+        Map<Notification.NotificationType, Duration> retention = new EnumMap<>(Notification.NotificationType.class);
+        for (Notification.NotificationType type : Notification.NotificationType.values()) {
+            retention.put(type, defaultRetention);
+        }
+
+        if (perType == null || perType.isBlank()) {
+            return retention;
+        }
+
+        for (String entry : perType.split(",")) {
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Retenção de notificação inválida: " + entry.trim());
+            }
+            Notification.NotificationType type = Notification.NotificationType.valueOf(parts[0].trim());
+            retention.put(type, DurationStyle.detectAndParse(parts[1].trim()));
+        }
+        return retention;
+    }
+}
@@ -1,66 +1,90 @@
 package com.rephelper.domain.service;
 
 import com.rephelper.domain.model.Notification;
-import com.rephelper.domain.model.NotificationType;
 import com.rephelper.domain.model.Task;
 import com.rephelper.domain.model.User;
 import com.rephelper.domain.port.in.NotificationServicePort;
+import com.rephelper.domain.port.out.TaskReminderRepositoryPort;
 import com.rephelper.domain.port.out.TaskRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
- * Serviço responsável por agendar notificações automáticas
+ * Serviço responsável por agendar notificações automáticas.
+ * Cada tarefa recebe no máximo um lembrete de cada tipo por prazo; com o modo resumo ativo,
+ * os lembretes de uma execução são agrupados em uma única notificação por usuário.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationScheduler {
-    
+
+    static final String DUE_SOON_REMINDER = "due-soon";
+    static final String DUE_IN_THREE_DAYS_REMINDER = "due-in-three-days";
+    static final String OVERDUE_REMINDER = "overdue";
+
+    // Quantidade de títulos listados na mensagem de resumo
+    private static final int DIGEST_MAX_TITLES = 5;
+
     private final TaskRepositoryPort taskRepository;
+    private final TaskReminderRepositoryPort taskReminderRepository;
     private final NotificationServicePort notificationService;
-    
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${rephelper.notifications.reminders.digest:true}")
+    private boolean digest;
+
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
-    
+
     /**
      * Verifica e notifica sobre tarefas com prazo próximo
      * Executa todos os dias às 8h da manhã
      */
-    @Scheduled(cron = "0 0 8 * * *")  
+    @Scheduled(cron = "0 0 8 * * *")
     public void sendTaskDueSoonNotifications() {
         log.info("Iniciando verificação de tarefas com prazo próximo");
-        
+
         // Buscar tarefas pendentes ou em progresso com vencimento nas próximas 24h
         List<Task> dueSoonTasks = taskRepository.findTasksDueWithinNextDay();
-        
+
         log.info("Encontradas {} tarefas com prazo em até 24h", dueSoonTasks.size());
-        
-        for (Task task : dueSoonTasks) {
-            // Notificar usuários atribuídos à tarefa
-            for (User user : task.getAssignedUsers()) {
-                String formattedDate = task.getDueDate().format(DATE_FORMAT);
-                String message = "A tarefa '" + task.getTitle() + "' tem prazo de entrega em " + formattedDate + " (menos de 24h)";
-                
-                notificationService.notifyTaskDueSoon(
-                    user.getId(),
-                    task.getId(),
-                    task.getTitle(),
-                    message
-                );
-                
-                log.debug("Notificação enviada para usuário {} sobre tarefa {}", user.getId(), task.getId());
+
+        remind(DUE_SOON_REMINDER, dueSoonTasks, new Reminder() {
+            @Override
+            public void notifyTask(Task task, List<UUID> assigneeIds) {
+                String message = "A tarefa '" + task.getTitle() + "' tem prazo de entrega em "
+                        + task.getDueDate().format(DATE_FORMAT) + " (menos de 24h)";
+                notificationService.notifyTaskDueSoon(assigneeIds, task.getId(), task.getTitle(), message);
             }
-        }
-        
+
+            @Override
+            public void notifyDigest(UUID userId, List<Task> tasks) {
+                notificationService.createNotifications(List.of(userId),
+                        "Tarefas com prazo próximo",
+                        tasks.size() + " tarefas têm prazo de entrega em menos de 24h: " + titles(tasks),
+                        Notification.NotificationType.TASK_DUE_SOON, "task", null);
+            }
+        });
+
         log.info("Verificação de tarefas com prazo próximo concluída");
     }
-    
+
     /**
      * Verifica e notifica sobre tarefas com prazo em 3 dias
      * Executa todos os dias às 8h da manhã
@@ -68,32 +92,32 @@ public class NotificationScheduler {
     @Scheduled(cron = "0 0 8 * * *")
     public void sendTaskDueInThreeDaysNotifications() {
         log.info("Iniciando verificação de tarefas com prazo em 3 dias");
-        
+
         // Buscar tarefas pendentes ou em progresso com vencimento em 3 dias
         List<Task> dueInThreeDaysTasks = taskRepository.findTasksDueInThreeDays();
-        
+
         log.info("Encontradas {} tarefas com prazo em 3 dias", dueInThreeDaysTasks.size());
-        
-        for (Task task : dueInThreeDaysTasks) {
-            // Notificar usuários atribuídos à tarefa
-            for (User user : task.getAssignedUsers()) {
-                String formattedDate = task.getDueDate().format(DATE_FORMAT);
-                String message = "A tarefa '" + task.getTitle() + "' tem prazo de entrega em " + formattedDate + " (3 dias)";
-                
-                notificationService.notifyTaskDueSoon(
-                    user.getId(),
-                    task.getId(),
-                    task.getTitle(),
-                    message
-                );
-                
-                log.debug("Notificação enviada para usuário {} sobre tarefa {}", user.getId(), task.getId());
+
+        remind(DUE_IN_THREE_DAYS_REMINDER, dueInThreeDaysTasks, new Reminder() {
+            @Override
+            public void notifyTask(Task task, List<UUID> assigneeIds) {
+                String message = "A tarefa '" + task.getTitle() + "' tem prazo de entrega em "
+                        + task.getDueDate().format(DATE_FORMAT) + " (3 dias)";
+                notificationService.notifyTaskDueSoon(assigneeIds, task.getId(), task.getTitle(), message);
             }
-        }
-        
+
+            @Override
+            public void notifyDigest(UUID userId, List<Task> tasks) {
+                notificationService.createNotifications(List.of(userId),
+                        "Tarefas com prazo próximo",
+                        tasks.size() + " tarefas têm prazo de entrega em 3 dias: " + titles(tasks),
+                        Notification.NotificationType.TASK_DUE_SOON, "task", null);
+            }
+        });
+
         log.info("Verificação de tarefas com prazo em 3 dias concluída");
     }
-    
+
     /**
      * Verifica e notifica sobre tarefas atrasadas há mais de 1 dia
      * Executa todos os dias às 9h da manhã
@@ -101,29 +125,117 @@ public class NotificationScheduler {
     @Scheduled(cron = "0 0 9 * * *")
     public void sendOverdueTaskNotifications() {
         log.info("Iniciando verificação de tarefas atrasadas");
-        
+
         // Buscar tarefas pendentes ou em progresso com prazo já expirado há mais de 1 dia
         List<Task> overdueTasks = taskRepository.findTasksOverdueMoreThanOneDay();
-        
+
         log.info("Encontradas {} tarefas atrasadas há mais de 1 dia", overdueTasks.size());
-        
-        for (Task task : overdueTasks) {
-            // Notificar usuários atribuídos à tarefa
+
+        remind(OVERDUE_REMINDER, overdueTasks, new Reminder() {
+            @Override
+            public void notifyTask(Task task, List<UUID> assigneeIds) {
+                String message = "A tarefa '" + task.getTitle() + "' está atrasada! O prazo era "
+                        + task.getDueDate().format(DATE_FORMAT);
+                notificationService.notifyTaskOverdue(assigneeIds, task.getId(), task.getTitle(), message);
+            }
+
+            @Override
+            public void notifyDigest(UUID userId, List<Task> tasks) {
+                notificationService.createNotifications(List.of(userId),
+                        "Tarefas atrasadas",
+                        "Você tem " + tasks.size() + " tarefas atrasadas: " + titles(tasks),
+                        Notification.NotificationType.TASK_OVERDUE, "task", null);
+            }
+        });
+
+        log.info("Verificação de tarefas atrasadas concluída");
+    }
+
+    /**
+     * Envia os lembretes de um tipo: descarta as tarefas já lembradas para o prazo atual e,
+     * no modo resumo, agrupa as restantes por usuário. O registro dos lembretes e as notificações
+     * são confirmados na mesma transação; as notificações são gravadas após o commit.
+     */
+    private void remind(String kind, List<Task> tasks, Reminder reminder) {
+        // Lembretes possíveis nesta execução: um por tarefa e usuário atribuído
+        int candidates = tasks.stream().mapToInt(task -> task.getAssignedUsers().size()).sum();
+
+        Integer written = transactionTemplate.execute(status -> {
+            Map<Long, LocalDateTime> dueDates = tasks.stream()
+                    .filter(task -> task.getDueDate() != null && !task.getAssignedUsers().isEmpty())
+                    .collect(Collectors.toMap(Task::getId, Task::getDueDate, (first, second) -> first));
+            Set<Long> claimed = taskReminderRepository.claimReminders(kind, dueDates);
+
+            List<Task> pending = tasks.stream()
+                    .filter(task -> claimed.contains(task.getId()))
+                    .collect(Collectors.toList());
+
+            return digest ? sendDigests(pending, reminder) : sendPerTask(pending, reminder);
+        });
+
+        int rows = written != null ? written : 0;
+        meterRegistry.counter("rephelper.notifications.reminders.written", "kind", kind).increment(rows);
+        meterRegistry.counter("rephelper.notifications.reminders.suppressed", "kind", kind).increment(candidates - rows);
+        log.info("Lembretes '{}': {} notificações gravadas, {} suprimidas (já lembradas ou agrupadas em resumo)",
+                kind, rows, candidates - rows);
+    }
+
+    /**
+     * Uma notificação por tarefa para os usuários atribuídos, em um único lote por tarefa
+     *
+     * @return Quantidade de notificações solicitadas
+     */
+    private int sendPerTask(List<Task> tasks, Reminder reminder) {
+        int rows = 0;
+        for (Task task : tasks) {
+            List<UUID> assigneeIds = task.getAssignedUsers().stream().map(User::getId).collect(Collectors.toList());
+            reminder.notifyTask(task, assigneeIds);
+            rows += assigneeIds.size();
+            log.debug("Notificação enviada para {} usuários sobre tarefa {}", assigneeIds.size(), task.getId());
+        }
+        return rows;
+    }
+
+    /**
+     * Uma notificação por usuário: a notificação da própria tarefa quando houver só uma,
+     * ou um resumo com todas as tarefas do usuário
+     *
+     * @return Quantidade de notificações solicitadas
+     */
+    private int sendDigests(List<Task> tasks, Reminder reminder) {
+        Map<UUID, List<Task>> tasksByUser = new LinkedHashMap<>();
+        for (Task task : tasks) {
             for (User user : task.getAssignedUsers()) {
-                String formattedDate = task.getDueDate().format(DATE_FORMAT);
-                String message = "A tarefa '" + task.getTitle() + "' está atrasada! O prazo era " + formattedDate;
-                
-                notificationService.notifyTaskOverdue(
-                    user.getId(),
-                    task.getId(),
-                    task.getTitle(),
-                    message
-                );
-                
-                log.debug("Notificação enviada para usuário {} sobre tarefa atrasada {}", user.getId(), task.getId());
+                tasksByUser.computeIfAbsent(user.getId(), key -> new ArrayList<>()).add(task);
             }
         }
-        
-        log.info("Verificação de tarefas atrasadas concluída");
+
+        tasksByUser.forEach((userId, userTasks) -> {
+            if (userTasks.size() == 1) {
+                reminder.notifyTask(userTasks.get(0), List.of(userId));
+            } else {
+                reminder.notifyDigest(userId, userTasks);
+            }
+        });
+        return tasksByUser.size();
+    }
+
+    private static String titles(List<Task> tasks) {
+        String listed = tasks.stream()
+                .limit(DIGEST_MAX_TITLES)
+                .map(Task::getTitle)
+                .map(title -> "'" + title + "'")
+                .collect(Collectors.joining(", "));
+        int remaining = tasks.size() - DIGEST_MAX_TITLES;
+        return remaining > 0 ? listed + " e mais " + remaining : listed;
+    }
+
+    /**
+     * Textos de um tipo de lembrete
+     */
+    private interface Reminder {
+        void notifyTask(Task task, List<UUID> assigneeIds);
+
+        void notifyDigest(UUID userId, List<Task> tasks);
     }
-} 
\ No newline at end of file
+}
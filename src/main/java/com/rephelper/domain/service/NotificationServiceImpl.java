@@ -1,17 +1,26 @@
 package com.rephelper.domain.service;
 
+import com.rephelper.application.dto.request.NotificationFilterRequest;
+import com.rephelper.application.dto.response.CursorPagedResponse;
+import com.rephelper.domain.event.NotificationRequestedEvent;
 import com.rephelper.domain.exception.ForbiddenException;
 import com.rephelper.domain.exception.ResourceNotFoundException;
 import com.rephelper.domain.model.Notification;
 import com.rephelper.domain.model.User;
 import com.rephelper.domain.port.in.NotificationServicePort;
+import com.rephelper.domain.port.out.DeviceTokenRepositoryPort;
 import com.rephelper.domain.port.out.NotificationRepositoryPort;
+import com.rephelper.domain.port.out.UnreadNotificationCounterPort;
 import com.rephelper.domain.port.out.UserRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,15 +31,17 @@ public class NotificationServiceImpl implements NotificationServicePort {
 
     private final NotificationRepositoryPort notificationRepository;
     private final UserRepositoryPort userRepository;
+    private final UnreadNotificationCounterPort unreadCounter;
+    private final DeviceTokenRepositoryPort deviceTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Notification createNotification(UUID recipientId, String title, String message,
                                            Notification.NotificationType type, String entityType, String entityId) {
-        User recipient = userRepository.findById(recipientId)
-                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com id: " + recipientId));
+        publish(List.of(recipientId), title, message, type, entityType, entityId);
 
-        Notification notification = Notification.builder()
-                .recipient(recipient)
+        return Notification.builder()
+                .recipient(User.builder().id(recipientId).build())
                 .title(title)
                 .message(message)
                 .type(type)
@@ -39,8 +50,31 @@ public class NotificationServiceImpl implements NotificationServicePort {
                 .read(false)
                 .createdAt(LocalDateTime.now())
                 .build();
+    }
 
-        return notificationRepository.save(notification);
+    @Override
+    public void createNotifications(Collection<UUID> recipientIds, String title, String message,
+                                    Notification.NotificationType type, String entityType, String entityId) {
+        if (recipientIds == null || recipientIds.isEmpty()) {
+            return;
+        }
+        publish(List.copyOf(new LinkedHashSet<>(recipientIds)), title, message, type, entityType, entityId);
+    }
+
+    /**
+     * Publica a solicitação; as linhas são gravadas em lote por NotificationDispatcher
+     * somente após o commit da transação corrente
+     */
+    private void publish(List<UUID> recipientIds, String title, String message,
+                         Notification.NotificationType type, String entityType, String entityId) {
+        eventPublisher.publishEvent(NotificationRequestedEvent.builder()
+                .recipientIds(recipientIds)
+                .title(title)
+                .message(message)
+                .type(type)
+                .entityType(entityType)
+                .entityId(entityId)
+                .build());
     }
 
     @Override
@@ -74,20 +108,33 @@ public class NotificationServiceImpl implements NotificationServicePort {
 
     @Override
     @Transactional(readOnly = true)
-    public int countUnreadNotificationsByUser(UUID userId) {
-        // Verify user exists
-        if (!userRepository.findById(userId).isPresent()) {
-            throw new ResourceNotFoundException("Usuário não encontrado com id: " + userId);
-        }
+    public List<Notification> getNotificationsSince(UUID userId, LocalDateTime since, int limit) {
+        return notificationRepository.findByRecipientIdCreatedSince(userId, since, limit);
+    }
 
-        return notificationRepository.countUnreadByRecipientId(userId);
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<Notification> getInbox(UUID userId, NotificationFilterRequest filter) {
+        return notificationRepository.findInbox(userId, filter);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int countUnreadNotificationsByUser(UUID userId) {
+        // Contador mantido em cache; o banco só é consultado quando o contador não está carregado
+        return unreadCounter.countUnread(userId);
     }
 
     @Override
     public Notification markNotificationAsRead(Long id) {
         Notification notification = getNotificationById(id);
+        boolean wasUnread = !notification.isRead();
         notification.markAsRead();
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        if (wasUnread) {
+            unreadCounter.decrement(notification.getRecipient().getId());
+        }
+        return saved;
     }
 
     @Override
@@ -98,6 +145,17 @@ public class NotificationServiceImpl implements NotificationServicePort {
         }
 
         notificationRepository.markAllAsReadForRecipient(userId);
+        unreadCounter.reset(userId);
+    }
+
+    @Override
+    public void registerDevice(UUID userId, String token, String platform) {
+        deviceTokenRepository.register(userId, token, platform);
+    }
+
+    @Override
+    public void unregisterDevice(UUID userId, String token) {
+        deviceTokenRepository.unregister(userId, token);
     }
 
     @Override
@@ -110,6 +168,9 @@ public class NotificationServiceImpl implements NotificationServicePort {
         }
 
         notificationRepository.delete(notification);
+        if (!notification.isRead()) {
+            unreadCounter.decrement(userId);
+        }
     }
 
     @Override
@@ -120,6 +181,7 @@ public class NotificationServiceImpl implements NotificationServicePort {
         }
 
         notificationRepository.deleteOldNotifications(userId, days);
+        unreadCounter.invalidate(userId);
     }
 
     @Override
@@ -137,15 +199,32 @@ public class NotificationServiceImpl implements NotificationServicePort {
     }
 
     @Override
-    public Notification notifyTaskCompleted(UUID recipientId, Long taskId, String taskTitle, UUID completedById) {
+    public void notifyTaskAssigned(Collection<UUID> recipientIds, Long taskId, String taskTitle) {
+        String title = "Nova Tarefa Atribuída";
+        String message = "Você foi designado para a tarefa: " + taskTitle;
+        createNotifications(
+                recipientIds,
+                title,
+                message,
+                Notification.NotificationType.TASK_ASSIGNED,
+                "task",
+                taskId.toString()
+        );
+    }
+
+    @Override
+    public void notifyTaskCompleted(Collection<UUID> recipientIds, Long taskId, String taskTitle, UUID completedById) {
+        if (recipientIds.isEmpty()) {
+            return;
+        }
         User completedBy = userRepository.findById(completedById)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com id: " + completedById));
 
         String title = "Tarefa Concluída";
         String message = "A tarefa '" + taskTitle + "' foi marcada como concluída por " + (completedBy.getNickname() != null
                 ? completedBy.getNickname() : completedBy.getName());
-        return createNotification(
-                recipientId,
+        createNotifications(
+                recipientIds,
                 title,
                 message,
                 Notification.NotificationType.TASK_COMPLETED,
@@ -155,15 +234,18 @@ public class NotificationServiceImpl implements NotificationServicePort {
     }
 
     @Override
-    public Notification notifyExpenseCreated(UUID recipientId, Long expenseId, String description, UUID creatorId) {
+    public void notifyExpenseCreated(Collection<UUID> recipientIds, Long expenseId, String description, UUID creatorId) {
+        if (recipientIds.isEmpty()) {
+            return;
+        }
         User creator = userRepository.findById(creatorId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com id: " + creatorId));
 
         String title = "Nova Despesa Criada";
         String message = "Uma nova despesa '" + description + "' foi criada por " + (creator.getNickname() != null
                 ? creator.getNickname() : creator.getName());
-        return createNotification(
-                recipientId,
+        createNotifications(
+                recipientIds,
                 title,
                 message,
                 Notification.NotificationType.EXPENSE_CREATED,
@@ -312,9 +394,9 @@ public class NotificationServiceImpl implements NotificationServicePort {
     }
 
     @Override
-    public Notification notifyTaskDueSoon(UUID recipientId, Long taskId, String taskTitle, String message) {
-        return createNotification(
-                recipientId,
+    public void notifyTaskDueSoon(Collection<UUID> recipientIds, Long taskId, String taskTitle, String message) {
+        createNotifications(
+                recipientIds,
                 "Tarefa com prazo próximo",
                 message,
                 Notification.NotificationType.TASK_DUE_SOON,
@@ -324,9 +406,9 @@ public class NotificationServiceImpl implements NotificationServicePort {
     }
     
     @Override
-    public Notification notifyTaskOverdue(UUID recipientId, Long taskId, String taskTitle, String message) {
-        return createNotification(
-                recipientId,
+    public void notifyTaskOverdue(Collection<UUID> recipientIds, Long taskId, String taskTitle, String message) {
+        createNotifications(
+                recipientIds,
                 "Tarefa atrasada",
                 message,
                 Notification.NotificationType.TASK_OVERDUE,
@@ -0,0 +1,202 @@
+package com.rephelper.domain.service;
+
+import com.rephelper.domain.model.PushMessage;
+import com.rephelper.domain.model.PushOutboxEntry;
+import com.rephelper.domain.port.out.DeviceTokenRepositoryPort;
+import com.rephelper.domain.port.out.PushGatewayPort;
+import com.rephelper.domain.port.out.PushOutboxRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Worker que drena o outbox de envio push em lotes.
+ * As entradas de um lote com o mesmo conteúdo (as notificações de um mesmo evento) são enviadas
+ * em multicast, até {@link PushGatewayPort#MAX_TOKENS_PER_CALL} tokens por chamada. Falhas transitórias
+ * são repetidas com espera exponencial; tokens rejeitados pelo serviço são removidos, e entradas cuja
+ * mensagem foi recusada são marcadas como falha sem repetição e sem remover os tokens.
+ */
+@Service
+@ConditionalOnProperty(name = "rephelper.push.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PushDeliveryWorker {
+
+    private final PushOutboxRepositoryPort pushOutboxRepository;
+    private final DeviceTokenRepositoryPort deviceTokenRepository;
+    private final PushGatewayPort pushGateway;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${rephelper.push.batch-size:500}")
+    private int batchSize;
+
+    @Value("${rephelper.push.lease:2m}")
+    private Duration lease;
+
+    @Value("${rephelper.push.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${rephelper.push.retry-backoff:30s}")
+    private Duration retryBackoff;
+
+    /**
+     * Drena as entradas pendentes do outbox
+     * (padrão: 2 segundos após o término da execução anterior)
+     */
+    @Scheduled(fixedDelayString = "${rephelper.push.poll-interval-ms:2000}")
+    public void drainOutbox() {
+        while (true) {
+            List<PushOutboxEntry> batch = transactionTemplate.execute(
+                    status -> pushOutboxRepository.claimDue(batchSize, lease));
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+
+            deliver(batch);
+
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Envia um lote reservado e registra o resultado de cada entrada
+     */
+    private void deliver(List<PushOutboxEntry> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Map<UUID, List<String>> tokensByUser = deviceTokenRepository.findTokensByUserIds(
+                batch.stream().map(PushOutboxEntry::getRecipientId).collect(Collectors.toSet()));
+
+        Map<PushMessage, List<PushOutboxEntry>> entriesByMessage = batch.stream()
+                .collect(Collectors.groupingBy(PushOutboxEntry::getMessage, LinkedHashMap::new, Collectors.toList()));
+
+        Set<Long> retry = new HashSet<>();
+        Set<Long> rejected = new HashSet<>();
+        Set<String> invalidTokens = new HashSet<>();
+        int calls = 0;
+
+        for (Map.Entry<PushMessage, List<PushOutboxEntry>> group : entriesByMessage.entrySet()) {
+            // Token -> entrada; um token pertence a um único usuário
+            List<String> tokens = new ArrayList<>();
+            List<PushOutboxEntry> owners = new ArrayList<>();
+            for (PushOutboxEntry entry : group.getValue()) {
+                for (String token : tokensByUser.getOrDefault(entry.getRecipientId(), List.of())) {
+                    tokens.add(token);
+                    owners.add(entry);
+                }
+            }
+
+            for (int from = 0; from < tokens.size(); from += PushGatewayPort.MAX_TOKENS_PER_CALL) {
+                int to = Math.min(from + PushGatewayPort.MAX_TOKENS_PER_CALL, tokens.size());
+                List<String> chunk = tokens.subList(from, to);
+                List<PushGatewayPort.Outcome> outcomes = sendChunk(group.getKey(), chunk);
+                calls++;
+
+                for (int i = 0; i < chunk.size(); i++) {
+                    switch (outcomes.get(i)) {
+                        case INVALID_TOKEN -> invalidTokens.add(chunk.get(i));
+                        // A entrada inteira é repetida, inclusive para dispositivos que já receberam
+                        case RETRY -> retry.add(owners.get(from + i).getId());
+                        case REJECTED -> rejected.add(owners.get(from + i).getId());
+                        default -> { }
+                    }
+                }
+            }
+        }
+
+        // Mensagem recusada não muda ao repetir: a entrada falha mesmo que outros tokens peçam nova tentativa
+        retry.removeAll(rejected);
+
+        // Entradas sem falha estão concluídas (inclusive as de usuários sem dispositivos)
+        List<Long> sent = batch.stream()
+                .map(PushOutboxEntry::getId)
+                .filter(id -> !retry.contains(id) && !rejected.contains(id))
+                .collect(Collectors.toList());
+        List<PushOutboxEntry> retryEntries = batch.stream()
+                .filter(entry -> retry.contains(entry.getId()))
+                .collect(Collectors.toList());
+
+        Integer failedCount = transactionTemplate.execute(
+                status -> record(sent, retryEntries, List.copyOf(rejected), invalidTokens));
+        int failed = failedCount != null ? failedCount : 0;
+
+        long elapsedNanos = sample.stop(meterRegistry.timer("rephelper.push.batch.duration"));
+        meterRegistry.counter("rephelper.push.calls").increment(calls);
+        meterRegistry.counter("rephelper.push.entries", "outcome", "sent").increment(sent.size());
+        meterRegistry.counter("rephelper.push.entries", "outcome", "retry").increment(retryEntries.size() - failed);
+        meterRegistry.counter("rephelper.push.entries", "outcome", "failed").increment(failed);
+        meterRegistry.counter("rephelper.push.entries", "outcome", "rejected").increment(rejected.size());
+        meterRegistry.counter("rephelper.push.tokens.pruned").increment(invalidTokens.size());
+
+        log.debug("Lote push: {} entradas em {} chamadas, {} enviadas, {} para nova tentativa, {} falhas, {} recusadas, {} tokens removidos em {} ms",
+                batch.size(), calls, sent.size(), retryEntries.size() - failed, failed, rejected.size(), invalidTokens.size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    private List<PushGatewayPort.Outcome> sendChunk(PushMessage message, List<String> tokens) {
+        try {
+            return pushGateway.send(message, tokens);
+        } catch (RuntimeException e) {
+            log.warn("Erro inesperado no envio push para {} tokens: {}", tokens.size(), e.getMessage());
+            return new ArrayList<>(Collections.nCopies(tokens.size(), PushGatewayPort.Outcome.RETRY));
+        }
+    }
+
+    /**
+     * Grava o resultado do lote: remove os tokens inválidos, conclui as entradas enviadas, marca como falha
+     * as recusadas e reagenda as demais, ou as marca como falhas ao atingir o limite de tentativas
+     *
+     * @return Quantidade de entradas marcadas como falha por limite de tentativas
+     */
+    private int record(List<Long> sent, List<PushOutboxEntry> retryEntries, List<Long> rejected, Set<String> invalidTokens) {
+        deviceTokenRepository.deleteTokens(invalidTokens);
+        pushOutboxRepository.markSent(sent);
+        if (!rejected.isEmpty()) {
+            pushOutboxRepository.markFailed(rejected, "Mensagem recusada pelo serviço de push");
+            log.warn("{} envios push recusados pelo serviço (mensagem inválida)", rejected.size());
+        }
+
+        List<Long> failed = new ArrayList<>();
+        // Mesma espera para as entradas com o mesmo número de tentativas: um UPDATE por grupo
+        Map<Integer, List<Long>> retryByAttempts = new LinkedHashMap<>();
+        for (PushOutboxEntry entry : retryEntries) {
+            if (entry.getAttempts() >= maxAttempts) {
+                failed.add(entry.getId());
+            } else {
+                retryByAttempts.computeIfAbsent(entry.getAttempts(), key -> new ArrayList<>()).add(entry.getId());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        retryByAttempts.forEach((attempts, ids) -> pushOutboxRepository.reschedule(
+                ids, now.plus(retryBackoff.multipliedBy(1L << (attempts - 1))), "Falha transitória no envio"));
+
+        if (!failed.isEmpty()) {
+            pushOutboxRepository.markFailed(failed, "Limite de tentativas atingido");
+            log.warn("{} envios push descartados após {} tentativas", failed.size(), maxAttempts);
+        }
+        return failed.size();
+    }
+}
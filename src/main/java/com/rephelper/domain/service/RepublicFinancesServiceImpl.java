@@ -1,9 +1,14 @@
 package com.rephelper.domain.service;
 
 import com.rephelper.domain.exception.ResourceNotFoundException;
+import com.rephelper.domain.model.FinanceLedgerEntry;
+import com.rephelper.domain.model.FinanceMonthlyAggregate;
+import com.rephelper.domain.model.LedgerBalance;
 import com.rephelper.domain.model.Republic;
 import com.rephelper.domain.model.RepublicFinances;
 import com.rephelper.domain.port.in.RepublicFinancesServicePort;
+import com.rephelper.domain.port.out.FinanceAggregateRepositoryPort;
+import com.rephelper.domain.port.out.FinanceLedgerRepositoryPort;
 import com.rephelper.domain.port.out.RepublicFinancesRepositoryPort;
 import com.rephelper.domain.port.out.RepublicRepositoryPort;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +17,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -21,11 +28,13 @@ public class RepublicFinancesServiceImpl implements RepublicFinancesServicePort
 
     private final RepublicFinancesRepositoryPort republicFinancesRepository;
     private final RepublicRepositoryPort republicRepository;
+    private final FinanceAggregateRepositoryPort financeAggregateRepository;
+    private final FinanceLedgerRepositoryPort financeLedgerRepository;
 
     @Override
     public RepublicFinances getOrCreateRepublicFinances(UUID republicId) {
         // Check if finances exist for this republic
-        return republicFinancesRepository.findByRepublicId(republicId)
+        RepublicFinances finances = republicFinancesRepository.findByRepublicId(republicId)
                 .orElseGet(() -> {
                     // If not, create new finances
                     Republic republic = republicRepository.findById(republicId)
@@ -39,37 +48,86 @@ public class RepublicFinancesServiceImpl implements RepublicFinancesServicePort
 
                     return republicFinancesRepository.save(newFinances);
                 });
+
+        return withLedgerBalance(finances);
     }
 
     @Override
     @Transactional(readOnly = true)
     public RepublicFinances getRepublicFinances(UUID republicId) {
         return republicFinancesRepository.findByRepublicId(republicId)
+                .map(this::withLedgerBalance)
                 .orElseThrow(() -> new ResourceNotFoundException("Finances not found for republic with id: " + republicId));
     }
 
     @Override
     public RepublicFinances updateBalance(UUID republicId, BigDecimal amount) {
-        // Get or create finances
-        RepublicFinances finances = getOrCreateRepublicFinances(republicId);
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount cannot be null");
+        }
 
-        // Update balance
-        finances.updateBalance(amount);
+        // Append the adjustment; the balance row itself is never rewritten
+        recordEntry(republicId, amount, FinanceLedgerEntry.Kind.ADJUSTMENT, null, null);
 
-        // Save updated finances
-        return republicFinancesRepository.save(finances);
+        return getOrCreateRepublicFinances(republicId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean hasEnoughBalance(UUID republicId, BigDecimal amount) {
-        try {
-            // Try to get finances
-            RepublicFinances finances = getRepublicFinances(republicId);
-            return finances.hasEnoughBalance(amount);
-        } catch (ResourceNotFoundException e) {
-            // If finances don't exist, check if amount is positive (contribution)
-            return amount != null && amount.compareTo(BigDecimal.ZERO) <= 0;
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            return true;
+        }
+
+        return financeLedgerRepository.getBalance(republicId).getBalance().compareTo(amount) >= 0;
+    }
+
+    @Override
+    public void recordEntry(UUID republicId, BigDecimal amount, FinanceLedgerEntry.Kind kind,
+                            String referenceType, String referenceId) {
+        financeLedgerRepository.append(FinanceLedgerEntry.builder()
+                .republicId(republicId)
+                .amount(amount)
+                .kind(kind)
+                .referenceType(referenceType)
+                .referenceId(referenceId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    public boolean debitIfCovered(UUID republicId, BigDecimal amount, FinanceLedgerEntry.Kind kind,
+                                  String referenceType, String referenceId) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Debit amount must be positive");
         }
+
+        return financeLedgerRepository.appendDebitIfCovered(FinanceLedgerEntry.builder()
+                .republicId(republicId)
+                .amount(amount.negate())
+                .kind(kind)
+                .referenceType(referenceType)
+                .referenceId(referenceId)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FinanceMonthlyAggregate> getMonthlyTotals(UUID republicId, YearMonth from, YearMonth to) {
+        return financeAggregateRepository.findByRepublicIdAndMonthRange(republicId, from, to);
+    }
+
+    /**
+     * Fills the current balance from the ledger (last snapshot + later entries)
+     */
+    private RepublicFinances withLedgerBalance(RepublicFinances finances) {
+        LedgerBalance balance = financeLedgerRepository.getBalance(finances.getRepublic().getId());
+        return RepublicFinances.builder()
+                .id(finances.getId())
+                .republic(finances.getRepublic())
+                .currentBalance(balance.getBalance())
+                .lastUpdated(balance.getLastEntryAt() != null ? balance.getLastEntryAt() : finances.getLastUpdated())
+                .build();
     }
-}
\ No newline at end of file
+}
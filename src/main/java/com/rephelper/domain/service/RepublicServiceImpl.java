@@ -64,6 +64,7 @@ public class RepublicServiceImpl implements RepublicServicePort {
                 .provider(owner.getProvider())
                 .currentRepublic(savedRepublic)
                 .isAdmin(true)
+                .membershipVersion(owner.getMembershipVersion() + 1) // Novo vínculo invalida os tokens anteriores
                 .entryDate(owner.getEntryDate())
                 .departureDate(owner.getDepartureDate())
                 .status(owner.getStatus())
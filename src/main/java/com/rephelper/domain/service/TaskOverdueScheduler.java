@@ -0,0 +1,82 @@
+package com.rephelper.domain.service;
+
+import com.rephelper.domain.port.out.TaskRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serviço agendado que mantém o status OVERDUE atualizado no banco.
+ * A transição é feita por UPDATE em lote (sem carregar as tarefas), em intervalos curtos,
+ * para que o filtro de tarefas atrasadas reflita o estado real.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskOverdueScheduler {
+
+    private final TaskRepositoryPort taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${rephelper.tasks.overdue.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Executa a transição de status em intervalos curtos
+     * (padrão: 5 minutos após o término da execução anterior)
+     */
+    @Scheduled(fixedDelayString = "${rephelper.tasks.overdue.interval-ms:300000}",
+               initialDelayString = "${rephelper.tasks.overdue.initial-delay-ms:60000}")
+    public void refreshOverdueStatus() {
+        List<Long> overdueIds = transitionOverdueTasks();
+        if (!overdueIds.isEmpty()) {
+            log.info("{} tarefas passaram para OVERDUE", overdueIds.size());
+        }
+    }
+
+    /**
+     * Marca como OVERDUE todas as tarefas pendentes ou em progresso já vencidas,
+     * em lotes, cada lote em sua própria transação
+     *
+     * @return IDs das tarefas que passaram para OVERDUE, para notificações posteriores
+     */
+    public List<Long> transitionOverdueTasks() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<Long> overdueIds = new ArrayList<>();
+        int chunks = 0;
+
+        while (true) {
+            long chunkStart = System.nanoTime();
+            List<Long> chunk = transactionTemplate.execute(status -> taskRepository.transitionOverdueTasks(chunkSize));
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+
+            chunks++;
+            overdueIds.addAll(chunk);
+            log.debug("Lote {} de transição para OVERDUE: {} tarefas em {} ms",
+                    chunks, chunk.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkStart));
+
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+
+        long elapsedNanos = sample.stop(meterRegistry.timer("rephelper.tasks.overdue.transition.duration"));
+        meterRegistry.counter("rephelper.tasks.overdue.transitioned").increment(overdueIds.size());
+        log.debug("Transição para OVERDUE concluída: {} tarefas em {} lotes, {} ms",
+                overdueIds.size(), chunks, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+        return overdueIds;
+    }
+}
@@ -1,119 +1,213 @@
 package com.rephelper.domain.service;
 
 import com.rephelper.domain.model.Task;
-import com.rephelper.domain.model.NotificationType;
+import com.rephelper.domain.model.TaskSeries;
 import com.rephelper.domain.model.User;
 import com.rephelper.domain.port.in.NotificationServicePort;
+import com.rephelper.domain.port.out.JobCheckpointRepositoryPort;
 import com.rephelper.domain.port.out.TaskRepositoryPort;
+import com.rephelper.domain.port.out.TaskSeriesRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
- * Serviço agendado para processamento de recorrência de tarefas
+ * Serviço agendado para processamento de recorrência de tarefas.
+ * Percorre apenas as séries ativas cuja instância atual já venceu, em lotes ordenados por ID,
+ * cada lote em sua própria transação, com checkpoint para retomada após falha.
+ * A conclusão de uma tarefa já avança a série em {@link TaskServiceImpl#completeTask}.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class TaskRecurrenceScheduler {
-    
+
+    static final String DUE_SERIES_JOB = "task-recurrence-due-series";
+
     private final TaskRepositoryPort taskRepository;
+    private final TaskSeriesRepositoryPort taskSeriesRepository;
+    private final JobCheckpointRepositoryPort checkpointRepository;
     private final NotificationServicePort notificationService;
-    
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${rephelper.recurrence.chunk-size:200}")
+    private int chunkSize;
+
     /**
-     * Processa tarefas recorrentes vencidas que precisam de novas instâncias
+     * Processa as séries recorrentes cuja instância atual venceu, gerando a próxima instância
      * Executa diariamente à meia-noite
      */
     @Scheduled(cron = "0 0 0 * * *")
-    public void processOverdueRecurringTasks() {
-        log.info("Iniciando processamento de tarefas recorrentes vencidas");
-        
-        List<Task> tasks = taskRepository.findOverdueRecurringTasks();
-        int created = 0;
-        
-        log.info("Encontradas {} tarefas recorrentes vencidas para processar", tasks.size());
-        
-        for (Task task : tasks) {
-            if (task.shouldContinueRecurrence()) {
-                log.debug("Processando tarefa recorrente vencida: {} (ID: {})", task.getTitle(), task.getId());
-                
-                // Marca a tarefa atual como OVERDUE, se ainda não estiver
-                if (task.getStatus() != Task.TaskStatus.OVERDUE) {
-                    task.updateStatus();
-                    taskRepository.save(task);
-                }
-                
-                // Verifica se já existe uma tarefa filha
-                if (!taskRepository.existsByParentTaskId(task.getId())) {
-                    // Cria a próxima instância da tarefa recorrente
-                    Task nextTask = task.createRecurringInstance();
-                    if (nextTask != null) {
-                        Task savedTask = taskRepository.save(nextTask);
-                        log.debug("Nova instância de tarefa recorrente criada: {} (ID: {})", savedTask.getTitle(), savedTask.getId());
-                        
-                        // Notifica os usuários atribuídos sobre a nova tarefa recorrente
-                        notifyAssignedUsers(savedTask);
-                        created++;
-                    }
-                } else {
-                    log.debug("Tarefa {} já possui uma instância filha, pulando criação", task.getId());
-                }
+    public void processDueRecurringSeries() {
+        log.info("Iniciando processamento de séries recorrentes vencidas");
+
+        long resumeFrom = checkpointRepository.findLastProcessedId(DUE_SERIES_JOB).orElse(0L);
+        if (resumeFrom > 0) {
+            log.info("Retomando job {} a partir da série {}", DUE_SERIES_JOB, resumeFrom);
+        }
+
+        JobTotals totals = new JobTotals();
+        long jobStart = System.nanoTime();
+
+        processRange(resumeFrom, Long.MAX_VALUE, totals);
+
+        // Séries com ID até o checkpoint que venceram desde a falha ficariam para o dia seguinte.
+        // A segunda passada vai só até o checkpoint: uma série atrasada em mais de um intervalo continua
+        // vencida depois de avançar, e percorrê-la de novo criaria uma segunda instância nesta execução
+        if (resumeFrom > 0) {
+            log.info("Job {}: retomada concluída, verificando as séries até {}", DUE_SERIES_JOB, resumeFrom);
+            processRange(0L, resumeFrom, totals);
+        }
+
+        checkpointRepository.clearCheckpoint(DUE_SERIES_JOB);
+
+        long totalNanos = System.nanoTime() - jobStart;
+        log.info("Processamento de séries recorrentes vencidas concluído: {} lotes, {} séries em {} ms ({} séries/s). {} novas instâncias criadas",
+                totals.chunks, totals.processed, TimeUnit.NANOSECONDS.toMillis(totalNanos),
+                throughput(totals.processed, totalNanos), totals.created);
+    }
+
+    /**
+     * Percorre em lotes as séries vencidas com ID maior que {@code afterId} e até {@code upToId}
+     */
+    private void processRange(long afterId, long upToId, JobTotals totals) {
+        while (true) {
+            long chunkStart = System.nanoTime();
+            long cursor = afterId;
+            ChunkResult result = transactionTemplate.execute(
+                    status -> processChunk(taskSeriesRepository.findDueSeries(cursor, upToId, chunkSize)));
+
+            if (result == null || result.processed == 0) {
+                break;
+            }
+
+            long elapsedNanos = System.nanoTime() - chunkStart;
+            totals.chunks++;
+            totals.processed += result.processed;
+            totals.created += result.created;
+            afterId = result.lastId;
+
+            meterRegistry.timer("rephelper.recurrence.chunk.duration", "job", DUE_SERIES_JOB)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            meterRegistry.counter("rephelper.recurrence.instances.created", "job", DUE_SERIES_JOB)
+                    .increment(result.created);
+
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            log.info("Job {}: lote {} com {} séries ({} instâncias criadas) em {} ms ({} séries/s), último ID {}",
+                    DUE_SERIES_JOB, totals.chunks, result.processed, result.created, elapsedMs,
+                    throughput(result.processed, elapsedNanos), afterId);
+
+            if (result.processed < chunkSize) {
+                break;
             }
         }
-        
-        log.info("Processamento de tarefas recorrentes vencidas concluído. {} novas instâncias criadas", created);
     }
-    
+
     /**
-     * Processa tarefas recorrentes concluídas que ainda não geraram a próxima instância
-     * Executa diariamente às 1h da manhã
+     * Processa um lote de séries dentro da transação corrente: marca as instâncias atuais como OVERDUE,
+     * insere as próximas instâncias em lote, avança as séries, notifica os usuários e grava o checkpoint
      */
-    @Scheduled(cron = "0 0 1 * * *")
-    public void processCompletedRecurringTasks() {
-        log.info("Iniciando processamento de tarefas recorrentes concluídas");
-        
-        List<Task> tasks = taskRepository.findCompletedRecurringTasks();
-        int created = 0;
-        
-        log.info("Encontradas {} tarefas recorrentes concluídas para processar", tasks.size());
-        
-        for (Task task : tasks) {
-            if (task.shouldContinueRecurrence()) {
-                // Verifica se já existe uma tarefa filha
-                if (!taskRepository.existsByParentTaskId(task.getId())) {
-                    log.debug("Processando tarefa recorrente concluída sem instância filha: {} (ID: {})", task.getTitle(), task.getId());
-                    
-                    // Cria a próxima instância da tarefa recorrente
-                    Task nextTask = task.createRecurringInstance();
-                    if (nextTask != null) {
-                        Task savedTask = taskRepository.save(nextTask);
-                        log.debug("Nova instância de tarefa recorrente criada: {} (ID: {})", savedTask.getTitle(), savedTask.getId());
-                        
-                        // Notifica os usuários atribuídos sobre a nova tarefa recorrente
-                        notifyAssignedUsers(savedTask);
-                        created++;
-                    }
-                } else {
-                    log.debug("Tarefa {} já possui uma instância filha, pulando criação", task.getId());
-                }
+    private ChunkResult processChunk(List<TaskSeries> dueSeries) {
+        if (dueSeries.isEmpty()) {
+            return new ChunkResult(0, 0, 0L);
+        }
+
+        Map<Long, Task> heads = taskRepository.findAllByIds(dueSeries.stream()
+                        .map(TaskSeries::getHeadTaskId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<Long> overdueIds = new ArrayList<>();
+        List<TaskSeries> advancingSeries = new ArrayList<>();
+        List<Task> nextTasks = new ArrayList<>();
+
+        for (TaskSeries series : dueSeries) {
+            Task head = heads.get(series.getHeadTaskId());
+            if (head == null || head.getStatus() == Task.TaskStatus.CANCELLED) {
+                series.end();
+                continue;
+            }
+
+            // Marca a instância atual como OVERDUE, se ainda estiver em aberto
+            if (head.getStatus() != Task.TaskStatus.COMPLETED && head.getStatus() != Task.TaskStatus.OVERDUE) {
+                overdueIds.add(head.getId());
+            }
+
+            Task nextTask = head.createRecurringInstance();
+            if (nextTask == null) {
+                series.end();
+                continue;
             }
+            advancingSeries.add(series);
+            nextTasks.add(nextTask);
         }
-        
-        log.info("Processamento de tarefas recorrentes concluídas finalizado. {} novas instâncias criadas", created);
+
+        taskRepository.markAsOverdue(overdueIds);
+
+        List<Task> savedTasks = nextTasks.isEmpty() ? List.of() : taskRepository.saveAll(nextTasks);
+        for (int i = 0; i < savedTasks.size(); i++) {
+            advancingSeries.get(i).advanceTo(savedTasks.get(i));
+        }
+        taskSeriesRepository.saveAll(dueSeries);
+
+        // Notifica os usuários atribuídos sobre as novas tarefas recorrentes
+        savedTasks.forEach(this::notifyAssignedUsers);
+
+        Long lastId = dueSeries.get(dueSeries.size() - 1).getId();
+        checkpointRepository.saveCheckpoint(DUE_SERIES_JOB, lastId);
+
+        return new ChunkResult(dueSeries.size(), savedTasks.size(), lastId);
     }
-    
+
+    private long throughput(int count, long elapsedNanos) {
+        return elapsedNanos > 0 ? count * TimeUnit.SECONDS.toNanos(1) / elapsedNanos : count;
+    }
+
     /**
      * Notifica os usuários atribuídos sobre uma nova tarefa
      */
     private void notifyAssignedUsers(Task task) {
-        for (User user : task.getAssignedUsers()) {
-            notificationService.notifyTaskAssigned(user.getId(), task.getId(), task.getTitle());
+        notificationService.notifyTaskAssigned(
+                task.getAssignedUsers().stream().map(User::getId).collect(Collectors.toList()),
+                task.getId(),
+                task.getTitle());
+    }
+
+    /**
+     * Totais acumulados da execução do job
+     */
+    private static final class JobTotals {
+        private int chunks;
+        private int processed;
+        private int created;
+    }
+
+    /**
+     * Resultado do processamento de um lote
+     */
+    private static final class ChunkResult {
+        private final int processed;
+        private final int created;
+        private final Long lastId;
+
+        private ChunkResult(int processed, int created, Long lastId) {
+            this.processed = processed;
+            this.created = created;
+            this.lastId = lastId;
         }
     }
-} 
\ No newline at end of file
+}
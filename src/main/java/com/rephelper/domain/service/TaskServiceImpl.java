@@ -1,10 +1,18 @@
 package com.rephelper.domain.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import com.rephelper.application.dto.request.TaskFilterRequest;
 import com.rephelper.application.dto.request.UpdateTaskRequest;
+import com.rephelper.application.dto.response.CursorPagedResponse;
 import com.rephelper.domain.model.NotificationType;
 import com.rephelper.domain.port.in.NotificationServicePort;
 import org.springframework.data.domain.Page;
@@ -16,10 +24,15 @@ import com.rephelper.domain.exception.ForbiddenException;
 import com.rephelper.domain.exception.ResourceNotFoundException;
 import com.rephelper.domain.exception.ValidationException;
 import com.rephelper.domain.model.Task;
+import com.rephelper.domain.model.TaskOccurrence;
+import com.rephelper.domain.model.TaskSeries;
+import com.rephelper.domain.model.RepublicMembership;
 import com.rephelper.domain.model.User;
 import com.rephelper.domain.port.in.TaskServicePort;
 import com.rephelper.domain.port.out.RepublicRepositoryPort;
 import com.rephelper.domain.port.out.TaskRepositoryPort;
+import com.rephelper.domain.port.out.TaskSeriesRepositoryPort;
+import com.rephelper.domain.port.out.RepublicMembershipPort;
 import com.rephelper.domain.port.out.UserRepositoryPort;
 
 import lombok.RequiredArgsConstructor;
@@ -29,8 +42,13 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class TaskServiceImpl implements TaskServicePort {
 
+    private static final long MAX_CALENDAR_WINDOW_DAYS = 366;
+    private static final int MAX_OCCURRENCES_PER_SERIES = 400;
+
     private final TaskRepositoryPort taskRepository;
+    private final TaskSeriesRepositoryPort taskSeriesRepository;
     private final UserRepositoryPort userRepository;
+    private final RepublicMembershipPort membershipPort;
     private final RepublicRepositoryPort republicRepository;
     private final NotificationServicePort notificationService;
 
@@ -74,22 +92,26 @@ public class TaskServiceImpl implements TaskServicePort {
 
         Task savedTask = taskRepository.save(task);
 
+        // Tarefas recorrentes iniciam uma nova série
+        if (savedTask.isRecurring()) {
+            taskSeriesRepository.save(TaskSeries.startFrom(savedTask));
+        }
+
         // Notify republic admins about the new task if it doesn't have assigned users yet
         if (savedTask.getAssignedUsers() == null || savedTask.getAssignedUsers().isEmpty()) {
             // Get republic admins
-            List<User> republicMembers = userRepository.findByCurrentRepublicId(task.getRepublic().getId());
-            for (User member : republicMembers) {
-                if (member.isRepublicAdmin() && !member.getId().equals(creatorUserId)) {
-                    notificationService.createNotification(
-                            member.getId(),
-                            "Nova Tarefa Não Atribuída",
-                            "Uma nova tarefa '" + savedTask.getTitle() + "' foi criada e precisa ser atribuída",
-                            com.rephelper.domain.model.Notification.NotificationType.TASK_ASSIGNED,
-                            "task",
-                            savedTask.getId().toString()
-                    );
-                }
-            }
+            List<UUID> adminIds = userRepository.findByCurrentRepublicId(task.getRepublic().getId()).stream()
+                    .filter(member -> member.isRepublicAdmin() && !member.getId().equals(creatorUserId))
+                    .map(User::getId)
+                    .collect(Collectors.toList());
+            notificationService.createNotifications(
+                    adminIds,
+                    "Nova Tarefa Não Atribuída",
+                    "Uma nova tarefa '" + savedTask.getTitle() + "' foi criada e precisa ser atribuída",
+                    com.rephelper.domain.model.Notification.NotificationType.TASK_ASSIGNED,
+                    "task",
+                    savedTask.getId().toString()
+            );
         }
 
         return savedTask;
@@ -166,12 +188,11 @@ public class TaskServiceImpl implements TaskServicePort {
         Task task = getTaskById(id);
 
         // Validar usuário
-        User user = userRepository.findById(modifierUserId)
+        RepublicMembership membership = membershipPort.findByUserId(modifierUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com id: " + modifierUserId));
 
 
-        boolean isMember = user.getCurrentRepublic() != null &&
-                user.getCurrentRepublic().getId().equals(task.getRepublic().getId());
+        boolean isMember = membership.isMemberOf(task.getRepublic().getId());
 
         if (!isMember) {
             throw new ForbiddenException("Você não tem permissão para atualizar esta tarefa");
@@ -196,7 +217,10 @@ public class TaskServiceImpl implements TaskServicePort {
         // Atualizar tarefa
         task.update(request);
 
-        return taskRepository.save(task);
+        Task updatedTask = taskRepository.save(task);
+        syncSeries(updatedTask);
+
+        return updatedTask;
     }
 
 
@@ -222,52 +246,54 @@ public class TaskServiceImpl implements TaskServicePort {
 
         // Notify all users who were assigned to this task, except the one who completed it
         if (task.getAssignedUsers() != null && !task.getAssignedUsers().isEmpty()) {
-            for (User assignedUser : task.getAssignedUsers()) {
-                if (!assignedUser.getId().equals(userId)) {
-                    notificationService.notifyTaskCompleted(
-                            assignedUser.getId(),
-                            id,
-                            task.getTitle(),
-                            userId
-                    );
-                }
-            }
+            notificationService.notifyTaskCompleted(
+                    task.getAssignedUsers().stream()
+                            .map(User::getId)
+                            .filter(assignedId -> !assignedId.equals(userId))
+                            .collect(Collectors.toList()),
+                    id,
+                    task.getTitle(),
+                    userId
+            );
         }
 
         // Notify republic admins about completed task
-        List<User> republicMembers = userRepository.findByCurrentRepublicId(task.getRepublic().getId());
-        for (User member : republicMembers) {
-            if (member.isRepublicAdmin() && !member.getId().equals(userId) &&
-                    (task.getAssignedUsers() == null || !task.getAssignedUsers().contains(member))) {
-                notificationService.createNotification(
-                        member.getId(),
-                        "Tarefa Concluída",
-                        "A tarefa '" + task.getTitle() + "' foi concluída por " + user.getName(),
-                        com.rephelper.domain.model.Notification.NotificationType.TASK_COMPLETED,
-                        "task",
-                        id.toString()
-                );
-            }
-        }
-
-        // Se a tarefa for recorrente, criar a próxima instância
-        if (task.isRecurring() && task.shouldContinueRecurrence()) {
+        List<UUID> adminIds = userRepository.findByCurrentRepublicId(task.getRepublic().getId()).stream()
+                .filter(member -> member.isRepublicAdmin() && !member.getId().equals(userId) &&
+                        (task.getAssignedUsers() == null || !task.getAssignedUsers().contains(member)))
+                .map(User::getId)
+                .collect(Collectors.toList());
+        notificationService.createNotifications(
+                adminIds,
+                "Tarefa Concluída",
+                "A tarefa '" + task.getTitle() + "' foi concluída por " + user.getName(),
+                com.rephelper.domain.model.Notification.NotificationType.TASK_COMPLETED,
+                "task",
+                id.toString()
+        );
+
+        // Se a tarefa for a instância atual de uma série recorrente, criar a próxima instância e avançar a série
+        TaskSeries series = task.isRecurring() ? taskSeriesRepository.findByHeadTaskId(id).orElse(null) : null;
+        if (series != null) {
             Task nextTask = task.createRecurringInstance();
-            if (nextTask != null) {
+            if (nextTask == null) {
+                series.end();
+                taskSeriesRepository.save(series);
+            } else {
                 Task newTask = taskRepository.save(nextTask);
+                series.advanceTo(newTask);
+                taskSeriesRepository.save(series);
 
                 // Notify assigned users about the new recurring task
                 if (newTask.getAssignedUsers() != null) {
-                    for (User assignedUser : newTask.getAssignedUsers()) {
-                        notificationService.createNotification(
-                                assignedUser.getId(),
-                                "Nova Tarefa Recorrente",
-                                "Uma nova tarefa recorrente '" + newTask.getTitle() + "' foi criada e atribuída a você",
-                                com.rephelper.domain.model.Notification.NotificationType.TASK_ASSIGNED,
-                                "task",
-                                newTask.getId().toString()
-                        );
-                    }
+                    notificationService.createNotifications(
+                            newTask.getAssignedUsers().stream().map(User::getId).collect(Collectors.toList()),
+                            "Nova Tarefa Recorrente",
+                            "Uma nova tarefa recorrente '" + newTask.getTitle() + "' foi criada e atribuída a você",
+                            com.rephelper.domain.model.Notification.NotificationType.TASK_ASSIGNED,
+                            "task",
+                            newTask.getId().toString()
+                    );
                 }
             }
         }
@@ -280,11 +306,10 @@ public class TaskServiceImpl implements TaskServicePort {
         Task task = getTaskById(id);
 
         // Validar usuário
-        User user = userRepository.findById(userId)
+        RepublicMembership membership = membershipPort.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
-        boolean isMember = user.getCurrentRepublic() != null &&
-                user.getCurrentRepublic().getId().equals(task.getRepublic().getId());
+        boolean isMember = membership.isMemberOf(task.getRepublic().getId());
 
         if (!isMember) {
             throw new ForbiddenException("You do not have permission to cancel this task");
@@ -293,7 +318,10 @@ public class TaskServiceImpl implements TaskServicePort {
         // Cancelar tarefa
         task.cancel();
 
-        return taskRepository.save(task);
+        Task cancelledTask = taskRepository.save(task);
+        syncSeries(cancelledTask);
+
+        return cancelledTask;
     }
 
     @Override
@@ -301,17 +329,22 @@ public class TaskServiceImpl implements TaskServicePort {
         Task task = getTaskById(id);
 
         // Validar usuário
-        User user = userRepository.findById(userId)
+        RepublicMembership membership = membershipPort.findByUserId(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
 
-        boolean isMember = user.getCurrentRepublic() != null &&
-                user.getCurrentRepublic().getId().equals(task.getRepublic().getId());
+        boolean isMember = membership.isMemberOf(task.getRepublic().getId());
 
         if (!isMember) {
             throw new ForbiddenException("You do not have permission to delete this task");
         }
 
+        // Encerrar a série, se esta for a instância atual
+        taskSeriesRepository.findByHeadTaskId(id).ifPresent(series -> {
+            series.end();
+            taskSeriesRepository.save(series);
+        });
+
         // Deletar tarefa
         taskRepository.delete(task);
     }
@@ -326,12 +359,11 @@ public class TaskServiceImpl implements TaskServicePort {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
         // Validar usuário que está atribuindo
-        User assigner = userRepository.findById(assignerUserId)
+        RepublicMembership membership = membershipPort.findByUserId(assignerUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("Assigner user not found with id: " + assignerUserId));
 
         // Verificar se o atribuidor pertence à república ou é admin
-        boolean isAssignerMember = assigner.getCurrentRepublic() != null &&
-                assigner.getCurrentRepublic().getId().equals(task.getRepublic().getId());
+        boolean isAssignerMember = membership.isMemberOf(task.getRepublic().getId());
 
         if (!isAssignerMember) {
             throw new ForbiddenException("You do not have permission to assign tasks in this republic");
@@ -365,12 +397,11 @@ public class TaskServiceImpl implements TaskServicePort {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
         // Validar usuário que está removendo
-        User unassigner = userRepository.findById(unassignerUserId)
+        RepublicMembership membership = membershipPort.findByUserId(unassignerUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("Unassigner user not found with id: " + unassignerUserId));
 
         // Verificar se o removedor pertence à república ou é admin
-        boolean isUnassignerMember = unassigner.getCurrentRepublic() != null &&
-                unassigner.getCurrentRepublic().getId().equals(task.getRepublic().getId());
+        boolean isUnassignerMember = membership.isMemberOf(task.getRepublic().getId());
 
         if (!isUnassignerMember) {
             throw new ForbiddenException("You do not have permission to unassign tasks in this republic");
@@ -453,6 +484,7 @@ public class TaskServiceImpl implements TaskServicePort {
         if (!republicRepository.findById(republicId).isPresent()) {
             throw new ResourceNotFoundException("Republic not found with id: " + republicId);
         }
+        validateRelevanceSort(filter);
         
         return taskRepository.findWithFilters(republicId, filter, pageable);
     }
@@ -464,7 +496,114 @@ public class TaskServiceImpl implements TaskServicePort {
         if (!userRepository.findById(userId).isPresent()) {
             throw new ResourceNotFoundException("User not found with id: " + userId);
         }
+        validateRelevanceSort(filter);
         
         return taskRepository.findAssignedWithFilters(userId, filter, pageable);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<Task> findTasksWithFiltersByCursor(UUID republicId, TaskFilterRequest filter) {
+        // Verificar se a república existe
+        if (!republicRepository.findById(republicId).isPresent()) {
+            throw new ResourceNotFoundException("Republic not found with id: " + republicId);
+        }
+
+        return taskRepository.findWithFiltersByCursor(republicId, filter);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<Task> findTasksAssignedWithFiltersByCursor(UUID userId, TaskFilterRequest filter) {
+        // Validar usuário
+        if (!userRepository.findById(userId).isPresent()) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+
+        return taskRepository.findAssignedWithFiltersByCursor(userId, filter);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskOccurrence> getTaskCalendar(UUID republicId, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new ValidationException("A janela do calendário deve ter início anterior ao fim");
+        }
+        if (Duration.between(from, to).toDays() > MAX_CALENDAR_WINDOW_DAYS) {
+            throw new ValidationException("A janela do calendário não pode exceder " + MAX_CALENDAR_WINDOW_DAYS + " dias");
+        }
+
+        // Verificar se a república existe
+        if (!republicRepository.findById(republicId).isPresent()) {
+            throw new ResourceNotFoundException("República não encontrada com id: " + republicId);
+        }
+
+        // Séries ativas e suas instâncias atuais
+        Map<Long, TaskSeries> seriesByHead = taskSeriesRepository.findActiveByRepublicId(republicId).stream()
+                .filter(series -> series.getHeadTaskId() != null)
+                .collect(Collectors.toMap(TaskSeries::getHeadTaskId, Function.identity()));
+        List<Task> heads = taskRepository.findAllByIds(seriesByHead.keySet());
+
+        List<TaskOccurrence> occurrences = new ArrayList<>();
+
+        // Tarefas já persistidas na janela (todas, sem paginação nem contagem)
+        for (Task task : taskRepository.findByRepublicIdAndDueDateBetween(republicId, from, to)) {
+            TaskSeries series = seriesByHead.get(task.getId());
+            occurrences.add(TaskOccurrence.of(task, series != null ? series.getId() : null));
+        }
+
+        // Ocorrências futuras das séries, calculadas em memória
+        for (Task head : heads) {
+            Long seriesId = seriesByHead.get(head.getId()).getId();
+            for (LocalDateTime dueDate : head.expandOccurrences(from, to, MAX_OCCURRENCES_PER_SERIES)) {
+                occurrences.add(TaskOccurrence.virtualOf(head, seriesId, dueDate));
+            }
+        }
+
+        occurrences.sort(Comparator.comparing(TaskOccurrence::getDueDate));
+        return occurrences;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Task> searchTasks(UUID republicId, String query, Pageable pageable) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new ValidationException("O termo de busca é obrigatório");
+        }
+
+        // Verificar se a república existe
+        if (!republicRepository.findById(republicId).isPresent()) {
+            throw new ResourceNotFoundException("República não encontrada com id: " + republicId);
+        }
+
+        return taskRepository.searchByRepublic(republicId, query.trim(), pageable);
+    }
+
+    /**
+     * A ordenação por relevância só existe na busca textual; em outros modos "relevance"
+     * chegaria ao banco como nome de coluna
+     */
+    private void validateRelevanceSort(TaskFilterRequest filter) {
+        if (filter != null && filter.getSortBy() != null
+                && TaskFilterRequest.SORT_BY_RELEVANCE.equalsIgnoreCase(filter.getSortBy().trim())
+                && !filter.isFullTextSearch()) {
+            throw new ValidationException("A ordenação por relevância exige searchTerm com searchMode "
+                    + TaskFilterRequest.SEARCH_MODE_FULL_TEXT);
+        }
+    }
+
+    /**
+     * Mantém a série recorrente alinhada com a tarefa após alterações de recorrência ou status.
+     * Uma tarefa que passa a ser recorrente e ainda não gerou instâncias inicia uma nova série.
+     */
+    private void syncSeries(Task task) {
+        TaskSeries series = taskSeriesRepository.findByHeadTaskId(task.getId()).orElse(null);
+        if (series != null) {
+            series.syncWith(task);
+            taskSeriesRepository.save(series);
+        } else if (task.isRecurring() && task.getStatus() != Task.TaskStatus.CANCELLED
+                && !taskRepository.existsByParentTaskId(task.getId())) {
+            taskSeriesRepository.save(TaskSeries.startFrom(task));
+        }
+    }
+}
@@ -49,6 +49,7 @@ public class UserServiceImpl implements UserServicePort {
                     .provider(user.getProvider())
                     .currentRepublic(user.getCurrentRepublic())
                     .isAdmin(user.getIsAdmin())
+                    .membershipVersion(user.getMembershipVersion())
                     .entryDate(user.getEntryDate())
                     .departureDate(user.getDepartureDate())
                     .status("active")
@@ -144,6 +145,7 @@ public class UserServiceImpl implements UserServicePort {
                     .provider(user.getProvider())
                     .currentRepublic(user.getCurrentRepublic())
                     .isAdmin(user.getIsAdmin())
+                    .membershipVersion(user.getMembershipVersion())
                     .entryDate(user.getEntryDate())
                     .departureDate(null) // Limpar data de saída
                     .status(user.getStatus())
@@ -163,6 +165,7 @@ public class UserServiceImpl implements UserServicePort {
                     .provider(user.getProvider())
                     .currentRepublic(user.getCurrentRepublic())
                     .isAdmin(user.getIsAdmin())
+                    .membershipVersion(user.getMembershipVersion())
                     .entryDate(user.getEntryDate())
                     .departureDate(LocalDateTime.now()) // Definir data de saída atual
                     .status(user.getStatus())
@@ -1,62 +1,29 @@
 package com.rephelper.infrastructure.adapter.persistence;
 
 import com.rephelper.domain.model.BudgetPlan;
-import com.rephelper.domain.model.Republic;
+import com.rephelper.infrastructure.config.CommonMapperConfig;
 import com.rephelper.infrastructure.entity.BudgetPlanJpaEntity;
-import com.rephelper.infrastructure.entity.RepublicJpaEntity;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import static com.rephelper.infrastructure.adapter.persistence.ShallowEntityMapper.REPUBLIC_ENTITY_WITHOUT_USERS;
+import static com.rephelper.infrastructure.adapter.persistence.ShallowEntityMapper.REPUBLIC_WITHOUT_USERS;
 
 /**
  * Maps between BudgetPlan domain model and BudgetPlanJpaEntity
  */
-@Component
-public class BudgetPlanMapper {
-
-    @Autowired
-    private RepublicMapper republicMapper;
+@Mapper(config = CommonMapperConfig.class, uses = ShallowEntityMapper.class)
+public interface BudgetPlanMapper {
 
     /**
      * Converts a JPA entity to a domain entity
      */
-    public BudgetPlan toDomainEntity(BudgetPlanJpaEntity jpaEntity) {
-        if (jpaEntity == null) return null;
-
-        Republic republic = null;
-        if (jpaEntity.getRepublic() != null) {
-            republic = republicMapper.toDomainEntityWithoutUsers(jpaEntity.getRepublic());
-        }
-
-        return BudgetPlan.builder()
-                .id(jpaEntity.getId())
-                .republic(republic)
-                .year(jpaEntity.getYear())
-                .month(jpaEntity.getMonth())
-                .category(jpaEntity.getCategory())
-                .plannedAmount(jpaEntity.getPlannedAmount())
-                .createdAt(jpaEntity.getCreatedAt())
-                .build();
-    }
+    @Mapping(target = "republic", qualifiedByName = REPUBLIC_WITHOUT_USERS)
+    BudgetPlan toDomainEntity(BudgetPlanJpaEntity jpaEntity);
 
     /**
      * Converts a domain entity to a JPA entity
      */
-    public BudgetPlanJpaEntity toJpaEntity(BudgetPlan domainEntity) {
-        if (domainEntity == null) return null;
-
-        RepublicJpaEntity republicEntity = null;
-        if (domainEntity.getRepublic() != null) {
-            republicEntity = republicMapper.toJpaEntityWithoutUsers(domainEntity.getRepublic());
-        }
-
-        return BudgetPlanJpaEntity.builder()
-                .id(domainEntity.getId())
-                .republic(republicEntity)
-                .year(domainEntity.getYear())
-                .month(domainEntity.getMonth())
-                .category(domainEntity.getCategory())
-                .plannedAmount(domainEntity.getPlannedAmount())
-                .createdAt(domainEntity.getCreatedAt())
-                .build();
-    }
-}
\ No newline at end of file
+    @Mapping(target = "republic", qualifiedByName = REPUBLIC_ENTITY_WITHOUT_USERS)
+    BudgetPlanJpaEntity toJpaEntity(BudgetPlan domainEntity);
+}
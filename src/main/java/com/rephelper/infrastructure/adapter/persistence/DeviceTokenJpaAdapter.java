@@ -0,0 +1,53 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.rephelper.domain.port.out.DeviceTokenRepositoryPort;
+import com.rephelper.infrastructure.entity.DeviceTokenJpaEntity;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementação do adaptador para tokens de dispositivos usando JPA.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeviceTokenJpaAdapter implements DeviceTokenRepositoryPort {
+
+    private final DeviceTokenJpaRepository deviceTokenJpaRepository;
+
+    @Override
+    public void register(UUID userId, String token, String platform) {
+        deviceTokenJpaRepository.register(token, userId, platform, LocalDateTime.now());
+    }
+
+    @Override
+    public void unregister(UUID userId, String token) {
+        deviceTokenJpaRepository.deleteByUserIdAndToken(userId, token);
+    }
+
+    @Override
+    public Map<UUID, List<String>> findTokensByUserIds(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return deviceTokenJpaRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.groupingBy(DeviceTokenJpaEntity::getUserId,
+                        Collectors.mapping(DeviceTokenJpaEntity::getToken, Collectors.toList())));
+    }
+
+    @Override
+    public int deleteTokens(Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            return 0;
+        }
+        return deviceTokenJpaRepository.deleteByTokenIn(tokens);
+    }
+}
@@ -0,0 +1,46 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.rephelper.infrastructure.entity.DeviceTokenJpaEntity;
+
+/**
+ * Repositório JPA para os tokens de push dos dispositivos
+ */
+@Repository
+public interface DeviceTokenJpaRepository extends JpaRepository<DeviceTokenJpaEntity, String> {
+
+    List<DeviceTokenJpaEntity> findByUserIdIn(Collection<UUID> userIds);
+
+    /**
+     * Registra o token em um único upsert; um token já registrado passa para o usuário informado
+     * (o mesmo dispositivo usado por outra conta)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO device_tokens (token, user_id, platform, created_at, last_seen_at) " +
+                   "VALUES (:token, :userId, :platform, :now, :now) " +
+                   "ON CONFLICT (token) DO UPDATE " +
+                   "SET user_id = EXCLUDED.user_id, platform = EXCLUDED.platform, last_seen_at = EXCLUDED.last_seen_at",
+           nativeQuery = true)
+    void register(@Param("token") String token,
+                  @Param("userId") UUID userId,
+                  @Param("platform") String platform,
+                  @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM DeviceTokenJpaEntity d WHERE d.userId = :userId AND d.token = :token")
+    int deleteByUserIdAndToken(@Param("userId") UUID userId, @Param("token") String token);
+
+    @Modifying
+    @Query("DELETE FROM DeviceTokenJpaEntity d WHERE d.token IN :tokens")
+    int deleteByTokenIn(@Param("tokens") Collection<String> tokens);
+}
@@ -41,7 +41,7 @@ public class EventJpaAdapter implements EventRepositoryPort {
 
     @Override
     public Optional<Event> findById(Long id) {
-        return eventJpaRepository.findById(id)
+        return eventJpaRepository.findDetailedById(id)
                 .map(eventMapper::toDomainEntity);
     }
 
@@ -1,6 +1,7 @@
 package com.rephelper.infrastructure.adapter.persistence;
 
 import com.rephelper.infrastructure.entity.EventJpaEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,6 +9,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -15,14 +17,22 @@ import java.util.UUID;
  */
 @Repository
 public interface EventJpaRepository extends JpaRepository<EventJpaEntity, Long> {
+    @EntityGraph(EventJpaEntity.GRAPH_WITH_INVITATIONS)
+    @Query("SELECT e FROM EventJpaEntity e WHERE e.id = :id")
+    Optional<EventJpaEntity> findDetailedById(@Param("id") Long id);
+
+    @EntityGraph(EventJpaEntity.GRAPH_WITH_INVITATIONS)
     List<EventJpaEntity> findByRepublicUuid(UUID republicId);
 
+    @EntityGraph(EventJpaEntity.GRAPH_WITH_INVITATIONS)
     @Query("SELECT e FROM EventJpaEntity e WHERE e.republic.uuid = :republicId AND e.startDate > :now ORDER BY e.startDate ASC")
     List<EventJpaEntity> findUpcomingByRepublicId(@Param("republicId") UUID republicId, @Param("now") LocalDateTime now);
 
+    @EntityGraph(EventJpaEntity.GRAPH_WITH_INVITATIONS)
     @Query("SELECT e FROM EventJpaEntity e JOIN e.invitations i WHERE i.user.uuid = :userId")
     List<EventJpaEntity> findByInvitedUserId(@Param("userId") UUID userId);
 
+    @EntityGraph(EventJpaEntity.GRAPH_WITH_INVITATIONS)
     @Query("SELECT e FROM EventJpaEntity e JOIN e.invitations i WHERE i.user.uuid = :userId AND i.status = 'CONFIRMED'")
     List<EventJpaEntity> findByConfirmedUserId(@Param("userId") UUID userId);
 }
\ No newline at end of file
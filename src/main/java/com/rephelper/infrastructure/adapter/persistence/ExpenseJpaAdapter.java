@@ -1,7 +1,11 @@
 package com.rephelper.infrastructure.adapter.persistence;
 
 import com.rephelper.domain.model.Expense;
+import com.rephelper.domain.model.FinanceTotal;
+import com.rephelper.domain.model.User;
 import com.rephelper.domain.port.out.ExpenseRepositoryPort;
+import com.rephelper.infrastructure.adapter.persistence.util.FinanceExports;
+import com.rephelper.infrastructure.adapter.persistence.util.FinanceTotals;
 import com.rephelper.infrastructure.entity.ExpenseJpaEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -11,6 +15,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of ExpenseRepositoryPort using JPA
@@ -21,6 +26,8 @@ public class ExpenseJpaAdapter implements ExpenseRepositoryPort {
 
     private final ExpenseJpaRepository expenseJpaRepository;
     private final ExpenseMapper expenseMapper;
+    private final RepublicJpaRepository republicJpaRepository;
+    private final UserJpaRepository userJpaRepository;
 
     @Override
     public Expense save(Expense expense) {
@@ -29,6 +36,23 @@ public class ExpenseJpaAdapter implements ExpenseRepositoryPort {
         return expenseMapper.toDomainEntity(savedEntity);
     }
 
+    @Override
+    public void saveAll(List<Expense> expenses) {
+        // República e criador como referências (sem SELECT); as inserções são agrupadas
+        // pelo Hibernate (hibernate.jdbc.batch_size) e os IDs vêm do pool da sequência
+        List<ExpenseJpaEntity> entities = expenses.stream()
+                .map(expense -> {
+                    ExpenseJpaEntity entity = expenseMapper.toJpaEntityWithoutRelations(expense);
+                    entity.setRepublic(republicJpaRepository.getReferenceById(expense.getRepublic().getId()));
+                    if (expense.getCreator() != null) {
+                        entity.setCreator(userJpaRepository.getReferenceById(expense.getCreator().getId()));
+                    }
+                    return entity;
+                })
+                .collect(Collectors.toList());
+        expenseJpaRepository.saveAll(entities);
+    }
+
     @Override
     public Optional<Expense> findById(Long id) {
         return expenseJpaRepository.findById(id)
@@ -98,6 +122,28 @@ public class ExpenseJpaAdapter implements ExpenseRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<FinanceTotal<Expense.ExpenseStatus>> sumByStatus(UUID republicId) {
+        return expenseJpaRepository.sumByStatus(republicId).stream()
+                .map(total -> new FinanceTotal<>(total.getStatus(), total.getTotalAmount(), total.getEntryCount()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<FinanceTotal<User>> sumByCreator(UUID republicId, Expense.ExpenseStatus status,
+                                                 LocalDate startDate, LocalDate endDate) {
+        return expenseJpaRepository.sumByCreator(republicId, status, startDate, endDate).stream()
+                .map(FinanceTotals::fromUser)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Expense> streamForExport(UUID republicId, Expense.ExpenseStatus status,
+                                           LocalDate startDate, LocalDate endDate) {
+        return expenseJpaRepository.streamForExport(republicId, status, startDate, endDate)
+                .map(FinanceExports::fromExpense);
+    }
+
     @Override
     public void delete(Expense expense) {
         expenseJpaRepository.deleteById(expense.getId());
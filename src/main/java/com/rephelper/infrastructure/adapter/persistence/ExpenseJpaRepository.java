@@ -1,15 +1,22 @@
 package com.rephelper.infrastructure.adapter.persistence;
 
 import com.rephelper.domain.model.Expense;
+import com.rephelper.infrastructure.adapter.persistence.projection.ExpenseExportProjection;
+import com.rephelper.infrastructure.adapter.persistence.projection.StatusTotalProjection;
+import com.rephelper.infrastructure.adapter.persistence.projection.UserTotalProjection;
 import com.rephelper.infrastructure.entity.ExpenseJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * JPA Repository for Expenses
@@ -17,6 +24,9 @@ import java.util.UUID;
 @Repository
 public interface ExpenseJpaRepository extends JpaRepository<ExpenseJpaEntity, Long> {
 
+    // Rows fetched per round trip while walking the export cursor
+    String EXPORT_FETCH_SIZE = "1000";
+
     List<ExpenseJpaEntity> findByRepublicUuid(UUID republicId);
 
     List<ExpenseJpaEntity> findByCreatorUuid(UUID creatorId);
@@ -49,4 +59,55 @@ public interface ExpenseJpaRepository extends JpaRepository<ExpenseJpaEntity, Lo
             @Param("republicId") UUID republicId);
 
     List<ExpenseJpaEntity> findByRepublicUuidAndCategory(UUID republicId, String category);
-}
\ No newline at end of file
+
+    @Query("SELECT e.status AS status, SUM(e.amount) AS totalAmount, COUNT(e) AS entryCount " +
+            "FROM ExpenseJpaEntity e WHERE e.republic.uuid = :republicId GROUP BY e.status")
+    List<StatusTotalProjection> sumByStatus(@Param("republicId") UUID republicId);
+
+    @Query("SELECT e.category AS category, SUM(e.amount) AS totalAmount, COUNT(e) AS entryCount " +
+            "FROM ExpenseJpaEntity e WHERE e.republic.uuid = :republicId AND e.status = :status AND " +
+            "e.expenseDate >= :startDate AND e.expenseDate <= :endDate " +
+            "GROUP BY e.category")
+
+    @Query("SELECT YEAR(e.expenseDate) AS periodYear, MONTH(e.expenseDate) AS periodMonth, " +
+            "SUM(e.amount) AS totalAmount, COUNT(e) AS entryCount " +
+            "FROM ExpenseJpaEntity e WHERE e.republic.uuid = :republicId AND e.status = :status AND " +
+            "e.expenseDate >= :startDate AND e.expenseDate <= :endDate " +
+            "GROUP BY YEAR(e.expenseDate), MONTH(e.expenseDate) " +
+            "ORDER BY YEAR(e.expenseDate), MONTH(e.expenseDate)")
+
+    @Query("SELECT c.uuid AS userId, c.name AS userName, c.nickname AS userNickname, " +
+            "SUM(e.amount) AS totalAmount, COUNT(e) AS entryCount " +
+            "FROM ExpenseJpaEntity e JOIN e.creator c WHERE e.republic.uuid = :republicId AND e.status = :status AND " +
+            "e.expenseDate >= :startDate AND e.expenseDate <= :endDate " +
+            "GROUP BY c.uuid, c.name, c.nickname " +
+            "ORDER BY SUM(e.amount) DESC")
+    List<UserTotalProjection> sumByCreator(
+            @Param("republicId") UUID republicId,
+            @Param("status") Expense.ExpenseStatus status,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * Walks the expenses of a republic through a cursor, ordered by date; null filters are ignored.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e.id AS id, e.description AS description, e.amount AS amount, e.expenseDate AS expenseDate, " +
+            "e.category AS category, e.receiptUrl AS receiptUrl, e.status AS status, e.approvalDate AS approvalDate, " +
+            "e.reimbursementDate AS reimbursementDate, e.rejectionReason AS rejectionReason, e.createdAt AS createdAt, " +
+            "c.uuid AS creatorId, c.name AS creatorName, c.nickname AS creatorNickname " +
+            "FROM ExpenseJpaEntity e LEFT JOIN e.creator c WHERE e.republic.uuid = :republicId AND " +
+            "(:status IS NULL OR e.status = :status) AND " +
+            "(:startDate IS NULL OR e.expenseDate >= :startDate) AND " +
+            "(:endDate IS NULL OR e.expenseDate <= :endDate) " +
+            "ORDER BY e.expenseDate, e.id")
+    Stream<ExpenseExportProjection> streamForExport(
+            @Param("republicId") UUID republicId,
+            @Param("status") Expense.ExpenseStatus status,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+}
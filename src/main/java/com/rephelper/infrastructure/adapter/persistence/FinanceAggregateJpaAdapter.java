@@ -0,0 +1,72 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.rephelper.domain.model.FinanceMonthlyAggregate;
+import com.rephelper.domain.port.out.FinanceAggregateRepositoryPort;
+import com.rephelper.infrastructure.entity.FinanceMonthlyAggregateJpaEntity;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementação do adaptador para os totais mensais de finanças usando JPA.
+ */
+@Component
+@RequiredArgsConstructor
+public class FinanceAggregateJpaAdapter implements FinanceAggregateRepositoryPort {
+
+    // Categoria gravada para lançamentos sem categoria (a coluna faz parte da chave)
+    private static final String NO_CATEGORY = "";
+
+    private final FinanceMonthlyAggregateJpaRepository aggregateJpaRepository;
+
+    @Override
+    public void add(UUID republicId, YearMonth yearMonth, String category, FinanceMonthlyAggregate.Kind kind,
+                    BigDecimal amount, long entries) {
+        aggregateJpaRepository.lockForUpdate(republicId);
+        aggregateJpaRepository.add(republicId, yearMonth.atDay(1), category != null ? category : NO_CATEGORY,
+                kind.name(), amount, entries, LocalDateTime.now());
+    }
+
+    @Override
+    public List<FinanceMonthlyAggregate> findByRepublicIdAndMonthRange(UUID republicId, YearMonth from, YearMonth to) {
+        return aggregateJpaRepository.findByRepublicIdAndYearMonthBetweenOrderByYearMonth(
+                        republicId, from.atDay(1), to.atDay(1)).stream()
+                .filter(entity -> entity.getEntryCount() > 0)
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int rebuild(UUID republicId) {
+        aggregateJpaRepository.lockForRebuild(republicId);
+        aggregateJpaRepository.deleteByRepublic(republicId);
+
+        LocalDateTime now = LocalDateTime.now();
+        return aggregateJpaRepository.insertExpenseTotals(republicId, now)
+                + aggregateJpaRepository.insertIncomeTotals(republicId, now);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !aggregateJpaRepository.existsAny();
+    }
+
+    private FinanceMonthlyAggregate toDomain(FinanceMonthlyAggregateJpaEntity entity) {
+        return FinanceMonthlyAggregate.builder()
+                .republicId(entity.getRepublicId())
+                .yearMonth(YearMonth.from(entity.getYearMonth()))
+                .category(NO_CATEGORY.equals(entity.getCategory()) ? null : entity.getCategory())
+                .kind(entity.getKind())
+                .totalAmount(entity.getTotalAmount())
+                .entryCount(entity.getEntryCount())
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.rephelper.domain.model.FinanceLedgerEntry;
+import com.rephelper.domain.model.LedgerBalance;
+import com.rephelper.domain.port.out.FinanceLedgerRepositoryPort;
+import com.rephelper.infrastructure.adapter.persistence.projection.LedgerBalanceProjection;
+import com.rephelper.infrastructure.entity.FinanceLedgerEntryJpaEntity;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementação do adaptador para o livro-razão das finanças usando JPA.
+ */
+@Component
+@RequiredArgsConstructor
+public class FinanceLedgerJpaAdapter implements FinanceLedgerRepositoryPort {
+
+    private final FinanceLedgerJpaRepository ledgerJpaRepository;
+
+    @Override
+    public void append(FinanceLedgerEntry entry) {
+        ledgerJpaRepository.save(FinanceLedgerEntryJpaEntity.builder()
+                .republicId(entry.getRepublicId())
+                .amount(entry.getAmount())
+                .kind(entry.getKind())
+                .referenceType(entry.getReferenceType())
+                .referenceId(entry.getReferenceId())
+                .createdAt(entry.getCreatedAt() != null ? entry.getCreatedAt() : LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    public boolean appendDebitIfCovered(FinanceLedgerEntry entry) {
+        // O saldo é lido depois do bloqueio, em uma nova instrução: enxerga os débitos já confirmados
+        ledgerJpaRepository.lockDebits(entry.getRepublicId());
+        return !ledgerJpaRepository.insertDebitIfCovered(
+                entry.getRepublicId(),
+                entry.getAmount(),
+                entry.getKind().name(),
+                entry.getReferenceType(),
+                entry.getReferenceId(),
+                entry.getCreatedAt() != null ? entry.getCreatedAt() : LocalDateTime.now()).isEmpty();
+    }
+
+    @Override
+    public LedgerBalance getBalance(UUID republicId) {
+        LedgerBalanceProjection balance = ledgerJpaRepository.getBalance(republicId);
+        return new LedgerBalance(balance.getBalance() != null ? balance.getBalance() : BigDecimal.ZERO,
+                balance.getLastEntryAt());
+    }
+
+    @Override
+    public long findCommittedWatermark() {
+        ledgerJpaRepository.lockAgainstInserts();
+        return ledgerJpaRepository.findMaxId();
+    }
+
+    @Override
+    public int snapshotUpTo(long watermark) {
+        return ledgerJpaRepository.insertSnapshots(watermark, LocalDateTime.now());
+    }
+
+    @Override
+    public int pruneSupersededSnapshots() {
+        return ledgerJpaRepository.deleteSupersededSnapshots();
+    }
+}
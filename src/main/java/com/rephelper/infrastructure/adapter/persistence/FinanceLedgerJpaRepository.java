@@ -0,0 +1,101 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.rephelper.infrastructure.adapter.persistence.projection.LedgerBalanceProjection;
+import com.rephelper.infrastructure.entity.FinanceLedgerEntryJpaEntity;
+
+/**
+ * Repositório JPA para o livro-razão das finanças e seus snapshots de saldo
+ */
+@Repository
+public interface FinanceLedgerJpaRepository extends JpaRepository<FinanceLedgerEntryJpaEntity, Long> {
+
+    // Último snapshot da república (0 / sem saldo quando não houver)
+    String LATEST_SNAPSHOT = "SELECT s.balance, s.last_entry_id, s.last_entry_at FROM finance_balance_snapshots s " +
+                             "WHERE s.republic_id = CAST(:republicId AS uuid) ORDER BY s.last_entry_id DESC LIMIT 1";
+
+    @Query(value = "WITH snap AS (" + LATEST_SNAPSHOT + ") " +
+                   "SELECT COALESCE((SELECT balance FROM snap), 0) + COALESCE(SUM(e.amount), 0) AS balance, " +
+                   "COALESCE(MAX(e.created_at), (SELECT last_entry_at FROM snap)) AS \"lastEntryAt\" " +
+                   "FROM finance_ledger_entries e " +
+                   "WHERE e.republic_id = CAST(:republicId AS uuid) " +
+                   "AND e.id > COALESCE((SELECT last_entry_id FROM snap), 0)",
+           nativeQuery = true)
+    LedgerBalanceProjection getBalance(@Param("republicId") UUID republicId);
+
+    /**
+     * Bloqueio consultivo dos débitos da república até o fim da transação (classe 1)
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(1, hashtext(CAST(:republicId AS text)))) AS l",
+           nativeQuery = true)
+    long lockDebits(@Param("republicId") UUID republicId);
+
+    /**
+     * Insere o débito somente se o saldo (snapshot + lançamentos posteriores) o cobrir
+     *
+     * @return ID do lançamento, ou lista vazia se o saldo for insuficiente
+     */
+    @Query(value = "WITH snap AS (" + LATEST_SNAPSHOT + ") " +
+                   "INSERT INTO finance_ledger_entries (republic_id, amount, kind, reference_type, reference_id, created_at) " +
+                   "SELECT CAST(:republicId AS uuid), :amount, :kind, :referenceType, :referenceId, :createdAt " +
+                   "WHERE COALESCE((SELECT balance FROM snap), 0) " +
+                   "+ COALESCE((SELECT SUM(e.amount) FROM finance_ledger_entries e " +
+                   "WHERE e.republic_id = CAST(:republicId AS uuid) " +
+                   "AND e.id > COALESCE((SELECT last_entry_id FROM snap), 0)), 0) " +
+                   "+ :amount >= 0 " +
+                   "RETURNING id",
+           nativeQuery = true)
+    List<Long> insertDebitIfCovered(@Param("republicId") UUID republicId,
+                                    @Param("amount") BigDecimal amount,
+                                    @Param("kind") String kind,
+                                    @Param("referenceType") String referenceType,
+                                    @Param("referenceId") String referenceId,
+                                    @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Espera as inserções em andamento terminarem e impede novas até o fim da transação
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE finance_ledger_entries IN SHARE MODE", nativeQuery = true)
+    void lockAgainstInserts();
+
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM finance_ledger_entries", nativeQuery = true)
+    long findMaxId();
+
+    /**
+     * Grava um snapshot por república com lançamentos entre o seu último snapshot e o watermark.
+     * Após cada execução todos os lançamentos até o watermark estão cobertos, então só os IDs acima
+     * do maior snapshot existente precisam ser lidos.
+     */
+    @Modifying
+    @Query(value = "WITH latest AS (" +
+                   "SELECT DISTINCT ON (republic_id) republic_id, balance, last_entry_id " +
+                   "FROM finance_balance_snapshots ORDER BY republic_id, last_entry_id DESC) " +
+                   "INSERT INTO finance_balance_snapshots (republic_id, last_entry_id, balance, last_entry_at, created_at) " +
+                   "SELECT e.republic_id, MAX(e.id), COALESCE(s.balance, 0) + SUM(e.amount), MAX(e.created_at), :now " +
+                   "FROM finance_ledger_entries e " +
+                   "LEFT JOIN latest s ON s.republic_id = e.republic_id " +
+                   "WHERE e.id <= :watermark " +
+                   "AND e.id > (SELECT COALESCE(MAX(last_entry_id), 0) FROM finance_balance_snapshots) " +
+                   "AND e.id > COALESCE(s.last_entry_id, 0) " +
+                   "GROUP BY e.republic_id, s.balance",
+           nativeQuery = true)
+    int insertSnapshots(@Param("watermark") long watermark, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "DELETE FROM finance_balance_snapshots s " +
+                   "WHERE EXISTS (SELECT 1 FROM finance_balance_snapshots n " +
+                   "WHERE n.republic_id = s.republic_id AND n.last_entry_id > s.last_entry_id)",
+           nativeQuery = true)
+    int deleteSupersededSnapshots();
+}
@@ -0,0 +1,97 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.rephelper.infrastructure.entity.FinanceMonthlyAggregateJpaEntity;
+
+/**
+ * Repositório JPA para os totais mensais de finanças
+ */
+@Repository
+public interface FinanceMonthlyAggregateJpaRepository
+        extends JpaRepository<FinanceMonthlyAggregateJpaEntity, FinanceMonthlyAggregateJpaEntity.FinanceMonthlyAggregateId> {
+
+    /**
+     * Soma valor e quantidade ao total do mês em um único upsert; atualizações concorrentes
+     * do mesmo total são serializadas pelo bloqueio da linha
+     */
+    @Modifying
+    @Query(value = "INSERT INTO finance_monthly_aggregates " +
+                   "(republic_id, year_month, category, kind, total_amount, entry_count, updated_at) " +
+                   "VALUES (:republicId, :yearMonth, :category, :kind, :amount, :entries, :updatedAt) " +
+                   "ON CONFLICT (republic_id, year_month, category, kind) DO UPDATE SET " +
+                   "total_amount = finance_monthly_aggregates.total_amount + EXCLUDED.total_amount, " +
+                   "entry_count = finance_monthly_aggregates.entry_count + EXCLUDED.entry_count, " +
+                   "updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    void add(@Param("republicId") UUID republicId,
+             @Param("yearMonth") LocalDate yearMonth,
+             @Param("category") String category,
+             @Param("kind") String kind,
+             @Param("amount") BigDecimal amount,
+             @Param("entries") long entries,
+             @Param("updatedAt") LocalDateTime updatedAt);
+
+    List<FinanceMonthlyAggregateJpaEntity> findByRepublicIdAndYearMonthBetweenOrderByYearMonth(
+            UUID republicId, LocalDate from, LocalDate to);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM finance_monthly_aggregates)", nativeQuery = true)
+    boolean existsAny();
+
+    /**
+     * Bloqueio consultivo compartilhado dos totais da república até o fim da transação (classe 2):
+     * atualizações incrementais não esperam umas pelas outras, apenas pelo recálculo
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock_shared(2, hashtext(CAST(:republicId AS text)))) AS l",
+           nativeQuery = true)
+    long lockForUpdate(@Param("republicId") UUID republicId);
+
+    /**
+     * Bloqueio consultivo exclusivo dos totais da república até o fim da transação (classe 2)
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(2, hashtext(CAST(:republicId AS text)))) AS l",
+           nativeQuery = true)
+    long lockForRebuild(@Param("republicId") UUID republicId);
+
+    @Modifying
+    @Query(value = "DELETE FROM finance_monthly_aggregates WHERE republic_id = :republicId", nativeQuery = true)
+    int deleteByRepublic(@Param("republicId") UUID republicId);
+
+    /**
+     * Recalcula os totais de despesas reembolsadas da república, agrupados no banco
+     */
+    @Modifying
+    @Query(value = "INSERT INTO finance_monthly_aggregates " +
+                   "(republic_id, year_month, category, kind, total_amount, entry_count, updated_at) " +
+                   "SELECT e.republic_id, CAST(date_trunc('month', e.expense_date) AS date), COALESCE(e.category, ''), " +
+                   "'EXPENSE', SUM(e.amount), COUNT(*), :updatedAt " +
+                   "FROM expenses e " +
+                   "WHERE e.republic_id = :republicId AND e.status = 'REIMBURSED' " +
+                   "GROUP BY e.republic_id, CAST(date_trunc('month', e.expense_date) AS date), COALESCE(e.category, '')",
+           nativeQuery = true)
+    int insertExpenseTotals(@Param("republicId") UUID republicId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Recalcula os totais de receitas da república por fonte, agrupados no banco
+     */
+    @Modifying
+    @Query(value = "INSERT INTO finance_monthly_aggregates " +
+                   "(republic_id, year_month, category, kind, total_amount, entry_count, updated_at) " +
+                   "SELECT i.republic_id, CAST(date_trunc('month', i.income_date) AS date), COALESCE(i.source, ''), " +
+                   "'INCOME', SUM(i.amount), COUNT(*), :updatedAt " +
+                   "FROM incomes i " +
+                   "WHERE i.republic_id = :republicId " +
+                   "GROUP BY i.republic_id, CAST(date_trunc('month', i.income_date) AS date), COALESCE(i.source, '')",
+           nativeQuery = true)
+    int insertIncomeTotals(@Param("republicId") UUID republicId, @Param("updatedAt") LocalDateTime updatedAt);
+}
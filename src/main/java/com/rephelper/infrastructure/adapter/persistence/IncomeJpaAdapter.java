@@ -2,6 +2,7 @@ package com.rephelper.infrastructure.adapter.persistence;
 
 import com.rephelper.domain.model.Income;
 import com.rephelper.domain.port.out.IncomeRepositoryPort;
+import com.rephelper.infrastructure.adapter.persistence.util.FinanceExports;
 import com.rephelper.infrastructure.entity.IncomeJpaEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -11,6 +12,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of IncomeRepositoryPort using JPA
@@ -86,6 +88,12 @@ public class IncomeJpaAdapter implements IncomeRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Stream<Income> streamForExport(UUID republicId, LocalDateTime startDate, LocalDateTime endDate) {
+        return incomeJpaRepository.streamForExport(republicId, startDate, endDate)
+                .map(FinanceExports::fromIncome);
+    }
+
     @Override
     public void delete(Income income) {
         incomeJpaRepository.deleteById(income.getId());
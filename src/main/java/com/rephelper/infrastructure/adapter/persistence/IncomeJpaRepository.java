@@ -1,14 +1,20 @@
 package com.rephelper.infrastructure.adapter.persistence;
 
+import com.rephelper.infrastructure.adapter.persistence.projection.IncomeExportProjection;
+import com.rephelper.infrastructure.adapter.persistence.projection.UserTotalProjection;
 import com.rephelper.infrastructure.entity.IncomeJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * JPA Repository for Incomes
@@ -36,4 +42,43 @@ public interface IncomeJpaRepository extends JpaRepository<IncomeJpaEntity, Long
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
     List<IncomeJpaEntity> findByRepublicUuidAndSource(UUID republicId, String source);
-}
\ No newline at end of file
+
+    @Query("SELECT i.source AS category, SUM(i.amount) AS totalAmount, COUNT(i) AS entryCount " +
+            "FROM IncomeJpaEntity i WHERE i.republic.uuid = :republicId AND " +
+            "i.incomeDate >= :startDate AND i.incomeDate <= :endDate " +
+            "GROUP BY i.source")
+
+    @Query("SELECT YEAR(i.incomeDate) AS periodYear, MONTH(i.incomeDate) AS periodMonth, " +
+            "SUM(i.amount) AS totalAmount, COUNT(i) AS entryCount " +
+            "FROM IncomeJpaEntity i WHERE i.republic.uuid = :republicId AND " +
+            "i.incomeDate >= :startDate AND i.incomeDate <= :endDate " +
+            "GROUP BY YEAR(i.incomeDate), MONTH(i.incomeDate) " +
+            "ORDER BY YEAR(i.incomeDate), MONTH(i.incomeDate)")
+
+    @Query("SELECT c.uuid AS userId, c.name AS userName, c.nickname AS userNickname, " +
+            "SUM(i.amount) AS totalAmount, COUNT(i) AS entryCount " +
+            "FROM IncomeJpaEntity i JOIN i.contributor c WHERE i.republic.uuid = :republicId AND " +
+            "i.incomeDate >= :startDate AND i.incomeDate <= :endDate " +
+            "GROUP BY c.uuid, c.name, c.nickname " +
+            "ORDER BY SUM(i.amount) DESC")
+
+    /**
+     * Walks the incomes of a republic through a cursor, ordered by date; null filters are ignored.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExpenseJpaRepository.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i.id AS id, i.description AS description, i.amount AS amount, i.incomeDate AS incomeDate, " +
+            "i.source AS source, i.createdAt AS createdAt, " +
+            "c.uuid AS contributorId, c.name AS contributorName, c.nickname AS contributorNickname " +
+            "FROM IncomeJpaEntity i LEFT JOIN i.contributor c WHERE i.republic.uuid = :republicId AND " +
+            "(:startDate IS NULL OR i.incomeDate >= :startDate) AND " +
+            "(:endDate IS NULL OR i.incomeDate <= :endDate) " +
+            "ORDER BY i.incomeDate, i.id")
+    Stream<IncomeExportProjection> streamForExport(
+            @Param("republicId") UUID republicId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate);
+}
@@ -0,0 +1,44 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.rephelper.domain.port.out.JobCheckpointRepositoryPort;
+import com.rephelper.infrastructure.entity.JobCheckpointJpaEntity;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementação do adaptador para checkpoints de jobs usando JPA.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobCheckpointJpaAdapter implements JobCheckpointRepositoryPort {
+
+    private final JobCheckpointJpaRepository jobCheckpointJpaRepository;
+
+    @Override
+    public Optional<Long> findLastProcessedId(String jobName) {
+        return jobCheckpointJpaRepository.findById(jobName)
+                .map(JobCheckpointJpaEntity::getLastProcessedId);
+    }
+
+    @Override
+    public void saveCheckpoint(String jobName, Long lastProcessedId) {
+        JobCheckpointJpaEntity checkpoint = JobCheckpointJpaEntity.builder()
+                .jobName(jobName)
+                .lastProcessedId(lastProcessedId)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        jobCheckpointJpaRepository.save(checkpoint);
+    }
+
+    @Override
+    public void clearCheckpoint(String jobName) {
+        if (jobCheckpointJpaRepository.existsById(jobName)) {
+            jobCheckpointJpaRepository.deleteById(jobName);
+        }
+    }
+}
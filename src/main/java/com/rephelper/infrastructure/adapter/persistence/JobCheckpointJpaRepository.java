@@ -0,0 +1,13 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.rephelper.infrastructure.entity.JobCheckpointJpaEntity;
+
+/**
+ * Repositório JPA para checkpoints de jobs
+ */
+@Repository
+public interface JobCheckpointJpaRepository extends JpaRepository<JobCheckpointJpaEntity, String> {
+}
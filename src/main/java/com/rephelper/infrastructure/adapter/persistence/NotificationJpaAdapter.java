@@ -1,13 +1,21 @@
 package com.rephelper.infrastructure.adapter.persistence;
 
+import com.rephelper.application.dto.request.NotificationFilterRequest;
+import com.rephelper.application.dto.response.CursorPagedResponse;
 import com.rephelper.domain.model.Notification;
 import com.rephelper.domain.port.out.NotificationRepositoryPort;
+import com.rephelper.infrastructure.adapter.persistence.specification.NotificationSpecification;
+import com.rephelper.infrastructure.adapter.persistence.util.NotificationCursor;
 import com.rephelper.infrastructure.entity.NotificationJpaEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,7 +28,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationJpaAdapter implements NotificationRepositoryPort {
 
+    private static final int DEFAULT_INBOX_PAGE_SIZE = 20;
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
+    // Mesma ordem do índice idx_notification_recipient_created_at_id
+    private static final Sort INBOX_SORT = Sort.by(Sort.Direction.DESC, "createdAt")
+            .and(Sort.by(Sort.Direction.DESC, "id"));
+
     private final NotificationJpaRepository notificationJpaRepository;
+    private final NotificationReadWatermarkJpaRepository watermarkJpaRepository;
+    private final UserJpaRepository userJpaRepository;
     private final NotificationMapper notificationMapper;
 
     @Override
@@ -30,10 +46,30 @@ public class NotificationJpaAdapter implements NotificationRepositoryPort {
         return notificationMapper.toDomainEntity(savedEntity);
     }
 
+    @Override
+    public List<Notification> saveAll(List<Notification> notifications) {
+        // Destinatários como referências (sem SELECT do usuário); as inserções são agrupadas
+        // pelo Hibernate (hibernate.jdbc.batch_size) e os IDs vêm do pool da sequência
+        List<NotificationJpaEntity> entities = notifications.stream()
+                .map(notification -> {
+                    NotificationJpaEntity entity = notificationMapper.toJpaEntityWithoutRecipient(notification);
+                    entity.setRecipient(userJpaRepository.getReferenceById(notification.getRecipient().getId()));
+                    return entity;
+                })
+                .collect(Collectors.toList());
+        return notificationJpaRepository.saveAll(entities).stream()
+                .map(notificationMapper::toDomainEntityWithRecipientReference)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Notification> findById(Long id) {
         return notificationJpaRepository.findById(id)
-                .map(notificationMapper::toDomainEntity);
+                .map(entity -> {
+                    Notification notification = notificationMapper.toDomainEntity(entity);
+                    notification.applyReadWatermark(readUpTo(entity.getRecipient().getUuid()));
+                    return notification;
+                });
     }
 
     @Override
@@ -45,9 +81,9 @@ public class NotificationJpaAdapter implements NotificationRepositoryPort {
 
     @Override
     public List<Notification> findByRecipientId(UUID recipientId) {
-        return notificationJpaRepository.findByRecipientUuidOrderByCreatedAtDesc(recipientId).stream()
+        return withReadWatermark(recipientId, notificationJpaRepository.findByRecipientUuidOrderByCreatedAtDesc(recipientId).stream()
                 .map(notificationMapper::toDomainEntity)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
@@ -57,6 +93,48 @@ public class NotificationJpaAdapter implements NotificationRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Notification> findByRecipientIdCreatedSince(UUID recipientId, LocalDateTime since, int limit) {
+        return withReadWatermark(recipientId, notificationJpaRepository.findByRecipientIdCreatedSince(recipientId, since, PageRequest.of(0, limit)).stream()
+                .map(notificationMapper::toDomainEntityWithRecipientReference)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public CursorPagedResponse<Notification> findInbox(UUID recipientId, NotificationFilterRequest filter) {
+        int size = filter.getSize() != null && filter.getSize() > 0
+                ? Math.min(filter.getSize(), MAX_INBOX_PAGE_SIZE)
+                : DEFAULT_INBOX_PAGE_SIZE;
+
+        Specification<NotificationJpaEntity> spec = NotificationSpecification.forInbox(recipientId, filter);
+        if (filter.getCursor() != null && !filter.getCursor().isBlank()) {
+            spec = spec.and(NotificationSpecification.afterCursor(NotificationCursor.decode(filter.getCursor())));
+        }
+
+        // Busca size + 1 linhas para saber se existe próxima página, sem COUNT(*) nem OFFSET;
+        // o destinatário é o próprio usuário, então basta a referência pelo ID
+        List<NotificationJpaEntity> rows = notificationJpaRepository.findBy(spec, query -> query
+                .sortBy(INBOX_SORT)
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = rows.size() > size;
+        List<NotificationJpaEntity> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext
+                ? NotificationCursor.of(pageRows.get(pageRows.size() - 1)).encode()
+                : null;
+
+        return CursorPagedResponse.<Notification>builder()
+                .content(withReadWatermark(recipientId, pageRows.stream()
+                        .map(notificationMapper::toDomainEntityWithRecipientReference)
+                        .collect(Collectors.toList())))
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
     @Override
     public int countUnreadByRecipientId(UUID recipientId) {
         return notificationJpaRepository.countUnreadByRecipientId(recipientId);
@@ -65,14 +143,26 @@ public class NotificationJpaAdapter implements NotificationRepositoryPort {
     @Override
     public List<Notification> findByTypeAndRecipientId(Notification.NotificationType type, UUID recipientId) {
         NotificationJpaEntity.NotificationTypeJpa jpaType = notificationMapper.mapToJpaNotificationType(type);
-        return notificationJpaRepository.findByTypeAndRecipientUuid(jpaType, recipientId).stream()
+        return withReadWatermark(recipientId, notificationJpaRepository.findByTypeAndRecipientUuid(jpaType, recipientId).stream()
                 .map(notificationMapper::toDomainEntity)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
     public void markAllAsReadForRecipient(UUID recipientId) {
-        notificationJpaRepository.markAllAsReadForRecipient(recipientId);
+        // Um único upsert da marca d'água; as linhas das notificações não são alteradas.
+        // O horário é tomado sob o bloqueio exclusivo: lotes em andamento já foram confirmados,
+        // e os próximos só carimbam created_at depois do commit desta transação
+        watermarkJpaRepository.lockForMarkAllRead(recipientId);
+        watermarkJpaRepository.advance(recipientId, LocalDateTime.now());
+    }
+
+    @Override
+    public void lockReadStateForInsert(Collection<UUID> recipientIds) {
+        if (recipientIds == null || recipientIds.isEmpty()) {
+            return;
+        }
+        watermarkJpaRepository.lockForInsert(recipientIds);
     }
 
     @Override
@@ -85,4 +175,27 @@ public class NotificationJpaAdapter implements NotificationRepositoryPort {
         LocalDateTime cutoffDate = LocalDateTime.now().minus(days, ChronoUnit.DAYS);
         notificationJpaRepository.deleteOldNotifications(recipientId, cutoffDate);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<UUID> purgeExpired(Collection<Notification.NotificationType> types, LocalDateTime cutoff, int limit) {
+        List<String> typeNames = types.stream()
+                .map(type -> notificationMapper.mapToJpaNotificationType(type).name())
+                .collect(Collectors.toList());
+        return notificationJpaRepository.purgeExpired(typeNames, cutoff, limit);
+    }
+
+    private LocalDateTime readUpTo(UUID recipientId) {
+        return watermarkJpaRepository.findReadUpToByRecipientId(recipientId).orElse(null);
+    }
+
+    /**
+     * Aplica a marca d'água do usuário (uma consulta por lista) às notificações carregadas
+     */
+    private List<Notification> withReadWatermark(UUID recipientId, List<Notification> notifications) {
+        if (!notifications.isEmpty()) {
+            LocalDateTime readUpTo = readUpTo(recipientId);
+            notifications.forEach(notification -> notification.applyReadWatermark(readUpTo));
+        }
+        return notifications;
+    }
+}
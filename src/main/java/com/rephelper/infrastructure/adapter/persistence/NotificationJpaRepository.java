@@ -1,13 +1,16 @@
 package com.rephelper.infrastructure.adapter.persistence;
 
 import com.rephelper.infrastructure.entity.NotificationJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,23 +18,61 @@ import java.util.UUID;
  * JPA Repository for Notifications
  */
 @Repository
-public interface NotificationJpaRepository extends JpaRepository<NotificationJpaEntity, Long> {
+public interface NotificationJpaRepository extends JpaRepository<NotificationJpaEntity, Long>, JpaSpecificationExecutor<NotificationJpaEntity> {
 
     List<NotificationJpaEntity> findByRecipientUuidOrderByCreatedAtDesc(UUID recipientId);
 
-    @Query("SELECT n FROM NotificationJpaEntity n WHERE n.recipient.uuid = :recipientId AND n.read = false ORDER BY n.createdAt DESC")
+    /**
+     * Não lidas: sem a flag de leitura e criadas depois da marca d'água do usuário
+     */
+    @Query("SELECT n FROM NotificationJpaEntity n WHERE n.recipient.uuid = :recipientId AND n.read = false " +
+           "AND NOT EXISTS (SELECT w FROM NotificationReadWatermarkJpaEntity w " +
+           "                WHERE w.recipientId = :recipientId AND w.readUpTo >= n.createdAt) " +
+           "ORDER BY n.createdAt DESC")
     List<NotificationJpaEntity> findUnreadByRecipientId(@Param("recipientId") UUID recipientId);
 
-    @Query("SELECT COUNT(n) FROM NotificationJpaEntity n WHERE n.recipient.uuid = :recipientId AND n.read = false")
+    @Query("SELECT COUNT(n) FROM NotificationJpaEntity n WHERE n.recipient.uuid = :recipientId AND n.read = false " +
+           "AND NOT EXISTS (SELECT w FROM NotificationReadWatermarkJpaEntity w " +
+           "                WHERE w.recipientId = :recipientId AND w.readUpTo >= n.createdAt)")
     int countUnreadByRecipientId(@Param("recipientId") UUID recipientId);
 
-    List<NotificationJpaEntity> findByTypeAndRecipientUuid(NotificationJpaEntity.NotificationTypeJpa type, UUID recipientId);
+    /**
+     * Notificações do usuário criadas a partir do instante informado, na ordem da caixa invertida
+     * (created_at, id), para usar o índice (recipient_id, created_at, id) na retomada do stream SSE
+     */
+    @Query("SELECT n FROM NotificationJpaEntity n WHERE n.recipient.uuid = :recipientId AND n.createdAt >= :since " +
+           "ORDER BY n.createdAt ASC, n.id ASC")
+    List<NotificationJpaEntity> findByRecipientIdCreatedSince(@Param("recipientId") UUID recipientId,
+                                                              @Param("since") LocalDateTime since,
+                                                              Pageable pageable);
 
-    @Modifying
-    @Query("UPDATE NotificationJpaEntity n SET n.read = true, n.readAt = CURRENT_TIMESTAMP WHERE n.recipient.uuid = :recipientId AND n.read = false")
-    void markAllAsReadForRecipient(@Param("recipientId") UUID recipientId);
+    List<NotificationJpaEntity> findByTypeAndRecipientUuid(NotificationJpaEntity.NotificationTypeJpa type, UUID recipientId);
 
     @Modifying
     @Query("DELETE FROM NotificationJpaEntity n WHERE n.recipient.uuid = :recipientId AND n.createdAt < :cutoffDate")
     void deleteOldNotifications(@Param("recipientId") UUID recipientId, @Param("cutoffDate") LocalDateTime cutoffDate);
-}
\ No newline at end of file
+
+    /**
+     * Exclusão em lote para a retenção: remove até {@code limit} notificações dos tipos informados
+     * criadas antes do corte, em um único DELETE, e retorna o destinatário de cada linha removida.
+     * Linhas bloqueadas por outras transações são ignoradas e ficam para o próximo lote.
+     *
+     * @param types Nomes dos tipos de notificação
+     * @param cutoff Data de corte da retenção
+     * @param limit Tamanho máximo do lote
+     * @return Destinatários das notificações removidas (um por linha)
+     */
+    @Query(value = "DELETE FROM notifications " +
+                   "WHERE id IN (" +
+                   "    SELECT id FROM notifications " +
+                   "    WHERE created_at < :cutoff " +
+                   "    AND type IN (:types) " +
+                   "    LIMIT :limit " +
+                   "    FOR UPDATE SKIP LOCKED" +
+                   ") " +
+                   "RETURNING recipient_id",
+           nativeQuery = true)
+    List<UUID> purgeExpired(@Param("types") Collection<String> types,
+                            @Param("cutoff") LocalDateTime cutoff,
+                            @Param("limit") int limit);
+}
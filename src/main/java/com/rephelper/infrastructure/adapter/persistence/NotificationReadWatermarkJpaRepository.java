@@ -0,0 +1,52 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.rephelper.infrastructure.entity.NotificationReadWatermarkJpaEntity;
+
+/**
+ * Repositório JPA para as marcas d'água de leitura de notificações
+ */
+@Repository
+public interface NotificationReadWatermarkJpaRepository extends JpaRepository<NotificationReadWatermarkJpaEntity, UUID> {
+
+    @Query("SELECT w.readUpTo FROM NotificationReadWatermarkJpaEntity w WHERE w.recipientId = :recipientId")
+    Optional<LocalDateTime> findReadUpToByRecipientId(@Param("recipientId") UUID recipientId);
+
+    /**
+     * Bloqueio consultivo compartilhado do estado de leitura dos destinatários até o fim da transação (classe 3):
+     * gravações de notificações não esperam umas pelas outras, apenas pelo "marcar todas como lidas"
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock_shared(3, hashtext(CAST(u.uuid AS text))) " +
+                   "FROM users u WHERE u.uuid IN (:recipientIds) ORDER BY u.uuid) AS l",
+           nativeQuery = true)
+    long lockForInsert(@Param("recipientIds") Collection<UUID> recipientIds);
+
+    /**
+     * Bloqueio consultivo exclusivo do estado de leitura do destinatário até o fim da transação (classe 3)
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(3, hashtext(CAST(:recipientId AS text)))) AS l",
+           nativeQuery = true)
+    long lockForMarkAllRead(@Param("recipientId") UUID recipientId);
+
+    /**
+     * Avança a marca d'água do usuário em um único upsert (nunca retrocede)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO notification_read_watermarks (recipient_id, read_up_to, updated_at) " +
+                   "VALUES (:recipientId, :readUpTo, :readUpTo) " +
+                   "ON CONFLICT (recipient_id) DO UPDATE " +
+                   "SET read_up_to = GREATEST(notification_read_watermarks.read_up_to, EXCLUDED.read_up_to), " +
+                   "    updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    void advance(@Param("recipientId") UUID recipientId, @Param("readUpTo") LocalDateTime readUpTo);
+}
@@ -0,0 +1,99 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.rephelper.domain.model.Notification;
+import com.rephelper.domain.model.PushMessage;
+import com.rephelper.domain.model.PushOutboxEntry;
+import com.rephelper.domain.port.out.PushOutboxRepositoryPort;
+import com.rephelper.infrastructure.entity.NotificationJpaEntity;
+import com.rephelper.infrastructure.entity.PushOutboxJpaEntity;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementação do adaptador para o outbox de envio push usando JPA.
+ */
+@Component
+@RequiredArgsConstructor
+public class PushOutboxJpaAdapter implements PushOutboxRepositoryPort {
+
+    private final PushOutboxJpaRepository pushOutboxJpaRepository;
+
+    @Override
+    public void enqueue(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        List<Long> ids = notifications.stream().map(Notification::getId).collect(Collectors.toList());
+        pushOutboxJpaRepository.enqueue(ids, LocalDateTime.now());
+    }
+
+    @Override
+    public List<PushOutboxEntry> claimDue(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = pushOutboxJpaRepository.claimDue(now, now.plus(lease), limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return pushOutboxJpaRepository.findWithNotificationByIdIn(ids).stream()
+                .map(this::toEntry)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void markSent(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            pushOutboxJpaRepository.updateStatus(ids, PushOutboxJpaEntity.PushOutboxStatusJpa.SENT, null);
+        }
+    }
+
+    @Override
+    public void reschedule(Collection<Long> ids, LocalDateTime nextAttemptAt, String error) {
+        if (!ids.isEmpty()) {
+            pushOutboxJpaRepository.reschedule(ids, nextAttemptAt, error);
+        }
+    }
+
+    @Override
+    public void markFailed(Collection<Long> ids, String error) {
+        if (!ids.isEmpty()) {
+            pushOutboxJpaRepository.updateStatus(ids, PushOutboxJpaEntity.PushOutboxStatusJpa.FAILED, error);
+        }
+    }
+
+    private PushOutboxEntry toEntry(PushOutboxJpaEntity entity) {
+        NotificationJpaEntity notification = entity.getNotification();
+
+        // Sem o ID da notificação: as entradas do mesmo lote de notificações têm o mesmo conteúdo
+        // e são enviadas juntas em multicast
+        Map<String, String> data = new LinkedHashMap<>();
+        data.put("type", notification.getType().name());
+        if (notification.getEntityType() != null) {
+            data.put("entityType", notification.getEntityType());
+        }
+        if (notification.getEntityId() != null) {
+            data.put("entityId", notification.getEntityId());
+        }
+
+        return PushOutboxEntry.builder()
+                .id(entity.getId())
+                .notificationId(notification.getId())
+                .recipientId(entity.getRecipientId())
+                .attempts(entity.getAttempts())
+                .message(PushMessage.builder()
+                        .title(notification.getTitle())
+                        .body(notification.getMessage())
+                        .data(data)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.rephelper.infrastructure.entity.PushOutboxJpaEntity;
+
+/**
+ * Repositório JPA para o outbox de envio push
+ */
+@Repository
+public interface PushOutboxJpaRepository extends JpaRepository<PushOutboxJpaEntity, Long> {
+
+    /**
+     * Enfileira as notificações informadas em um único INSERT, somente para destinatários
+     * com ao menos um dispositivo registrado
+     *
+     * @return Quantidade de entradas criadas
+     */
+    @Modifying
+    @Query(value = "INSERT INTO push_outbox (notification_id, recipient_id, status, attempts, next_attempt_at, created_at) " +
+                   "SELECT n.id, n.recipient_id, 'PENDING', 0, :now, :now " +
+                   "FROM notifications n " +
+                   "WHERE n.id IN (:notificationIds) " +
+                   "AND EXISTS (SELECT 1 FROM device_tokens d WHERE d.user_id = n.recipient_id)",
+           nativeQuery = true)
+    int enqueue(@Param("notificationIds") Collection<Long> notificationIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Reserva até {@code limit} entradas pendentes já liberadas para envio, em um único UPDATE:
+     * incrementa as tentativas e adia a próxima tentativa até o fim da reserva, para que uma
+     * instância que caia no meio do envio não bloqueie as entradas. Linhas bloqueadas por outras
+     * instâncias são ignoradas.
+     *
+     * @return IDs das entradas reservadas
+     */
+    @Query(value = "UPDATE push_outbox SET attempts = attempts + 1, next_attempt_at = :leaseUntil " +
+                   "WHERE id IN (" +
+                   "    SELECT id FROM push_outbox " +
+                   "    WHERE status = 'PENDING' " +
+                   "    AND next_attempt_at <= :now " +
+                   "    ORDER BY next_attempt_at, id " +
+                   "    LIMIT :limit " +
+                   "    FOR UPDATE SKIP LOCKED" +
+                   ") " +
+                   "RETURNING id",
+           nativeQuery = true)
+    List<Long> claimDue(@Param("now") LocalDateTime now,
+                        @Param("leaseUntil") LocalDateTime leaseUntil,
+                        @Param("limit") int limit);
+
+    @Query("SELECT o FROM PushOutboxJpaEntity o JOIN FETCH o.notification WHERE o.id IN :ids ORDER BY o.id")
+    List<PushOutboxJpaEntity> findWithNotificationByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE PushOutboxJpaEntity o SET o.status = :status, o.lastError = :error WHERE o.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") PushOutboxJpaEntity.PushOutboxStatusJpa status,
+                     @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE PushOutboxJpaEntity o SET o.nextAttemptAt = :nextAttemptAt, o.lastError = :error WHERE o.id IN :ids")
+    int reschedule(@Param("ids") Collection<Long> ids,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+}
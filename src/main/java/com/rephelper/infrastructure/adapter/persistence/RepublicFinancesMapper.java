@@ -1,56 +1,29 @@
 package com.rephelper.infrastructure.adapter.persistence;
 
-import com.rephelper.domain.model.Republic;
 import com.rephelper.domain.model.RepublicFinances;
+import com.rephelper.infrastructure.config.CommonMapperConfig;
 import com.rephelper.infrastructure.entity.RepublicFinancesJpaEntity;
-import com.rephelper.infrastructure.entity.RepublicJpaEntity;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import static com.rephelper.infrastructure.adapter.persistence.ShallowEntityMapper.REPUBLIC_ENTITY_WITHOUT_USERS;
+import static com.rephelper.infrastructure.adapter.persistence.ShallowEntityMapper.REPUBLIC_WITHOUT_USERS;
 
 /**
  * Maps between RepublicFinances domain model and RepublicFinancesJpaEntity
  */
-@Component
-public class RepublicFinancesMapper {
-
-    @Autowired
-    private RepublicMapper republicMapper;
+@Mapper(config = CommonMapperConfig.class, uses = ShallowEntityMapper.class)
+public interface RepublicFinancesMapper {
 
     /**
      * Converts a JPA entity to a domain entity
      */
-    public RepublicFinances toDomainEntity(RepublicFinancesJpaEntity jpaEntity) {
-        if (jpaEntity == null) return null;
-
-        Republic republic = null;
-        if (jpaEntity.getRepublic() != null) {
-            republic = republicMapper.toDomainEntityWithoutUsers(jpaEntity.getRepublic());
-        }
-
-        return RepublicFinances.builder()
-                .id(jpaEntity.getId())
-                .republic(republic)
-                .currentBalance(jpaEntity.getCurrentBalance())
-                .lastUpdated(jpaEntity.getLastUpdated())
-                .build();
-    }
+    @Mapping(target = "republic", qualifiedByName = REPUBLIC_WITHOUT_USERS)
+    RepublicFinances toDomainEntity(RepublicFinancesJpaEntity jpaEntity);
 
     /**
      * Converts a domain entity to a JPA entity
      */
-    public RepublicFinancesJpaEntity toJpaEntity(RepublicFinances domainEntity) {
-        if (domainEntity == null) return null;
-
-        RepublicJpaEntity republicEntity = null;
-        if (domainEntity.getRepublic() != null) {
-            republicEntity = republicMapper.toJpaEntityWithoutUsers(domainEntity.getRepublic());
-        }
-
-        return RepublicFinancesJpaEntity.builder()
-                .id(domainEntity.getId())
-                .republic(republicEntity)
-                .currentBalance(domainEntity.getCurrentBalance())
-                .lastUpdated(domainEntity.getLastUpdated())
-                .build();
-    }
-}
\ No newline at end of file
+    @Mapping(target = "republic", qualifiedByName = REPUBLIC_ENTITY_WITHOUT_USERS)
+    RepublicFinancesJpaEntity toJpaEntity(RepublicFinances domainEntity);
+}
@@ -0,0 +1,77 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.ValueMapping;
+
+import com.rephelper.domain.model.Address;
+import com.rephelper.domain.model.Republic;
+import com.rephelper.domain.model.User;
+import com.rephelper.infrastructure.config.CommonMapperConfig;
+import com.rephelper.infrastructure.entity.RepublicJpaEntity;
+import com.rephelper.infrastructure.entity.UserJpaEntity;
+
+/**
+ * Mapeamentos rasos de usuário e república, sem as associações entre eles.
+ * É usado pelos demais mappers para as referências aninhadas, o que corta o ciclo
+ * User -> Republic -> User sem precisar de um contexto de rastreamento por chamada.
+ */
+@Mapper(config = CommonMapperConfig.class)
+public interface ShallowEntityMapper {
+
+    String USER_WITHOUT_REPUBLIC = "userWithoutRepublic";
+    String USER_ENTITY_WITHOUT_REPUBLIC = "userEntityWithoutRepublic";
+    String USER_REFERENCE = "userReference";
+    String REPUBLIC_WITHOUT_USERS = "republicWithoutUsers";
+    String REPUBLIC_ENTITY_WITHOUT_USERS = "republicEntityWithoutUsers";
+
+    @Named(USER_WITHOUT_REPUBLIC)
+    @Mapping(target = "id", source = "uuid")
+    @Mapping(target = "currentRepublic", ignore = true)
+    User toUserWithoutRepublic(UserJpaEntity jpaEntity);
+
+    @Named(USER_ENTITY_WITHOUT_REPUBLIC)
+    @Mapping(target = "uuid", source = "id")
+    @Mapping(target = "currentRepublic", ignore = true)
+    UserJpaEntity toUserEntityWithoutRepublic(User domainEntity);
+
+    /**
+     * Usuário apenas com o ID. Ler o ID de um proxy lazy não dispara a consulta do usuário
+     */
+    @Named(USER_REFERENCE)
+    default User toUserReference(UserJpaEntity jpaEntity) {
+        return jpaEntity == null ? null : User.builder().id(jpaEntity.getUuid()).build();
+    }
+
+    @Named(REPUBLIC_WITHOUT_USERS)
+    @Mapping(target = "id", source = "uuid")
+    @Mapping(target = "address", source = ".")
+    @Mapping(target = "owner", ignore = true)
+    @Mapping(target = "members", ignore = true)
+    Republic toRepublicWithoutUsers(RepublicJpaEntity jpaEntity);
+
+    @Named(REPUBLIC_ENTITY_WITHOUT_USERS)
+    @Mapping(target = "uuid", source = "id")
+    @Mapping(target = "street", source = "address.street")
+    @Mapping(target = "number", source = "address.number")
+    @Mapping(target = "complement", source = "address.complement")
+    @Mapping(target = "neighborhood", source = "address.neighborhood")
+    @Mapping(target = "city", source = "address.city")
+    @Mapping(target = "state", source = "address.state")
+    @Mapping(target = "zipCode", source = "address.zipCode")
+    @Mapping(target = "owner", ignore = true)
+    @Mapping(target = "members", ignore = true)
+    RepublicJpaEntity toRepublicEntityWithoutUsers(Republic domainEntity);
+
+    /**
+     * Monta o endereço a partir das colunas da república
+     */
+    Address toAddress(RepublicJpaEntity jpaEntity);
+
+    @ValueMapping(source = "email", target = "EMAIL")
+    User.AuthProvider toDomainAuthProvider(UserJpaEntity.AuthProvider provider);
+
+    @ValueMapping(source = "EMAIL", target = "email")
+    UserJpaEntity.AuthProvider toJpaAuthProvider(User.AuthProvider provider);
+}
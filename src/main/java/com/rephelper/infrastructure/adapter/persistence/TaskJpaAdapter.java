@@ -1,6 +1,7 @@
 package com.rephelper.infrastructure.adapter.persistence;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,13 +10,19 @@ import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import com.rephelper.application.dto.request.TaskFilterRequest;
+import com.rephelper.application.dto.response.CursorPagedResponse;
+import com.rephelper.domain.exception.ValidationException;
 import com.rephelper.domain.model.Task;
 import com.rephelper.domain.port.out.TaskRepositoryPort;
 import com.rephelper.infrastructure.adapter.persistence.specification.TaskSpecification;
 import com.rephelper.infrastructure.adapter.persistence.util.QueryUtils;
+import com.rephelper.infrastructure.adapter.persistence.util.TaskCursor;
 import com.rephelper.infrastructure.entity.TaskJpaEntity;
 
 import lombok.RequiredArgsConstructor;
@@ -27,34 +34,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class TaskJpaAdapter implements TaskRepositoryPort {
 
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 20;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TaskJpaRepository taskJpaRepository;
     private final TaskMapper taskMapper;
 
     @Override
     public Task save(Task task) {
-        // Ensure createdAt is set for new tasks
-        if (task.getId() == null && task.getCreatedAt() == null) {
-            task = Task.builder()
-                .id(task.getId())
-                .title(task.getTitle())
-                .description(task.getDescription())
-                .republic(task.getRepublic())
-                .assignedUsers(task.getAssignedUsers())
-                .status(task.getStatus())
-                .dueDate(task.getDueDate())
-                .completedAt(task.getCompletedAt())
-                .category(task.getCategory())
-                .createdAt(LocalDateTime.now())
-                    .createdBy(task.getCreatedBy())
-                .updatedAt(task.getUpdatedAt())
-                .isRecurring(task.isRecurring())
-                .recurrenceType(task.getRecurrenceType())
-                .recurrenceInterval(task.getRecurrenceInterval())
-                .recurrenceEndDate(task.getRecurrenceEndDate())
-                .parentTaskId(task.getParentTaskId())
-                .build();
-        }
-        
+        // createdAt/updatedAt de tarefas novas são preenchidos em TaskJpaEntity.prePersist
         TaskJpaEntity taskEntity = taskMapper.toJpaEntity(task);
         TaskJpaEntity savedEntity = taskJpaRepository.save(taskEntity);
         return taskMapper.toDomainEntity(savedEntity);
@@ -62,7 +50,7 @@ public class TaskJpaAdapter implements TaskRepositoryPort {
 
     @Override
     public Optional<Task> findById(Long id) {
-        return taskJpaRepository.findById(id)
+        return taskJpaRepository.findDetailedById(id)
                 .map(taskMapper::toDomainEntity);
     }
 
@@ -150,11 +138,16 @@ public class TaskJpaAdapter implements TaskRepositoryPort {
             pageRequest = pageable != null ? pageable : QueryUtils.createPageRequest(new TaskFilterRequest());
         }
         
+        Specification<TaskJpaEntity> spec = TaskSpecification.withFilters(republicId, filter);
+
+        // Ordenação por relevância da busca textual: a ordem é definida pela especificação
+        if (filter != null && filter.isSortedByRelevance()) {
+            pageRequest = PageRequest.of(pageRequest.getPageNumber(), pageRequest.getPageSize());
+            spec = spec.and(TaskSpecification.orderByRelevance(filter.getSearchTerm().trim()));
+        }
+
         // Aplicar os filtros usando a especificação
-        Page<TaskJpaEntity> taskEntities = taskJpaRepository.findAll(
-                TaskSpecification.withFilters(republicId, filter),
-                pageRequest
-        );
+        Page<TaskJpaEntity> taskEntities = taskJpaRepository.findAll(spec, pageRequest);
         
         // Mapear os resultados para entidades de domínio
         return taskEntities.map(taskMapper::toDomainEntity);
@@ -183,16 +176,90 @@ public class TaskJpaAdapter implements TaskRepositoryPort {
             pageRequest = pageable != null ? pageable : QueryUtils.createPageRequest(new TaskFilterRequest());
         }
         
+        Specification<TaskJpaEntity> spec = TaskSpecification.withAssignedFilters(userId, filter);
+
+        // Ordenação por relevância da busca textual: a ordem é definida pela especificação
+        if (filter != null && filter.isSortedByRelevance()) {
+            pageRequest = PageRequest.of(pageRequest.getPageNumber(), pageRequest.getPageSize());
+            spec = spec.and(TaskSpecification.orderByRelevance(filter.getSearchTerm().trim()));
+        }
+
         // Aplicar os filtros usando a especificação
-        Page<TaskJpaEntity> taskEntities = taskJpaRepository.findAll(
-                TaskSpecification.withAssignedFilters(userId, filter),
-                pageRequest
-        );
+        Page<TaskJpaEntity> taskEntities = taskJpaRepository.findAll(spec, pageRequest);
         
         // Mapear os resultados para entidades de domínio
         return taskEntities.map(taskMapper::toDomainEntity);
     }
 
+    @Override
+    public Page<Task> searchByRepublic(UUID republicId, String query, Pageable pageable) {
+        return taskJpaRepository.searchByRepublic(republicId, query, pageable)
+                .map(taskMapper::toDomainEntity);
+    }
+
+    @Override
+    public CursorPagedResponse<Task> findWithFiltersByCursor(UUID republicId, TaskFilterRequest filter) {
+        return findByCursor(TaskSpecification.withFilters(republicId, filter), filter);
+    }
+
+    @Override
+    public CursorPagedResponse<Task> findAssignedWithFiltersByCursor(UUID userId, TaskFilterRequest filter) {
+        return findByCursor(TaskSpecification.withAssignedFilters(userId, filter), filter);
+    }
+
+    /**
+     * Executa a consulta por keyset: busca size + 1 linhas após o cursor para saber
+     * se existe próxima página, sem executar COUNT(*) nem OFFSET.
+     */
+    private CursorPagedResponse<Task> findByCursor(Specification<TaskJpaEntity> spec, TaskFilterRequest filter) {
+        String sortBy = TaskCursor.resolveSortField(filter.getSortBy());
+        Direction direction = TaskCursor.resolveDirection(filter.getSortDirection());
+        int size = filter.getSize() != null && filter.getSize() > 0
+                ? Math.min(filter.getSize(), MAX_CURSOR_PAGE_SIZE)
+                : DEFAULT_CURSOR_PAGE_SIZE;
+
+        if (filter.getCursor() != null && !filter.getCursor().isBlank()) {
+            TaskCursor cursor = TaskCursor.decode(filter.getCursor());
+
+            // O cursor só é válido para a mesma ordenação que o gerou
+            if (!cursor.getSortBy().equals(sortBy) || cursor.getDirection() != direction) {
+                throw new ValidationException("O cursor não corresponde à ordenação solicitada");
+            }
+            spec = spec.and(TaskSpecification.afterCursor(cursor));
+        }
+
+        Sort sort = TaskCursor.toSort(sortBy, direction);
+        // Mesmo plano de carga da listagem (TaskJpaEntity.GRAPH_LIST)
+        List<TaskJpaEntity> rows = taskJpaRepository.findBy(spec, query -> query
+                .project("republic", "createdBy")
+                .sortBy(sort)
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = rows.size() > size;
+        List<TaskJpaEntity> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext
+                ? TaskCursor.of(pageRows.get(pageRows.size() - 1), sortBy, direction).encode()
+                : null;
+
+        return CursorPagedResponse.<Task>builder()
+                .content(pageRows.stream()
+                        .map(taskMapper::toDomainEntity)
+                        .collect(Collectors.toList()))
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    public List<Task> findByRepublicIdAndDueDateBetween(UUID republicId, LocalDateTime from, LocalDateTime to) {
+        return taskJpaRepository.findByRepublicUuidAndDueDateWindow(republicId, from, to).stream()
+                .map(taskMapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Task> findTasksDueWithinNextDay() {
         // Calcula a data/hora de 24 horas a partir de agora
@@ -225,18 +292,38 @@ public class TaskJpaAdapter implements TaskRepositoryPort {
     }
     
     @Override
-    public List<Task> findOverdueRecurringTasks() {
-        return taskJpaRepository.findOverdueRecurringTasks().stream()
+    public List<Task> findAllByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return taskJpaRepository.findForSchedulerByIdIn(ids).stream()
                 .map(taskMapper::toDomainEntity)
                 .collect(Collectors.toList());
     }
-    
+
     @Override
-    public List<Task> findCompletedRecurringTasks() {
-        return taskJpaRepository.findCompletedRecurringTasks().stream()
+    public List<Task> saveAll(List<Task> tasks) {
+        // As inserções são agrupadas pelo Hibernate (hibernate.jdbc.batch_size)
+        List<TaskJpaEntity> entities = tasks.stream()
+                .map(taskMapper::toJpaEntity)
+                .collect(Collectors.toList());
+        return taskJpaRepository.saveAll(entities).stream()
                 .map(taskMapper::toDomainEntity)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public int markAsOverdue(Collection<Long> taskIds) {
+        if (taskIds == null || taskIds.isEmpty()) {
+            return 0;
+        }
+        return taskJpaRepository.markAsOverdue(taskIds);
+    }
+    
+    @Override
+    public List<Long> transitionOverdueTasks(int limit) {
+        return taskJpaRepository.transitionOverdueTasks(LocalDateTime.now(), limit);
+    }
     
     @Override
     public boolean existsByParentTaskId(Long parentTaskId) {
@@ -1,18 +1,23 @@
 package com.rephelper.infrastructure.adapter.persistence;
 
 import com.rephelper.domain.model.Task;
+import com.rephelper.infrastructure.adapter.persistence.util.TaskSearchFunctionContributor;
 import com.rephelper.infrastructure.entity.TaskJpaEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -20,19 +25,34 @@ import java.util.UUID;
  */
 @Repository
 public interface TaskJpaRepository extends JpaRepository<TaskJpaEntity, Long>, JpaSpecificationExecutor<TaskJpaEntity> {
+    @EntityGraph(TaskJpaEntity.GRAPH_DETAIL)
+    @Query("SELECT t FROM TaskJpaEntity t WHERE t.id = :id")
+    Optional<TaskJpaEntity> findDetailedById(@Param("id") Long id);
+
+    @EntityGraph(TaskJpaEntity.GRAPH_SCHEDULER)
+    @Query("SELECT t FROM TaskJpaEntity t WHERE t.id IN :ids")
+    List<TaskJpaEntity> findForSchedulerByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(TaskJpaEntity.GRAPH_LIST)
     List<TaskJpaEntity> findByRepublicUuid(UUID republicId);
+    @EntityGraph(TaskJpaEntity.GRAPH_LIST)
     List<TaskJpaEntity> findByRepublicUuidAndCategory(UUID republicId, String category);
+    @EntityGraph(TaskJpaEntity.GRAPH_LIST)
     List<TaskJpaEntity> findByRepublicUuidAndStatus(UUID republicId, Task.TaskStatus status);
 
+    @EntityGraph(TaskJpaEntity.GRAPH_LIST)
     @Query("SELECT t FROM TaskJpaEntity t JOIN t.assignedUsers u WHERE u.uuid = :userId")
     List<TaskJpaEntity> findByAssignedUserId(@Param("userId") UUID userId);
 
+    @EntityGraph(TaskJpaEntity.GRAPH_LIST)
     @Query("SELECT t FROM TaskJpaEntity t JOIN t.assignedUsers u WHERE u.uuid = :userId AND t.republic.uuid = :republicId")
     List<TaskJpaEntity> findByAssignedUserIdAndRepublicId(@Param("userId") UUID userId, @Param("republicId") UUID republicId);
 
+    @EntityGraph(TaskJpaEntity.GRAPH_LIST)
     @Query("SELECT t FROM TaskJpaEntity t WHERE t.createdBy.uuid = :userId")
     List<TaskJpaEntity> findByCreatedByUserId(@Param("userId") UUID userId);
 
+    @EntityGraph(TaskJpaEntity.GRAPH_LIST)
     @Query("SELECT t FROM TaskJpaEntity t WHERE t.createdBy.uuid = :userId AND t.republic.uuid = :republicId")
     List<TaskJpaEntity> findByCreatedByUserIdAndRepublicId(@Param("userId") UUID userId, @Param("republicId") UUID republicId);
     
@@ -43,13 +63,52 @@ public interface TaskJpaRepository extends JpaRepository<TaskJpaEntity, Long>, J
      * @param pageable Informações de paginação e ordenação
      * @return Página de tarefas
      */
+    @Override
+    @EntityGraph(TaskJpaEntity.GRAPH_LIST)
     Page<TaskJpaEntity> findAll(Specification<TaskJpaEntity> spec, Pageable pageable);
     
+    /**
+     * Busca textual ranqueada nas tarefas de uma república (título + descrição).
+     * No PostgreSQL usa o índice GIN idx_task_search_fts; ver {@link TaskSearchFunctionContributor}.
+     *
+     * @param republicId ID da república
+     * @param query Termos de busca (sintaxe de busca web: palavras, "frases" e -exclusões)
+     * @param pageable Informações de paginação (a ordenação é sempre por relevância)
+     * @return Página de tarefas ordenada por relevância
+     */
+    @EntityGraph(TaskJpaEntity.GRAPH_LIST)
+    @Query(value = "SELECT t FROM TaskJpaEntity t " +
+                   "WHERE t.republic.uuid = :republicId " +
+                   "AND task_fts_match(t.title, t.description, :query) = true " +
+                   "ORDER BY task_fts_rank(t.title, t.description, :query) DESC, t.id DESC",
+           countQuery = "SELECT COUNT(t) FROM TaskJpaEntity t " +
+                        "WHERE t.republic.uuid = :republicId " +
+                        "AND task_fts_match(t.title, t.description, :query) = true")
+    Page<TaskJpaEntity> searchByRepublic(@Param("republicId") UUID republicId,
+                                         @Param("query") String query,
+                                         Pageable pageable);
+    
+    /**
+     * Busca todas as tarefas de uma república com vencimento na janela [from, to), sem paginação
+     * 
+     * @return Lista de tarefas ordenada por vencimento
+     */
+    @EntityGraph(TaskJpaEntity.GRAPH_LIST)
+    @Query("SELECT t FROM TaskJpaEntity t " +
+           "WHERE t.republic.uuid = :republicId " +
+           "AND t.dueDate >= :from " +
+           "AND t.dueDate < :to " +
+           "ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskJpaEntity> findByRepublicUuidAndDueDateWindow(@Param("republicId") UUID republicId,
+                                                           @Param("from") LocalDateTime from,
+                                                           @Param("to") LocalDateTime to);
+    
     /**
      * Busca tarefas pendentes ou em progresso com prazo de vencimento nas próximas 24 horas
      * 
      * @return Lista de tarefas com prazo nas próximas 24 horas
      */
+    @EntityGraph(TaskJpaEntity.GRAPH_SCHEDULER)
     @Query("SELECT t FROM TaskJpaEntity t " +
            "WHERE (t.status = 'PENDING' OR t.status = 'IN_PROGRESS') " +
            "AND t.dueDate > CURRENT_TIMESTAMP " +
@@ -62,6 +121,7 @@ public interface TaskJpaRepository extends JpaRepository<TaskJpaEntity, Long>, J
      * 
      * @return Lista de tarefas com prazo em 3 dias
      */
+    @EntityGraph(TaskJpaEntity.GRAPH_SCHEDULER)
     @Query("SELECT t FROM TaskJpaEntity t " +
            "WHERE (t.status = 'PENDING' OR t.status = 'IN_PROGRESS') " +
            "AND t.dueDate > :startDay " +
@@ -75,6 +135,7 @@ public interface TaskJpaRepository extends JpaRepository<TaskJpaEntity, Long>, J
      * 
      * @return Lista de tarefas atrasadas há mais de 1 dia
      */
+    @EntityGraph(TaskJpaEntity.GRAPH_SCHEDULER)
     @Query("SELECT t FROM TaskJpaEntity t " +
            "WHERE (t.status = 'PENDING' OR t.status = 'IN_PROGRESS' OR t.status = 'OVERDUE') " +
            "AND t.dueDate < :oneDayAgo " +
@@ -82,27 +143,39 @@ public interface TaskJpaRepository extends JpaRepository<TaskJpaEntity, Long>, J
     List<TaskJpaEntity> findTasksOverdueMoreThanOneDay(@Param("oneDayAgo") LocalDateTime oneDayAgo);
     
     /**
-     * Busca tarefas recorrentes vencidas que não foram concluídas
-     * 
-     * @return Lista de tarefas recorrentes vencidas
+     * Marca como atrasadas (OVERDUE) as tarefas informadas em um único UPDATE
+     *
+     * @param ids IDs das tarefas
+     * @return Quantidade de tarefas atualizadas
      */
-    @Query("SELECT t FROM TaskJpaEntity t " +
-           "WHERE t.isRecurring = true " +
-           "AND (t.status = 'PENDING' OR t.status = 'IN_PROGRESS' OR t.status = 'OVERDUE') " +
-           "AND t.dueDate < CURRENT_TIMESTAMP " +
-           "ORDER BY t.dueDate ASC")
-    List<TaskJpaEntity> findOverdueRecurringTasks();
+    @Modifying
+    @Query("UPDATE TaskJpaEntity t SET t.status = com.rephelper.infrastructure.entity.TaskJpaEntity.TaskStatusJpa.OVERDUE, " +
+           "t.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE t.id IN :ids " +
+           "AND t.status <> com.rephelper.infrastructure.entity.TaskJpaEntity.TaskStatusJpa.OVERDUE")
+    int markAsOverdue(@Param("ids") Collection<Long> ids);
     
     /**
-     * Busca tarefas recorrentes concluídas
-     * 
-     * @return Lista de tarefas recorrentes concluídas
+     * Transição em lote para OVERDUE: atualiza até {@code limit} tarefas pendentes ou em progresso
+     * com prazo vencido em um único UPDATE e retorna os IDs afetados (RETURNING).
+     * Linhas bloqueadas por outras transações são ignoradas e ficam para o próximo lote.
+     *
+     * @param now Data/hora de referência para o vencimento
+     * @param limit Tamanho máximo do lote
+     * @return IDs das tarefas que passaram para OVERDUE
      */
-    @Query("SELECT t FROM TaskJpaEntity t " +
-           "WHERE t.isRecurring = true " +
-           "AND t.status = 'COMPLETED' " +
-           "ORDER BY t.completedAt DESC")
-    List<TaskJpaEntity> findCompletedRecurringTasks();
+    @Query(value = "UPDATE tasks SET status = 'OVERDUE', updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id IN (" +
+                   "    SELECT id FROM tasks " +
+                   "    WHERE status IN ('PENDING', 'IN_PROGRESS') " +
+                   "    AND due_date < :now " +
+                   "    ORDER BY id " +
+                   "    LIMIT :limit " +
+                   "    FOR UPDATE SKIP LOCKED" +
+                   ") " +
+                   "RETURNING id",
+           nativeQuery = true)
+    List<Long> transitionOverdueTasks(@Param("now") LocalDateTime now, @Param("limit") int limit);
     
     /**
      * Verifica se existe alguma tarefa com o ID pai especificado
@@ -0,0 +1,40 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.rephelper.domain.port.out.TaskReminderRepositoryPort;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementação do adaptador para lembretes de tarefas usando JPA.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskReminderJpaAdapter implements TaskReminderRepositoryPort {
+
+    private final TaskReminderJpaRepository taskReminderJpaRepository;
+
+    @Override
+    public Set<Long> claimReminders(String kind, Map<Long, LocalDateTime> dueDates) {
+        if (dueDates.isEmpty()) {
+            return Set.of();
+        }
+
+        Long[] taskIds = new Long[dueDates.size()];
+        LocalDateTime[] taskDueDates = new LocalDateTime[dueDates.size()];
+        int i = 0;
+        for (Map.Entry<Long, LocalDateTime> entry : dueDates.entrySet()) {
+            taskIds[i] = entry.getKey();
+            taskDueDates[i] = entry.getValue();
+            i++;
+        }
+
+        return new HashSet<>(taskReminderJpaRepository.claim(kind, taskIds, taskDueDates, LocalDateTime.now()));
+    }
+}
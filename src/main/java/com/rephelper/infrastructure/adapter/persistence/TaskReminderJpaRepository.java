@@ -0,0 +1,39 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.rephelper.infrastructure.entity.TaskReminderJpaEntity;
+
+/**
+ * Repositório JPA para os lembretes de tarefas já enviados
+ */
+@Repository
+public interface TaskReminderJpaRepository extends JpaRepository<TaskReminderJpaEntity, TaskReminderJpaEntity.TaskReminderId> {
+
+    /**
+     * Registra os lembretes em um único INSERT e retorna as tarefas que ainda não tinham
+     * lembrete desse tipo para o prazo informado (as demais são ignoradas pelo ON CONFLICT)
+     *
+     * @param kind Tipo de lembrete
+     * @param taskIds IDs das tarefas
+     * @param dueDates Prazos das tarefas, na mesma ordem dos IDs
+     * @param remindedAt Data/hora do envio
+     * @return IDs das tarefas cujo lembrete deve ser enviado
+     */
+    @Query(value = "INSERT INTO task_reminders (task_id, kind, due_date, reminded_at) " +
+                   "SELECT r.task_id, :kind, r.due_date, :remindedAt " +
+                   "FROM unnest(CAST(:taskIds AS bigint[]), CAST(:dueDates AS timestamp[])) AS r(task_id, due_date) " +
+                   "ON CONFLICT (task_id, kind, due_date) DO NOTHING " +
+                   "RETURNING task_id",
+           nativeQuery = true)
+    List<Long> claim(@Param("kind") String kind,
+                     @Param("taskIds") Long[] taskIds,
+                     @Param("dueDates") LocalDateTime[] dueDates,
+                     @Param("remindedAt") LocalDateTime remindedAt);
+}
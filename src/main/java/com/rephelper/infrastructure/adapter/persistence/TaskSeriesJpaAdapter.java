@@ -0,0 +1,63 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.rephelper.domain.model.TaskSeries;
+import com.rephelper.domain.port.out.TaskSeriesRepositoryPort;
+import com.rephelper.infrastructure.entity.TaskSeriesJpaEntity;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementação do adaptador para o repositório de séries de tarefas usando JPA.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskSeriesJpaAdapter implements TaskSeriesRepositoryPort {
+
+    private final TaskSeriesJpaRepository taskSeriesJpaRepository;
+    private final TaskSeriesMapper taskSeriesMapper;
+
+    @Override
+    public TaskSeries save(TaskSeries series) {
+        TaskSeriesJpaEntity savedEntity = taskSeriesJpaRepository.save(taskSeriesMapper.toJpaEntity(series));
+        return taskSeriesMapper.toDomainEntity(savedEntity);
+    }
+
+    @Override
+    public List<TaskSeries> saveAll(List<TaskSeries> series) {
+        List<TaskSeriesJpaEntity> entities = series.stream()
+                .map(taskSeriesMapper::toJpaEntity)
+                .collect(Collectors.toList());
+        return taskSeriesJpaRepository.saveAll(entities).stream()
+                .map(taskSeriesMapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<TaskSeries> findByHeadTaskId(Long headTaskId) {
+        return taskSeriesJpaRepository.findByHeadTaskId(headTaskId)
+                .map(taskSeriesMapper::toDomainEntity);
+    }
+
+    @Override
+    public List<TaskSeries> findDueSeries(Long afterId, Long upToId, int limit) {
+        return taskSeriesJpaRepository.findDueSeries(LocalDateTime.now(), afterId, upToId, PageRequest.of(0, limit)).stream()
+                .map(taskSeriesMapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TaskSeries> findActiveByRepublicId(UUID republicId) {
+        return taskSeriesJpaRepository.findByRepublicIdAndActiveTrue(republicId).stream()
+                .map(taskSeriesMapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,45 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.rephelper.infrastructure.entity.TaskSeriesJpaEntity;
+
+/**
+ * Repositório JPA para séries de tarefas recorrentes
+ */
+@Repository
+public interface TaskSeriesJpaRepository extends JpaRepository<TaskSeriesJpaEntity, Long> {
+
+    Optional<TaskSeriesJpaEntity> findByHeadTaskId(Long headTaskId);
+
+    List<TaskSeriesJpaEntity> findByRepublicIdAndActiveTrue(UUID republicId);
+
+    /**
+     * Busca, em lote, séries ativas cuja instância atual já venceu.
+     * Paginação por keyset no ID para permitir retomada a partir de um checkpoint.
+     *
+     * @param now Data/hora de referência para o vencimento
+     * @param afterId Último ID já processado (exclusivo)
+     * @param pageable Tamanho do lote (a ordenação é sempre por ID)
+     * @return Lote de séries ordenado por ID
+     */
+    @Query("SELECT s FROM TaskSeriesJpaEntity s " +
+           "WHERE s.active = true " +
+           "AND s.nextDueDate < :now " +
+           "AND s.id > :afterId " +
+           "AND s.id <= :upToId " +
+           "ORDER BY s.id ASC")
+    List<TaskSeriesJpaEntity> findDueSeries(@Param("now") LocalDateTime now,
+                                            @Param("afterId") Long afterId,
+                                            @Param("upToId") Long upToId,
+                                            Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import org.mapstruct.Mapper;
+
+import com.rephelper.domain.model.TaskSeries;
+import com.rephelper.infrastructure.config.CommonMapperConfig;
+import com.rephelper.infrastructure.entity.TaskSeriesJpaEntity;
+
+/**
+ * Mapper para conversão entre TaskSeries (domínio) e TaskSeriesJpaEntity (persistência)
+ */
+@Mapper(config = CommonMapperConfig.class)
+public interface TaskSeriesMapper {
+
+    TaskSeries toDomainEntity(TaskSeriesJpaEntity jpaEntity);
+
+    TaskSeriesJpaEntity toJpaEntity(TaskSeries domainEntity);
+}
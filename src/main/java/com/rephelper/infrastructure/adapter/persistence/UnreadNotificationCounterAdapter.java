@@ -0,0 +1,133 @@
+package com.rephelper.infrastructure.adapter.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rephelper.domain.port.out.UnreadNotificationCounterPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Contadores de notificações não lidas em cache (Caffeine), atualizados incrementalmente.
+ * Só contadores já carregados são ajustados; sem contador, a próxima leitura faz o COUNT no banco.
+ * Uma verificação periódica compara os contadores mais consultados com o banco, registra a
+ * divergência encontrada e corrige o valor.
+ */
+@Component
+@Slf4j
+public class UnreadNotificationCounterAdapter implements UnreadNotificationCounterPort {
+
+    private final NotificationJpaRepository notificationJpaRepository;
+    private final Cache<UUID, Integer> counters;
+    private final DistributionSummary drift;
+    private final Counter corrections;
+
+    @Value("${rephelper.notifications.unread-counter.verify-sample-size:100}")
+    private int verifySampleSize;
+
+    public UnreadNotificationCounterAdapter(NotificationJpaRepository notificationJpaRepository,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${rephelper.notifications.unread-counter.max-size:100000}") long maxSize,
+                                            @Value("${rephelper.notifications.unread-counter.idle-ttl:30m}") Duration idleTtl) {
+        this.notificationJpaRepository = notificationJpaRepository;
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(idleTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counters, "notification-unread-counters");
+        this.drift = meterRegistry.summary("rephelper.notifications.unread.drift");
+        this.corrections = meterRegistry.counter("rephelper.notifications.unread.corrections");
+    }
+
+    @Override
+    public int countUnread(UUID recipientId) {
+        return counters.get(recipientId, notificationJpaRepository::countUnreadByRecipientId);
+    }
+
+    @Override
+    public void increment(Collection<UUID> recipientIds) {
+        afterCommit(() -> recipientIds.forEach(recipientId -> adjust(recipientId, 1)));
+    }
+
+    @Override
+    public void decrement(UUID recipientId) {
+        afterCommit(() -> adjust(recipientId, -1));
+    }
+
+    @Override
+    public void reset(UUID recipientId) {
+        afterCommit(() -> counters.asMap().computeIfPresent(recipientId, (key, count) -> 0));
+    }
+
+    @Override
+    public void invalidate(UUID recipientId) {
+        afterCommit(() -> counters.invalidate(recipientId));
+    }
+
+    /**
+     * Compara os contadores mais consultados com a contagem no banco e corrige os divergentes
+     * (padrão: a cada 5 minutos)
+     */
+    @Scheduled(fixedDelayString = "${rephelper.notifications.unread-counter.verify-interval-ms:300000}",
+               initialDelayString = "${rephelper.notifications.unread-counter.verify-interval-ms:300000}")
+    public void verifyCounters() {
+        Map<UUID, Integer> sample = counters.policy().eviction()
+                .map(eviction -> eviction.hottest(verifySampleSize))
+                .orElse(Map.of());
+
+        int diverged = 0;
+        for (Map.Entry<UUID, Integer> entry : sample.entrySet()) {
+            int actual = notificationJpaRepository.countUnreadByRecipientId(entry.getKey());
+            int difference = Math.abs(actual - entry.getValue());
+            drift.record(difference);
+            if (difference != 0) {
+                diverged++;
+                corrections.increment();
+                counters.asMap().computeIfPresent(entry.getKey(), (key, count) -> actual);
+            }
+        }
+
+        if (diverged > 0) {
+            log.info("Contadores de não lidas: {} de {} verificados estavam divergentes e foram corrigidos",
+                    diverged, sample.size());
+        }
+    }
+
+    private void adjust(UUID recipientId, int delta) {
+        Integer updated = counters.asMap().computeIfPresent(recipientId, (key, count) -> count + delta);
+        if (updated != null && updated < 0) {
+            // Contador abaixo de zero: divergiu do banco, recarrega na próxima leitura
+            corrections.increment();
+            counters.invalidate(recipientId);
+        }
+    }
+
+    /**
+     * Aplica a alteração somente após o commit, para que um rollback não desloque o contador
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
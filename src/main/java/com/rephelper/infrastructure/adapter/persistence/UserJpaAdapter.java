@@ -1,7 +1,9 @@
 package com.rephelper.infrastructure.adapter.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -30,6 +32,19 @@ public class UserJpaAdapter implements UserRepositoryPort {
         return userMapper.toDomainEntity(savedEntity);
     }
 
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        return userJpaRepository.findExistingUuids(ids);
+    }
+
+    @Override
+    public Optional<Long> findMembershipVersionById(UUID id) {
+        return userJpaRepository.findMembershipVersionByUuid(id);
+    }
+
     @Override
     public Optional<User> findById(UUID id) {
         return userJpaRepository.findById(id)
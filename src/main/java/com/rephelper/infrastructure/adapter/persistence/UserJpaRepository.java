@@ -1,7 +1,9 @@
 package com.rephelper.infrastructure.adapter.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -22,5 +24,11 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, UUID> {
     boolean existsByEmail(String email);
     boolean existsByFirebaseUid(String firebaseUid);
     List<UserJpaEntity> findByCurrentRepublicUuid(UUID republicId);
+
+    @Query("SELECT u.uuid FROM UserJpaEntity u WHERE u.uuid IN :uuids")
+    Set<UUID> findExistingUuids(@Param("uuids") Collection<UUID> uuids);
+
+    @Query("SELECT u.membershipVersion FROM UserJpaEntity u WHERE u.uuid = :uuid")
+    Optional<Long> findMembershipVersionByUuid(@Param("uuid") UUID uuid);
 }
 
@@ -0,0 +1,41 @@
+package com.rephelper.infrastructure.adapter.persistence.projection;
+
+import com.rephelper.domain.model.Expense;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of an expense row for export (no managed entity, creator flattened)
+ */
+public interface ExpenseExportProjection {
+    Long getId();
+
+    String getDescription();
+
+    BigDecimal getAmount();
+
+    LocalDate getExpenseDate();
+
+    String getCategory();
+
+    String getReceiptUrl();
+
+    Expense.ExpenseStatus getStatus();
+
+    LocalDateTime getApprovalDate();
+
+    LocalDateTime getReimbursementDate();
+
+    String getRejectionReason();
+
+    LocalDateTime getCreatedAt();
+
+    UUID getCreatorId();
+
+    String getCreatorName();
+
+    String getCreatorNickname();
+}
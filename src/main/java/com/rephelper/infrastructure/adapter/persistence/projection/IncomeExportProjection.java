@@ -0,0 +1,28 @@
+package com.rephelper.infrastructure.adapter.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of an income row for export (no managed entity, contributor flattened)
+ */
+public interface IncomeExportProjection {
+    Long getId();
+
+    String getDescription();
+
+    BigDecimal getAmount();
+
+    LocalDateTime getIncomeDate();
+
+    String getSource();
+
+    LocalDateTime getCreatedAt();
+
+    UUID getContributorId();
+
+    String getContributorName();
+
+    String getContributorNickname();
+}
@@ -0,0 +1,13 @@
+package com.rephelper.infrastructure.adapter.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a republic balance computed from the last snapshot and the later ledger entries
+ */
+public interface LedgerBalanceProjection {
+    BigDecimal getBalance();
+
+    LocalDateTime getLastEntryAt();
+}
@@ -0,0 +1,16 @@
+package com.rephelper.infrastructure.adapter.persistence.projection;
+
+import java.math.BigDecimal;
+
+import com.rephelper.domain.model.Expense;
+
+/**
+ * Projection of expense totals grouped by status
+ */
+public interface StatusTotalProjection {
+    Expense.ExpenseStatus getStatus();
+
+    BigDecimal getTotalAmount();
+
+    Long getEntryCount();
+}
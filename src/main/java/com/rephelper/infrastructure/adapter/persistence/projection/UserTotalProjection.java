@@ -0,0 +1,19 @@
+package com.rephelper.infrastructure.adapter.persistence.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projection of totals grouped by user (expense creator or income contributor)
+ */
+public interface UserTotalProjection {
+    UUID getUserId();
+
+    String getUserName();
+
+    String getUserNickname();
+
+    BigDecimal getTotalAmount();
+
+    Long getEntryCount();
+}
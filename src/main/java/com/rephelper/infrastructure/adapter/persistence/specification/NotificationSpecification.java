@@ -0,0 +1,85 @@
+package com.rephelper.infrastructure.adapter.persistence.specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.rephelper.application.dto.request.NotificationFilterRequest;
+import com.rephelper.infrastructure.adapter.persistence.util.NotificationCursor;
+import com.rephelper.infrastructure.entity.NotificationJpaEntity;
+import com.rephelper.infrastructure.entity.NotificationReadWatermarkJpaEntity;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Classe utilitária para criar especificações de consulta para notificações
+ */
+public class NotificationSpecification {
+
+    /**
+     * Cria uma especificação para a caixa de notificações de um usuário
+     *
+     * @param recipientId ID do destinatário
+     * @param filter Filtros a serem aplicados
+     * @return Especificação para consulta de notificações
+     */
+    public static Specification<NotificationJpaEntity> forInbox(UUID recipientId, NotificationFilterRequest filter) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            // Filtro por destinatário (sempre aplicado)
+            predicates.add(criteriaBuilder.equal(root.get("recipient").get("uuid"), recipientId));
+
+            // Filtro por tipo
+            if (filter.getType() != null && !filter.getType().isEmpty()) {
+                try {
+                    NotificationJpaEntity.NotificationTypeJpa type = NotificationJpaEntity.NotificationTypeJpa.valueOf(filter.getType());
+                    predicates.add(criteriaBuilder.equal(root.get("type"), type));
+                } catch (IllegalArgumentException e) {
+                    // Ignora tipo inválido
+                }
+            }
+
+            // Filtro por entidade relacionada
+            if (filter.getEntityType() != null && !filter.getEntityType().isEmpty()) {
+                predicates.add(criteriaBuilder.equal(root.get("entityType"), filter.getEntityType()));
+            }
+            if (filter.getEntityId() != null && !filter.getEntityId().isEmpty()) {
+                predicates.add(criteriaBuilder.equal(root.get("entityId"), filter.getEntityId()));
+            }
+
+            // Somente não lidas: sem a flag de leitura e depois da marca d'água do usuário
+            if (Boolean.TRUE.equals(filter.getUnreadOnly())) {
+                Subquery<Integer> watermark = query.subquery(Integer.class);
+                Root<NotificationReadWatermarkJpaEntity> w = watermark.from(NotificationReadWatermarkJpaEntity.class);
+                watermark.select(criteriaBuilder.literal(1))
+                        .where(criteriaBuilder.equal(w.get("recipientId"), recipientId),
+                                criteriaBuilder.greaterThanOrEqualTo(w.<LocalDateTime>get("readUpTo"), root.<LocalDateTime>get("createdAt")));
+                predicates.add(criteriaBuilder.isFalse(root.get("read")));
+                predicates.add(criteriaBuilder.not(criteriaBuilder.exists(watermark)));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Restringe às notificações depois do cursor na ordenação (created_at DESC, id DESC)
+     */
+    public static Specification<NotificationJpaEntity> afterCursor(NotificationCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            Expression<LocalDateTime> createdAt = root.get("createdAt");
+            return criteriaBuilder.or(
+                    criteriaBuilder.lessThan(createdAt, cursor.getCreatedAt()),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(createdAt, cursor.getCreatedAt()),
+                            criteriaBuilder.lessThan(root.<Long>get("id"), cursor.getId())));
+        };
+    }
+}
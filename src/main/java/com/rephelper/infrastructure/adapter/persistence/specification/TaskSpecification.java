@@ -5,12 +5,17 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 
 import com.rephelper.application.dto.request.TaskFilterRequest;
 import com.rephelper.domain.model.Task;
+import com.rephelper.infrastructure.adapter.persistence.util.TaskCursor;
+import com.rephelper.infrastructure.adapter.persistence.util.TaskSearchFunctionContributor;
 import com.rephelper.infrastructure.entity.TaskJpaEntity;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
@@ -97,13 +102,7 @@ public class TaskSpecification {
             
             // Filtro por termo de busca (título e descrição)
             if (filter.getSearchTerm() != null && !filter.getSearchTerm().isEmpty()) {
-                String searchTerm = "%" + filter.getSearchTerm().toLowerCase() + "%";
-                Predicate titlePredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("title")), searchTerm);
-                Predicate descriptionPredicate = criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("description")), searchTerm);
-                
-                predicates.add(criteriaBuilder.or(titlePredicate, descriptionPredicate));
+                predicates.add(searchPredicate(root, criteriaBuilder, filter));
             }
             
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
@@ -171,17 +170,90 @@ public class TaskSpecification {
                 
                 // Filtro por termo de busca (título e descrição)
                 if (filter.getSearchTerm() != null && !filter.getSearchTerm().isEmpty()) {
-                    String searchTerm = "%" + filter.getSearchTerm().toLowerCase() + "%";
-                    Predicate titlePredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("title")), searchTerm);
-                    Predicate descriptionPredicate = criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("description")), searchTerm);
-                    
-                    predicates.add(criteriaBuilder.or(titlePredicate, descriptionPredicate));
+                    predicates.add(searchPredicate(root, criteriaBuilder, filter));
                 }
             }
             
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Cria uma especificação que ordena as tarefas pela relevância da busca textual (modo FULL_TEXT),
+     * com o ID como desempate. Não altera a consulta de contagem.
+     *
+     * @param searchTerm Termo de busca
+     * @return Especificação que apenas define a ordenação
+     */
+    public static Specification<TaskJpaEntity> orderByRelevance(String searchTerm) {
+        return (root, query, criteriaBuilder) -> {
+            if (!Long.class.equals(query.getResultType()) && !long.class.equals(query.getResultType())) {
+                query.orderBy(
+                        criteriaBuilder.desc(criteriaBuilder.function(TaskSearchFunctionContributor.RANK_FUNCTION, Double.class,
+                                root.get("title"), root.get("description"), criteriaBuilder.literal(searchTerm))),
+                        criteriaBuilder.desc(root.get("id")));
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Predicado do termo de busca: no modo FULL_TEXT usa a busca textual indexada;
+     * caso contrário mantém a busca por trecho (LIKE) no título e na descrição
+     */
+    private static Predicate searchPredicate(Root<TaskJpaEntity> root, CriteriaBuilder criteriaBuilder,
+                                             TaskFilterRequest filter) {
+        if (filter.isFullTextSearch()) {
+            return criteriaBuilder.isTrue(criteriaBuilder.function(TaskSearchFunctionContributor.MATCH_FUNCTION, Boolean.class,
+                    root.get("title"), root.get("description"), criteriaBuilder.literal(filter.getSearchTerm().trim())));
+        }
+
+        String searchTerm = "%" + filter.getSearchTerm().toLowerCase() + "%";
+        Predicate titlePredicate = criteriaBuilder.like(
+            criteriaBuilder.lower(root.get("title")), searchTerm);
+        Predicate descriptionPredicate = criteriaBuilder.like(
+            criteriaBuilder.lower(root.get("description")), searchTerm);
+
+        return criteriaBuilder.or(titlePredicate, descriptionPredicate);
+    }
+
+    /**
+     * Cria uma especificação que retorna apenas as tarefas posteriores ao cursor,
+     * seguindo a ordenação (campo, id) usada na paginação por keyset.
+     * Valores nulos são tratados como maiores que qualquer data (padrão do PostgreSQL:
+     * NULLS LAST em ASC e NULLS FIRST em DESC), mantendo a ordem alinhada ao índice.
+     *
+     * @param cursor Cursor da última tarefa retornada
+     * @return Especificação para consulta de tarefas
+     */
+    public static Specification<TaskJpaEntity> afterCursor(TaskCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            Expression<Long> id = root.get("id");
+            boolean ascending = cursor.getDirection() == Direction.ASC;
+            Predicate idAfter = ascending
+                    ? criteriaBuilder.greaterThan(id, cursor.getId())
+                    : criteriaBuilder.lessThan(id, cursor.getId());
+
+            if ("id".equals(cursor.getSortBy())) {
+                return idAfter;
+            }
+
+            Expression<LocalDateTime> key = root.get(cursor.getSortBy());
+
+            if (cursor.getValue() == null) {
+                // Última tarefa tinha chave nula
+                Predicate sameKey = criteriaBuilder.and(criteriaBuilder.isNull(key), idAfter);
+                return ascending ? sameKey : criteriaBuilder.or(sameKey, criteriaBuilder.isNotNull(key));
+            }
+
+            Predicate sameKey = criteriaBuilder.and(criteriaBuilder.equal(key, cursor.getValue()), idAfter);
+            if (ascending) {
+                return criteriaBuilder.or(
+                        criteriaBuilder.greaterThan(key, cursor.getValue()),
+                        sameKey,
+                        criteriaBuilder.isNull(key));
+            }
+            return criteriaBuilder.or(criteriaBuilder.lessThan(key, cursor.getValue()), sameKey);
+        };
+    }
+}
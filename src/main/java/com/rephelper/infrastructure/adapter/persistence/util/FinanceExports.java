@@ -0,0 +1,61 @@
+package com.rephelper.infrastructure.adapter.persistence.util;
+
+import com.rephelper.domain.model.Expense;
+import com.rephelper.domain.model.Income;
+import com.rephelper.domain.model.User;
+import com.rephelper.infrastructure.adapter.persistence.projection.ExpenseExportProjection;
+import com.rephelper.infrastructure.adapter.persistence.projection.IncomeExportProjection;
+
+import java.util.UUID;
+
+/**
+ * Classe utilitária para converter as projeções de exportação no modelo de domínio.
+ * A república não é carregada e o usuário contém apenas ID, nome e apelido.
+ */
+public final class FinanceExports {
+
+    private FinanceExports() {
+    }
+
+    public static Expense fromExpense(ExpenseExportProjection projection) {
+        return Expense.builder()
+                .id(projection.getId())
+                .creator(user(projection.getCreatorId(), projection.getCreatorName(), projection.getCreatorNickname()))
+                .description(projection.getDescription())
+                .amount(projection.getAmount())
+                .expenseDate(projection.getExpenseDate())
+                .category(projection.getCategory())
+                .receiptUrl(projection.getReceiptUrl())
+                .status(projection.getStatus())
+                .approvalDate(projection.getApprovalDate())
+                .reimbursementDate(projection.getReimbursementDate())
+                .rejectionReason(projection.getRejectionReason())
+                .createdAt(projection.getCreatedAt())
+                .build();
+    }
+
+    public static Income fromIncome(IncomeExportProjection projection) {
+        return Income.builder()
+                .id(projection.getId())
+                .contributor(user(projection.getContributorId(), projection.getContributorName(),
+                        projection.getContributorNickname()))
+                .description(projection.getDescription())
+                .amount(projection.getAmount())
+                .incomeDate(projection.getIncomeDate())
+                .source(projection.getSource())
+                .createdAt(projection.getCreatedAt())
+                .build();
+    }
+
+    // Despesas e receitas sem criador/contribuinte continuam sem usuário
+    private static User user(UUID id, String name, String nickname) {
+        if (id == null) {
+            return null;
+        }
+        return User.builder()
+                .id(id)
+                .name(name)
+                .nickname(nickname)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.rephelper.infrastructure.adapter.persistence.util;
+
+import com.rephelper.domain.model.FinanceTotal;
+import com.rephelper.domain.model.User;
+import com.rephelper.infrastructure.adapter.persistence.projection.UserTotalProjection;
+
+/**
+ * Classe utilitária para converter as projeções de totais agrupados no modelo de domínio
+ */
+public final class FinanceTotals {
+
+    private FinanceTotals() {
+    }
+
+    /**
+     * O usuário da chave contém apenas ID, nome e apelido
+     */
+    public static FinanceTotal<User> fromUser(UserTotalProjection projection) {
+        User user = User.builder()
+                .id(projection.getUserId())
+                .name(projection.getUserName())
+                .nickname(projection.getUserNickname())
+                .build();
+        return new FinanceTotal<>(user, projection.getTotalAmount(), projection.getEntryCount());
+    }
+}
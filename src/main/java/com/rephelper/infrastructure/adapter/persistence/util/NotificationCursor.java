@@ -0,0 +1,63 @@
+package com.rephelper.infrastructure.adapter.persistence.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.rephelper.domain.exception.ValidationException;
+import com.rephelper.infrastructure.entity.NotificationJpaEntity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Cursor opaco para paginação por keyset da caixa de notificações.
+ * A ordenação é fixa (created_at DESC, id DESC), alinhada ao índice (recipient_id, created_at, id).
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    /**
+     * Cria o cursor que aponta para a notificação informada
+     */
+    public static NotificationCursor of(NotificationJpaEntity entity) {
+        return new NotificationCursor(entity.getCreatedAt(), entity.getId());
+    }
+
+    /**
+     * Codifica o cursor em uma string opaca segura para URL
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente
+     *
+     * @throws ValidationException se o cursor estiver malformado
+     */
+    public static NotificationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new ValidationException("Cursor inválido");
+            }
+
+            LocalDateTime createdAt = LocalDateTime.parse(parts[0]);
+            Long id = Long.valueOf(parts[1]);
+
+            return new NotificationCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Cursor inválido");
+        }
+    }
+}
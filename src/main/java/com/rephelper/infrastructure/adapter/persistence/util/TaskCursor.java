@@ -0,0 +1,121 @@
+package com.rephelper.infrastructure.adapter.persistence.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import com.rephelper.domain.exception.ValidationException;
+import com.rephelper.infrastructure.entity.TaskJpaEntity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Cursor opaco para paginação por keyset de tarefas.
+ * Guarda o campo de ordenação, a direção, o valor da chave de ordenação
+ * e o ID da última tarefa retornada (usado como desempate).
+ */
+@Getter
+@AllArgsConstructor
+public class TaskCursor {
+
+    /**
+     * Campos que possuem índice alinhado com a ordenação (republic_id, campo, id)
+     */
+    public static final List<String> SORTABLE_FIELDS = List.of("dueDate", "createdAt", "id");
+
+    private static final String SEPARATOR = "|";
+
+    private final String sortBy;
+    private final Direction direction;
+    private final LocalDateTime value;
+    private final Long id;
+
+    /**
+     * Cria o cursor que aponta para a tarefa informada
+     */
+    public static TaskCursor of(TaskJpaEntity entity, String sortBy, Direction direction) {
+        LocalDateTime value = switch (sortBy) {
+            case "dueDate" -> entity.getDueDate();
+            case "createdAt" -> entity.getCreatedAt();
+            default -> null;
+        };
+        return new TaskCursor(sortBy, direction, value, entity.getId());
+    }
+
+    /**
+     * Valida o campo de ordenação para o modo cursor
+     *
+     * @param sortBy Campo solicitado (nulo ou vazio usa "dueDate")
+     * @return Campo de ordenação suportado
+     */
+    public static String resolveSortField(String sortBy) {
+        if (sortBy == null || sortBy.trim().isEmpty()) {
+            return "dueDate";
+        }
+
+        String field = sortBy.trim();
+        if (!SORTABLE_FIELDS.contains(field)) {
+            throw new ValidationException("Paginação por cursor suporta apenas ordenação por: " + SORTABLE_FIELDS);
+        }
+        return field;
+    }
+
+    /**
+     * Resolve a direção de ordenação (padrão ASC)
+     */
+    public static Direction resolveDirection(String sortDirection) {
+        if (sortDirection != null && sortDirection.trim().equalsIgnoreCase("DESC")) {
+            return Direction.DESC;
+        }
+        return Direction.ASC;
+    }
+
+    /**
+     * Ordenação estável usada no modo cursor: campo solicitado seguido do ID
+     */
+    public static Sort toSort(String sortBy, Direction direction) {
+        if ("id".equals(sortBy)) {
+            return Sort.by(direction, "id");
+        }
+        return Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * Codifica o cursor em uma string opaca segura para URL
+     */
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR
+                + (value != null ? value.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente
+     *
+     * @throws ValidationException se o cursor estiver malformado
+     */
+    public static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new ValidationException("Cursor inválido");
+            }
+
+            String sortBy = resolveSortField(parts[0]);
+            Direction direction = Direction.valueOf(parts[1]);
+            LocalDateTime value = parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]);
+            Long id = Long.valueOf(parts[3]);
+
+            return new TaskCursor(sortBy, direction, value, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Cursor inválido");
+        }
+    }
+}
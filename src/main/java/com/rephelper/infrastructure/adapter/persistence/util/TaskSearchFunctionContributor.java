@@ -0,0 +1,53 @@
+package com.rephelper.infrastructure.adapter.persistence.util;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registra no Hibernate as funções de busca textual de tarefas, usadas em JPQL e nas Specifications:
+ * <ul>
+ *     <li>{@code task_fts_match(title, description, termo)}: verdadeiro se a tarefa corresponde à busca</li>
+ *     <li>{@code task_fts_rank(title, description, termo)}: relevância da tarefa para a busca</li>
+ * </ul>
+ * No PostgreSQL usam o tsvector em português sobre título + descrição, coberto pelo índice GIN
+ * {@code idx_task_search_fts} (a expressão precisa ser idêntica à do índice). Em outros bancos
+ * (H2, MySQL) usam um LIKE sem índice, apenas para manter a compatibilidade.
+ *
+ * Registrado via META-INF/services/org.hibernate.boot.model.FunctionContributor.
+ */
+public class TaskSearchFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_FUNCTION = "task_fts_match";
+    public static final String RANK_FUNCTION = "task_fts_rank";
+
+    private static final String PG_DOCUMENT = "to_tsvector('portuguese', coalesce(?1, '') || ' ' || coalesce(?2, ''))";
+    private static final String PG_QUERY = "websearch_to_tsquery('portuguese', ?3)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE);
+
+        if (functionContributions.getDialect() instanceof PostgreSQLDialect) {
+            functionContributions.getFunctionRegistry().registerPattern(
+                    MATCH_FUNCTION, "(" + PG_DOCUMENT + " @@ " + PG_QUERY + ")", booleanType);
+            functionContributions.getFunctionRegistry().registerPattern(
+                    RANK_FUNCTION, "ts_rank_cd(" + PG_DOCUMENT + ", " + PG_QUERY + ")", doubleType);
+        } else {
+            functionContributions.getFunctionRegistry().registerPattern(
+                    MATCH_FUNCTION,
+                    "(lower(concat(coalesce(?1, ''), ' ', coalesce(?2, ''))) like concat('%', lower(?3), '%'))",
+                    booleanType);
+            functionContributions.getFunctionRegistry().registerPattern(
+                    RANK_FUNCTION,
+                    "(case when lower(?1) like concat('%', lower(?3), '%') then 1.0 "
+                            + "when lower(coalesce(?2, '')) like concat('%', lower(?3), '%') then 0.5 else 0.0 end)",
+                    doubleType);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.rephelper.infrastructure.adapter.push;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.SendResponse;
+import com.rephelper.domain.model.PushMessage;
+import com.rephelper.domain.port.out.PushGatewayPort;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Envio push pelo Firebase Cloud Messaging, em multicast (até 500 tokens por chamada)
+ */
+@Component
+@ConditionalOnProperty(name = "rephelper.push.gateway", havingValue = "fcm", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class FcmPushGatewayAdapter implements PushGatewayPort {
+
+    // Erros que indicam token que não receberá mais mensagens
+    private static final Set<MessagingErrorCode> INVALID_TOKEN_ERRORS = Set.of(
+            MessagingErrorCode.UNREGISTERED,
+            MessagingErrorCode.SENDER_ID_MISMATCH);
+
+    // INVALID_ARGUMENT também é devolvido quando a própria mensagem é inválida (ex.: dados acima do limite);
+    // no multicast, todos os tokens do lote recebem o erro, então ele não indica token inválido
+    private static final Set<MessagingErrorCode> REJECTED_MESSAGE_ERRORS = Set.of(
+            MessagingErrorCode.INVALID_ARGUMENT);
+
+    private final FirebaseMessaging firebaseMessaging;
+
+    @Override
+    public List<Outcome> send(PushMessage message, List<String> tokens) {
+        MulticastMessage multicast = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setNotification(com.google.firebase.messaging.Notification.builder()
+                        .setTitle(message.getTitle())
+                        .setBody(message.getBody())
+                        .build())
+                .putAllData(message.getData())
+                .build();
+
+        try {
+            BatchResponse response = firebaseMessaging.sendEachForMulticast(multicast);
+            List<Outcome> outcomes = new ArrayList<>(tokens.size());
+            for (SendResponse result : response.getResponses()) {
+                outcomes.add(toOutcome(result));
+            }
+            return outcomes;
+        } catch (FirebaseMessagingException e) {
+            // Falha da chamada inteira (autenticação, rede, cota): todos os tokens ficam para nova tentativa
+            log.warn("Falha no envio multicast para {} tokens: {}", tokens.size(), e.getMessage());
+            return new ArrayList<>(Collections.nCopies(tokens.size(), Outcome.RETRY));
+        }
+    }
+
+    private Outcome toOutcome(SendResponse result) {
+        if (result.isSuccessful()) {
+            return Outcome.SENT;
+        }
+        MessagingErrorCode errorCode = result.getException() != null
+                ? result.getException().getMessagingErrorCode()
+                : null;
+        if (errorCode != null && INVALID_TOKEN_ERRORS.contains(errorCode)) {
+            return Outcome.INVALID_TOKEN;
+        }
+        if (errorCode != null && REJECTED_MESSAGE_ERRORS.contains(errorCode)) {
+            return Outcome.REJECTED;
+        }
+        return Outcome.RETRY;
+    }
+}
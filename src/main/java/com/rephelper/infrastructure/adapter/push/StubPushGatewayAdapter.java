@@ -0,0 +1,29 @@
+package com.rephelper.infrastructure.adapter.push;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.rephelper.domain.model.PushMessage;
+import com.rephelper.domain.port.out.PushGatewayPort;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Envio push local, sem Firebase (rephelper.push.gateway=stub): apenas registra as mensagens
+ * no log e considera todos os tokens entregues. Usado em testes e desenvolvimento.
+ */
+@Component
+@ConditionalOnProperty(name = "rephelper.push.gateway", havingValue = "stub")
+@Slf4j
+public class StubPushGatewayAdapter implements PushGatewayPort {
+
+    @Override
+    public List<Outcome> send(PushMessage message, List<String> tokens) {
+        log.info("Push (stub) '{}' para {} dispositivos", message.getTitle(), tokens.size());
+        return new ArrayList<>(Collections.nCopies(tokens.size(), Outcome.SENT));
+    }
+}
@@ -10,7 +10,10 @@ import java.util.Collections;
 import java.util.UUID;
 
 /**
- * Implementação customizada de UserDetails
+ * Implementação customizada de UserDetails.
+ * Além do usuário e do papel, carrega o vínculo com a república lido das claims do token
+ * (república atual, flag de administrador e versão do vínculo), o que permite autorizar
+ * sem carregar o usuário do banco.
  */
 public class CustomUserDetails implements UserDetails {
 
@@ -20,14 +23,47 @@ public class CustomUserDetails implements UserDetails {
     private final UUID userId;
     @Getter
     private final String role;
+    @Getter
+    private final UUID republicId;
+    private final boolean republicAdmin;
+    @Getter
+    private final Long membershipVersion;
     private final Collection<? extends GrantedAuthority> authorities;
 
     public CustomUserDetails(UUID userId, String role) {
+        this(userId, role, null, false, null);
+    }
+
+    public CustomUserDetails(UUID userId, String role, UUID republicId, boolean republicAdmin, Long membershipVersion) {
         this.userId = userId;
         this.role = role;
+        this.republicId = republicId;
+        this.republicAdmin = republicAdmin;
+        this.membershipVersion = membershipVersion;
         this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
     }
 
+    /**
+     * Indica se o token trouxe as claims de vínculo com a república
+     */
+    public boolean hasMembershipClaims() {
+        return membershipVersion != null;
+    }
+
+    /**
+     * Verifica se o usuário pertence à república informada
+     */
+    public boolean isMemberOf(UUID republicId) {
+        return this.republicId != null && this.republicId.equals(republicId);
+    }
+
+    /**
+     * Verifica se o usuário é administrador da república informada
+     */
+    public boolean isRepublicAdminOf(UUID republicId) {
+        return republicAdmin && isMemberOf(republicId);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -3,6 +3,7 @@ package com.rephelper.infrastructure.adapter.security;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -10,6 +11,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.rephelper.domain.port.out.UserRepositoryPort;
+import com.rephelper.infrastructure.config.JwtProperties;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +30,8 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
+    private final UserRepositoryPort userRepository;
+    private final JwtProperties jwtProperties;
     
     // Lista de caminhos públicos que não requerem autenticação
     private static final List<String> PUBLIC_PATHS = Arrays.asList(
@@ -61,10 +67,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // Obter token do cabeçalho
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
+            // Validação e leitura das claims em uma única passada; o token verificado e a conferência
+            // do vínculo ficam em cache
+            Optional<Authentication> authentication = StringUtils.hasText(jwt)
+                    ? tokenProvider.authenticate(jwt, this::resolveMembership)
+                    : Optional.empty();
+
+            if (authentication.isPresent()) {
                 // Token válido, autenticar usuário
-                Authentication authentication = tokenProvider.getAuthentication(jwt);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                SecurityContextHolder.getContext().setAuthentication(authentication.get());
                 log.debug("Usuário autenticado com sucesso via JWT");
             } else {
                 // Token inválido ou não fornecido
@@ -80,6 +91,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
     
+    /**
+     * Verifica se o vínculo com a república gravado no token ainda é o atual.
+     * Tokens com versão anterior precisam ser renovados (POST /api/v1/auth/refresh), que emite
+     * um token com o vínculo atualizado. Tokens emitidos antes das claims de vínculo são aceitos
+     * até expirarem, com o vínculo lido do banco, para que a implantação não desconecte todos os
+     * usuários; depois de um período de expiração podem ser recusados com
+     * rephelper.jwt.accept-legacy-tokens=false.
+     */
+    private Optional<CustomUserDetails> resolveMembership(CustomUserDetails fromToken) {
+        if (!fromToken.hasMembershipClaims()) {
+            if (!jwtProperties.isAcceptLegacyTokens()) {
+                log.warn("Token JWT sem claims de vínculo recusado para o usuário {}", fromToken.getUserId());
+                return Optional.empty();
+            }
+            return userRepository.findById(fromToken.getUserId())
+                    .map(user -> new CustomUserDetails(
+                            user.getId(),
+                            fromToken.getRole(),
+                            user.getCurrentRepublic() != null ? user.getCurrentRepublic().getId() : null,
+                            user.isRepublicAdmin(),
+                            user.getMembershipVersion()));
+        }
+
+        boolean current = userRepository.findMembershipVersionById(fromToken.getUserId())
+                .map(version -> version.equals(fromToken.getMembershipVersion()))
+                .orElse(false);
+        if (!current) {
+            log.warn("Token JWT com vínculo de república desatualizado para o usuário {}", fromToken.getUserId());
+            return Optional.empty();
+        }
+        return Optional.of(fromToken);
+    }
+
     /**
      * Verifica se o caminho está na lista de caminhos públicos
      */
@@ -1,18 +1,28 @@
 package com.rephelper.infrastructure.adapter.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import javax.crypto.SecretKey;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.rephelper.domain.model.User;
 import com.rephelper.infrastructure.config.JwtProperties;
-import org.springframework.beans.factory.annotation.Value;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.io.Decoders;
@@ -21,22 +31,39 @@ import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureException;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Provedor de tokens JWT
+ * Provedor de tokens JWT.
+ * A verificação usa um parser pré-construído e uma única leitura das claims por token;
+ * tokens já verificados ficam em cache (chave: hash SHA-256 do token) até a sua expiração,
+ * de modo que requisições repetidas com o mesmo token não refazem a verificação da assinatura.
+ * O resultado da conferência do vínculo com a república fica no mesmo cache, renovado a cada
+ * {@code membershipVersionCacheTtl}.
  */
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
+    // Claims do vínculo do usuário com a república
+    public static final String REPUBLIC_ID_CLAIM = "republicId";
+    public static final String REPUBLIC_ADMIN_CLAIM = "republicAdmin";
+    public static final String MEMBERSHIP_VERSION_CLAIM = "mv";
+
     private final SecretKey key;
     private final long jwtExpirationMs;
     private final String issuer;
     private final String audience;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final long membershipCheckTtlMillis;
 
-
-    public JwtTokenProvider(JwtProperties jwtProperties) {
+    public JwtTokenProvider(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
         // If the existing secret is not long enough, generate a new secure key
         if (jwtProperties.getSecret() == null || jwtProperties.getSecret().length() < 64) {
             // Generate a secure key
@@ -55,18 +82,35 @@ public class JwtTokenProvider {
         this.jwtExpirationMs = jwtProperties.getExpiration();
         this.issuer = jwtProperties.getIssuer();
         this.audience = jwtProperties.getAudience();
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setAllowedClockSkewSeconds(30) // Permite 30 segundos de diferença
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getCacheMaxSize())
+                .expireAfter(new ExpireAtTokenExpiration())
+                .build();
+        this.cacheHits = meterRegistry.counter("rephelper.jwt.cache", "result", "hit");
+        this.cacheMisses = meterRegistry.counter("rephelper.jwt.cache", "result", "miss");
+        this.membershipCheckTtlMillis = jwtProperties.getMembershipVersionCacheTtl().toMillis();
     }
 
 
     /**
-     * Gera um token JWT para o usuário
+     * Gera um token JWT para o usuário, com a república atual, a flag de administrador
+     * e a versão do vínculo como claims
      */
-    public String generateToken(UUID userId) {
+    public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
+        if (user.getCurrentRepublic() != null) {
+            claims.put(REPUBLIC_ID_CLAIM, user.getCurrentRepublic().getId().toString());
+        }
+        claims.put(REPUBLIC_ADMIN_CLAIM, user.isRepublicAdmin());
+        claims.put(MEMBERSHIP_VERSION_CLAIM, user.getMembershipVersion());
 
         return Jwts.builder()
                 .setClaims(claims)
-                .setSubject(userId.toString())
+                .setSubject(user.getId().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
                 .setIssuer(issuer)
@@ -110,12 +154,7 @@ public class JwtTokenProvider {
      * Obtém todas as claims do token
      */
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)  // Use the SecretKey here
-                .setAllowedClockSkewSeconds(30) // Permite 30 segundos de diferença
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /**
@@ -148,37 +187,171 @@ public class JwtTokenProvider {
      * Valida o token JWT
      */
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    /**
+     * Cria uma autenticação a partir do token
+     */
+    public Authentication getAuthentication(String token) {
+        VerifiedToken verified = verify(token);
+        if (verified == null) {
+            throw new IllegalArgumentException("Token JWT inválido");
+        }
+        return toAuthentication(verified.getUserDetails());
+    }
+
+    /**
+     * Valida o token e cria a autenticação em uma única leitura do token
+     *
+     * @param token Token JWT
+     * @return Autenticação do usuário, ou vazio se o token for inválido ou estiver expirado
+     */
+    public Optional<Authentication> authenticate(String token) {
+        VerifiedToken verified = verify(token);
+        return verified == null ? Optional.empty() : Optional.of(toAuthentication(verified.getUserDetails()));
+    }
+
+    /**
+     * Valida o token e confere o vínculo com a república. A conferência roda no máximo uma vez
+     * a cada {@code membershipVersionCacheTtl} por token; no intervalo vale o resultado em cache
+     *
+     * @param token Token JWT
+     * @param membershipResolver Confere o vínculo do usuário lido das claims
+     * @return Autenticação com o vínculo efetivo, ou vazio se o token for inválido ou precisar ser renovado
+     */
+    public Optional<Authentication> authenticate(String token, MembershipResolver membershipResolver) {
+        VerifiedToken verified = verify(token);
+        if (verified == null) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        MembershipCheck check = verified.getMembershipCheck();
+        if (check == null || now - check.getCheckedAtMillis() >= membershipCheckTtlMillis) {
+            check = new MembershipCheck(membershipResolver.resolve(verified.getUserDetails()).orElse(null), now);
+            verified.setMembershipCheck(check);
+        }
+        return Optional.ofNullable(check.getUserDetails()).map(this::toAuthentication);
+    }
+
+    /**
+     * Retorna o token verificado a partir do cache ou, na ausência, verifica a assinatura
+     * e lê as claims uma única vez. Tokens inválidos não são armazenados.
+     */
+    private VerifiedToken verify(String token) {
+        String tokenHash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && cached.getExpiresAtMillis() > System.currentTimeMillis()) {
+            cacheHits.increment();
+            return cached;
+        }
+        cacheMisses.increment();
+
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .setAllowedClockSkewSeconds(30) // Permite 30 segundos de diferença
-                .build()
-                .parseClaimsJws(token);
-            
             // O parseClaimsJws já verifica a expiração com o clock skew configurado
-            return true;
+            Claims claims = getAllClaimsFromToken(token);
+            Date expiration = claims.getExpiration();
+            VerifiedToken verified = new VerifiedToken(
+                    toUserDetails(claims),
+                    expiration != null ? expiration.getTime() : System.currentTimeMillis() + jwtExpirationMs);
+            verifiedTokens.put(tokenHash, verified);
+            return verified;
         } catch (ExpiredJwtException e) {
             log.error("JWT token expirou: {}", e.getMessage());
-            return false;
+            return null;
         } catch (MalformedJwtException | SignatureException e) {
             log.error("JWT token inválido: {}", e.getMessage());
-            return false;
+            return null;
         } catch (Exception e) {
             log.error("Erro na validação JWT: {}", e.getMessage());
-            return false;
+            return null;
+        }
+    }
+
+    private CustomUserDetails toUserDetails(Claims claims) {
+        String republicId = claims.get(REPUBLIC_ID_CLAIM, String.class);
+        Number membershipVersion = claims.get(MEMBERSHIP_VERSION_CLAIM, Number.class);
+        return new CustomUserDetails(
+                UUID.fromString(claims.getSubject()),
+                claims.get("role", String.class),
+                republicId != null ? UUID.fromString(republicId) : null,
+                Boolean.TRUE.equals(claims.get(REPUBLIC_ADMIN_CLAIM, Boolean.class)),
+                membershipVersion != null ? membershipVersion.longValue() : null);
+    }
+
+    private Authentication toAuthentication(CustomUserDetails userDetails) {
+        return new UsernamePasswordAuthenticationToken(
+                userDetails, null, userDetails.getAuthorities());
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
         }
     }
 
     /**
-     * Cria uma autenticação a partir do token
+     * Confere o vínculo com a república de um usuário autenticado por token
      */
-    public Authentication getAuthentication(String token) {
-        UUID userId = getUserIdFromToken(token);
-        String role = getRoleFromToken(token);
+    @FunctionalInterface
+    public interface MembershipResolver {
+        /**
+         * @param fromToken Usuário lido das claims do token
+         * @return Usuário com o vínculo efetivo, ou vazio se o token precisa ser renovado
+         */
+        Optional<CustomUserDetails> resolve(CustomUserDetails fromToken);
+    }
 
-        UserDetails userDetails = new CustomUserDetails(userId, role);
+    /**
+     * Resultado da verificação de um token: usuário autenticado, instante de expiração
+     * e última conferência do vínculo
+     */
+    @Getter
+    private static final class VerifiedToken {
+        private final CustomUserDetails userDetails;
+        private final long expiresAtMillis;
+        @Setter
+        private volatile MembershipCheck membershipCheck;
 
-        return new UsernamePasswordAuthenticationToken(
-                userDetails, null, userDetails.getAuthorities());
+        private VerifiedToken(CustomUserDetails userDetails, long expiresAtMillis) {
+            this.userDetails = userDetails;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    /**
+     * Vínculo efetivo (nulo se o token foi recusado) e instante da conferência
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class MembershipCheck {
+        private final CustomUserDetails userDetails;
+        private final long checkedAtMillis;
+    }
+
+    /**
+     * Mantém cada token no cache apenas até a expiração (claim exp) do próprio token
+     */
+    private static final class ExpireAtTokenExpiration implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.getExpiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
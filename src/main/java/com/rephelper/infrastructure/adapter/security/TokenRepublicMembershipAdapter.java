@@ -0,0 +1,48 @@
+package com.rephelper.infrastructure.adapter.security;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import com.rephelper.domain.model.RepublicMembership;
+import com.rephelper.domain.port.out.RepublicMembershipPort;
+import com.rephelper.domain.port.out.UserRepositoryPort;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolve o vínculo com a república a partir das claims do token da requisição atual.
+ * As claims já foram conferidas contra a versão do vínculo no JwtAuthenticationFilter;
+ * para outros usuários ou fora de uma requisição autenticada (jobs agendados), carrega o usuário.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenRepublicMembershipAdapter implements RepublicMembershipPort {
+
+    private final UserRepositoryPort userRepository;
+
+    @Override
+    public Optional<RepublicMembership> findByUserId(UUID userId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                && userDetails.getUserId().equals(userId)
+                && userDetails.hasMembershipClaims()) {
+            return Optional.of(RepublicMembership.builder()
+                    .userId(userId)
+                    .republicId(userDetails.getRepublicId())
+                    .republicAdmin(userDetails.isRepublicAdminOf(userDetails.getRepublicId()))
+                    .build());
+        }
+
+        return userRepository.findById(userId)
+                .map(user -> RepublicMembership.builder()
+                        .userId(user.getId())
+                        .republicId(user.getCurrentRepublic() != null ? user.getCurrentRepublic().getId() : null)
+                        .republicAdmin(user.isRepublicAdmin())
+                        .build());
+    }
+}
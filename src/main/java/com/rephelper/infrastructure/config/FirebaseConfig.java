@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.util.StringUtils;
@@ -13,6 +14,7 @@ import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.messaging.FirebaseMessaging;
 
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
@@ -107,4 +109,14 @@ public class FirebaseConfig {
             throw new RuntimeException("Falha ao obter FirebaseAuth", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Bean para o FirebaseMessaging (envio push), somente quando o FCM é o serviço de push configurado
+     */
+    @Bean
+    @ConditionalOnProperty(name = "rephelper.push.gateway", havingValue = "fcm", matchIfMissing = true)
+    public FirebaseMessaging firebaseMessaging(FirebaseAuth firebaseAuth) {
+        // Depende do FirebaseAuth, que garante a inicialização do FirebaseApp
+        return FirebaseMessaging.getInstance();
+    }
+}
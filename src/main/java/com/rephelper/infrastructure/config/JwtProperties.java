@@ -1,5 +1,7 @@
 package com.rephelper.infrastructure.config; // Put this in a suitable package
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import lombok.Getter;
@@ -15,4 +17,10 @@ public class JwtProperties {
     private long expiration;
     private String issuer;
     private String audience;
+    // Quantidade máxima de tokens verificados mantidos em cache
+    private long cacheMaxSize = 10_000;
+    // Intervalo entre conferências do vínculo com a república de um mesmo token
+    private Duration membershipVersionCacheTtl = Duration.ofSeconds(30);
+    // Aceita, até expirarem, tokens emitidos antes das claims de vínculo (vínculo lido do banco)
+    private boolean acceptLegacyTokens = true;
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.rephelper.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor usado para gravar notificações fora da transação de negócio.
+ * Threads virtuais com concorrência e fila limitadas: com a fila cheia a tarefa roda na própria
+ * thread chamadora, o que segura o produtor em vez de descartar notificações.
+ */
+@Configuration
+@Slf4j
+public class NotificationDispatchConfig {
+
+    public static final String NOTIFICATION_DISPATCH_EXECUTOR = "notificationDispatchExecutor";
+
+    @Bean(name = NOTIFICATION_DISPATCH_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationDispatchExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${rephelper.notifications.dispatch.concurrency:8}") int concurrency,
+            @Value("${rephelper.notifications.dispatch.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("notification-dispatch-");
+        executor.setVirtualThreads(true);
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            meterRegistry.counter("rephelper.notifications.dispatch.throttled").increment();
+            if (pool.isShutdown()) {
+                log.warn("Executor de notificações encerrado; notificação descartada");
+                return;
+            }
+            task.run();
+        });
+
+        Gauge.builder("rephelper.notifications.dispatch.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .register(meterRegistry);
+        Gauge.builder("rephelper.notifications.dispatch.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+
+        return executor;
+    }
+}
@@ -0,0 +1,40 @@
+package com.rephelper.infrastructure.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor dos heartbeats das conexões SSE de notificações.
+ * Cada conexão recebe o heartbeat em uma tarefa própria, em threads virtuais: um cliente lento
+ * não segura a thread compartilhada do agendador nem atrasa os demais. Com a fila cheia o heartbeat
+ * é descartado; o próximo ciclo tenta de novo.
+ */
+@Configuration
+public class NotificationStreamConfig {
+
+    public static final String NOTIFICATION_STREAM_EXECUTOR = "notificationStreamExecutor";
+
+    @Bean(name = NOTIFICATION_STREAM_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationStreamExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${rephelper.notifications.stream.heartbeat-concurrency:16}") int concurrency,
+            @Value("${rephelper.notifications.stream.heartbeat-queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("notification-stream-");
+        executor.setVirtualThreads(true);
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) ->
+                meterRegistry.counter("rephelper.notifications.stream.heartbeat.dropped").increment());
+
+        Gauge.builder("rephelper.notifications.stream.heartbeat.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .register(meterRegistry);
+
+        return executor;
+    }
+}
@@ -17,6 +17,7 @@ import com.rephelper.infrastructure.adapter.security.JwtAuthenticationEntryPoint
 import com.rephelper.infrastructure.adapter.security.JwtAuthenticationFilter;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -90,6 +91,9 @@ public class SecurityConfig {
                     }
                 });
                 
+                // Despachos assíncronos (stream SSE de notificações) continuam uma requisição já autenticada
+                authorize.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+
                 // Permitir OPTIONS para todos os endpoints (para CORS preflight)
                 authorize.requestMatchers(org.springframework.http.HttpMethod.OPTIONS, "/**").permitAll();
                 
@@ -17,6 +17,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
@@ -28,8 +31,17 @@ import lombok.Setter;
 
 /**
  * Entidade JPA para persistência de eventos no banco de dados.
+ * O grafo nomeado carrega república, criador e convites com seus usuários em uma única consulta,
+ * que é o que o mapeamento para o domínio percorre tanto na listagem quanto no detalhe.
  */
 @Entity
+@NamedEntityGraph(name = EventJpaEntity.GRAPH_WITH_INVITATIONS,
+        attributeNodes = {
+                @NamedAttributeNode("republic"),
+                @NamedAttributeNode("createdBy"),
+                @NamedAttributeNode(value = "invitations", subgraph = "invitations")
+        },
+        subgraphs = @NamedSubgraph(name = "invitations", attributeNodes = @NamedAttributeNode("user")))
 @Table(name = "events")
 @Getter
 @Setter
@@ -39,6 +51,8 @@ import lombok.Setter;
 @EntityListeners(AuditingEntityListener.class)
 public class EventJpaEntity {
 
+    public static final String GRAPH_WITH_INVITATIONS = "Event.withInvitations";
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_id_seq_gen")
     @SequenceGenerator(name = "events_id_seq_gen", sequenceName = "events_id_seq", allocationSize = 1)
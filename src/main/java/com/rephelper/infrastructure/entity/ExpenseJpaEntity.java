@@ -29,7 +29,8 @@ public class ExpenseJpaEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expenses_id_seq_gen")
-    @SequenceGenerator(name = "expenses_id_seq_gen", sequenceName = "expenses_id_seq", allocationSize = 1)
+    // Pool de 50 IDs por chamada à sequência (V18), para que a importação em lote não faça um nextval por linha
+    @SequenceGenerator(name = "expenses_id_seq_gen", sequenceName = "expenses_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,61 @@
+package com.rephelper.infrastructure.entity;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidade JPA para os snapshots de saldo do livro-razão.
+ * Um snapshot cobre todos os lançamentos da república com ID até {@code lastEntryId}.
+ */
+@Entity
+@Table(name = "finance_balance_snapshots")
+@IdClass(FinanceBalanceSnapshotJpaEntity.FinanceBalanceSnapshotId.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinanceBalanceSnapshotJpaEntity {
+
+    @Id
+    @Column(name = "republic_id")
+    private UUID republicId;
+
+    @Id
+    @Column(name = "last_entry_id")
+    private Long lastEntryId;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal balance;
+
+    @Column(name = "last_entry_at", nullable = false)
+    private LocalDateTime lastEntryAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class FinanceBalanceSnapshotId implements Serializable {
+        private UUID republicId;
+        private Long lastEntryId;
+    }
+}
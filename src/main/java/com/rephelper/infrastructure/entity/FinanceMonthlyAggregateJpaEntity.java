@@ -0,0 +1,77 @@
+package com.rephelper.infrastructure.entity;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.rephelper.domain.model.FinanceMonthlyAggregate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidade JPA para os totais mensais de finanças de uma república.
+ * O mês é gravado como o primeiro dia do mês; a categoria vazia representa lançamentos sem categoria.
+ */
+@Entity
+@Table(name = "finance_monthly_aggregates")
+@IdClass(FinanceMonthlyAggregateJpaEntity.FinanceMonthlyAggregateId.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinanceMonthlyAggregateJpaEntity {
+
+    @Id
+    @Column(name = "republic_id")
+    private UUID republicId;
+
+    @Id
+    @Column(name = "year_month")
+    private LocalDate yearMonth;
+
+    @Id
+    @Column(name = "category")
+    private String category;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", length = 10)
+    private FinanceMonthlyAggregate.Kind kind;
+
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "entry_count", nullable = false)
+    private long entryCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class FinanceMonthlyAggregateId implements Serializable {
+        private UUID republicId;
+        private LocalDate yearMonth;
+        private String category;
+        private FinanceMonthlyAggregate.Kind kind;
+    }
+}
@@ -26,7 +26,8 @@ public class NotificationJpaEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_id_seq_gen")
-    @SequenceGenerator(name = "notifications_id_seq_gen", sequenceName = "notifications_id_seq", allocationSize = 1)
+    // Pool de 50 IDs por chamada à sequência (V9), para que as inserções em lote não façam um nextval por linha
+    @SequenceGenerator(name = "notifications_id_seq_gen", sequenceName = "notifications_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
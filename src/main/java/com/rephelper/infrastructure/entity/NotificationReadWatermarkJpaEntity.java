@@ -0,0 +1,38 @@
+package com.rephelper.infrastructure.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidade JPA para a marca d'água de leitura de notificações de um usuário.
+ */
+@Entity
+@Table(name = "notification_read_watermarks")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationReadWatermarkJpaEntity {
+
+    @Id
+    @Column(name = "recipient_id")
+    private UUID recipientId;
+
+    @Column(name = "read_up_to", nullable = false)
+    private LocalDateTime readUpTo;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,9 +18,26 @@ import lombok.Setter;
 
 /**
  * Entidade JPA para persistência de tarefas no banco de dados.
+ * Os grafos nomeados definem o plano de carga de cada caso de uso dos adaptadores:
+ * listagem (associações ToOne em join; usuários atribuídos em lote via {@link BatchSize}),
+ * detalhe (tudo em join) e jobs agendados (mesmo plano da listagem).
  */
 @Entity
-@Table(name = "tasks")
+@NamedEntityGraph(name = TaskJpaEntity.GRAPH_LIST, attributeNodes = {
+        @NamedAttributeNode("republic"),
+        @NamedAttributeNode("createdBy")
+})
+@NamedEntityGraph(name = TaskJpaEntity.GRAPH_DETAIL, attributeNodes = {
+        @NamedAttributeNode("republic"),
+        @NamedAttributeNode("createdBy"),
+        @NamedAttributeNode("assignedUsers")
+})
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_task_republic_due_date_id", columnList = "republic_id, due_date, id"),
+        @Index(name = "idx_task_republic_created_at_id", columnList = "republic_id, created_at, id"),
+        @Index(name = "idx_task_parent_task_id", columnList = "parent_task_id"),
+        @Index(name = "idx_task_status_due_date", columnList = "status, due_date")
+})
 @Getter
 @Setter
 @Builder
@@ -28,6 +46,10 @@ import lombok.Setter;
 @EntityListeners(AuditingEntityListener.class)
 public class TaskJpaEntity {
 
+    public static final String GRAPH_LIST = "Task.list";
+    public static final String GRAPH_DETAIL = "Task.detail";
+    public static final String GRAPH_SCHEDULER = GRAPH_LIST;
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq_gen")
     @SequenceGenerator(name = "tasks_id_seq_gen", sequenceName = "tasks_id_seq", allocationSize = 1)
@@ -48,6 +70,7 @@ public class TaskJpaEntity {
     private UserJpaEntity createdBy;
 
     @ManyToMany
+    @BatchSize(size = 50)
     @JoinTable(
             name = "user_tasks",
             joinColumns = @JoinColumn(name = "task_id"),
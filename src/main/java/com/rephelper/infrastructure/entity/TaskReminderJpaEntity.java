@@ -0,0 +1,58 @@
+package com.rephelper.infrastructure.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidade JPA para o registro de lembretes já enviados de uma tarefa.
+ * A chave inclui o prazo: se o prazo da tarefa mudar, o lembrete volta a ser enviado.
+ */
+@Entity
+@Table(name = "task_reminders")
+@IdClass(TaskReminderJpaEntity.TaskReminderId.class)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskReminderJpaEntity {
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Id
+    @Column(name = "kind", length = 30)
+    private String kind;
+
+    @Id
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+
+    @Column(name = "reminded_at", nullable = false)
+    private LocalDateTime remindedAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class TaskReminderId implements Serializable {
+        private Long taskId;
+        private String kind;
+        private LocalDateTime dueDate;
+    }
+}
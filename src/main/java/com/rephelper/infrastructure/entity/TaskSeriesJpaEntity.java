@@ -0,0 +1,75 @@
+package com.rephelper.infrastructure.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.*;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidade JPA para persistência de séries de tarefas recorrentes.
+ */
+@Entity
+@Table(name = "task_series", indexes = {
+        @Index(name = "idx_task_series_active_next_due", columnList = "active, next_due_date, id"),
+        @Index(name = "idx_task_series_head_task", columnList = "head_task_id", unique = true),
+        @Index(name = "idx_task_series_republic", columnList = "republic_id")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSeriesJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_series_id_seq_gen")
+    @SequenceGenerator(name = "task_series_id_seq_gen", sequenceName = "task_series_id_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "republic_id", nullable = false)
+    private UUID republicId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "recurrence_type", nullable = false)
+    private TaskJpaEntity.RecurrenceTypeJpa recurrenceType;
+
+    @Column(name = "recurrence_interval", nullable = false)
+    private Integer recurrenceInterval;
+
+    @Column(name = "recurrence_end_date")
+    private LocalDateTime recurrenceEndDate;
+
+    @Column(name = "head_task_id")
+    private Long headTaskId;
+
+    @Column(name = "next_due_date")
+    private LocalDateTime nextDueDate;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -6,6 +6,8 @@ import java.util.UUID;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -63,6 +65,10 @@ public class UserJpaEntity {
     @Column(name = "is_admin")
     private Boolean isAdmin;
 
+    @ColumnDefault("0")
+    @Column(name = "membership_version", nullable = false)
+    private long membershipVersion;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -22,6 +22,7 @@ import com.rephelper.domain.exception.ConflictException;
 import com.rephelper.domain.exception.DomainException;
 import com.rephelper.domain.exception.ForbiddenException;
 import com.rephelper.domain.exception.ResourceNotFoundException;
+import com.rephelper.domain.exception.TooManyRequestsException;
 import com.rephelper.domain.exception.ValidationException;
 
 import io.jsonwebtoken.ExpiredJwtException;
@@ -148,6 +149,23 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Trata exceções de recurso ocupado
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(
+            TooManyRequestsException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status("TOO_MANY_REQUESTS")
+                .message(ex.getMessage())
+                .timestamp(getCurrentTimestamp())
+                .path(getRequestPath(request))
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     /**
      * Trata exceções de negócio
      */
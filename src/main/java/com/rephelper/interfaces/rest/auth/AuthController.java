@@ -60,7 +60,7 @@ public class AuthController {
             user = userService.updateLastLogin(user.getId());
             
             // Generate JWT token
-            String token = jwtTokenProvider.generateToken(user.getId());
+            String token = jwtTokenProvider.generateToken(user);
             log.info("Token JWT gerado com sucesso");
             
             // Map user to response
@@ -106,7 +106,7 @@ public class AuthController {
             log.info("Usuário encontrado: {}", user.getEmail());
             
             // Generate new token
-            String newToken = jwtTokenProvider.generateToken(user.getId());
+            String newToken = jwtTokenProvider.generateToken(user);
             log.info("Novo token JWT gerado com sucesso");
             
             // Map user to response
@@ -136,7 +136,7 @@ public class AuthController {
                 log.info("Usuário já existente, realizando login: {}", existingUser.getEmail());
                 
                 // If we get here, user exists - just log them in
-                String token = jwtTokenProvider.generateToken(existingUser.getId());
+                String token = jwtTokenProvider.generateToken(existingUser);
                 return ResponseEntity.ok(AuthResponse.builder()
                         .token(token)
                         .user(userDtoMapper.toUserResponse(existingUser))
@@ -148,7 +148,7 @@ public class AuthController {
                 User createdUser = userService.createUser(newUser);
                 
                 // Generate JWT token
-                String token = jwtTokenProvider.generateToken(createdUser.getId());
+                String token = jwtTokenProvider.generateToken(createdUser);
                 log.info("Usuário criado com sucesso: {}", createdUser.getEmail());
                 
                 // Return auth response with token and user
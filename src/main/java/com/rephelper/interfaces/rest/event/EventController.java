@@ -25,9 +25,7 @@ import com.rephelper.application.dto.response.EventResponse;
 import com.rephelper.application.mapper.EventDtoMapper;
 import com.rephelper.domain.exception.ValidationException;
 import com.rephelper.domain.model.Event;
-import com.rephelper.domain.model.User;
 import com.rephelper.domain.port.in.EventServicePort;
-import com.rephelper.domain.port.in.UserServicePort;
 import com.rephelper.infrastructure.adapter.security.CustomUserDetails;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -42,7 +40,6 @@ import lombok.RequiredArgsConstructor;
 public class EventController {
 
     private final EventServicePort eventService;
-    private final UserServicePort userService;
     private final EventDtoMapper eventDtoMapper;
 
     @PostMapping
@@ -66,18 +63,15 @@ public class EventController {
             @RequestParam(required = false) UUID republicId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to determine their republic
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // If republicId is provided, validate that it matches user's republic (unless admin)
         UUID targetRepublicId = republicId;
         if (targetRepublicId == null) {
-            targetRepublicId = user.getCurrentRepublic().getId();
-        } else if (!targetRepublicId.equals(user.getCurrentRepublic().getId()) &&
+            targetRepublicId = currentUser.getRepublicId();
+        } else if (!targetRepublicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view events for your own republic");
         }
@@ -105,18 +99,15 @@ public class EventController {
             @RequestParam(required = false) UUID republicId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to determine their republic
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // If republicId is provided, validate that it matches user's republic (unless admin)
         UUID targetRepublicId = republicId;
         if (targetRepublicId == null) {
-            targetRepublicId = user.getCurrentRepublic().getId();
-        } else if (!targetRepublicId.equals(user.getCurrentRepublic().getId()) &&
+            targetRepublicId = currentUser.getRepublicId();
+        } else if (!targetRepublicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view events for your own republic");
         }
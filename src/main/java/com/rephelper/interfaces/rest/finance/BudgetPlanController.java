@@ -6,9 +6,7 @@ import com.rephelper.application.dto.response.BudgetPlanResponse;
 import com.rephelper.application.mapper.BudgetPlanDtoMapper;
 import com.rephelper.domain.exception.ValidationException;
 import com.rephelper.domain.model.BudgetPlan;
-import com.rephelper.domain.model.User;
 import com.rephelper.domain.port.in.BudgetPlanServicePort;
-import com.rephelper.domain.port.in.UserServicePort;
 import com.rephelper.infrastructure.adapter.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -29,7 +27,6 @@ import java.util.UUID;
 public class BudgetPlanController {
 
     private final BudgetPlanServicePort budgetPlanService;
-    private final UserServicePort userService;
     private final BudgetPlanDtoMapper budgetPlanDtoMapper;
 
     @PostMapping
@@ -38,15 +35,12 @@ public class BudgetPlanController {
             @Valid @RequestBody CreateBudgetPlanRequest request,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!request.getRepublicId().equals(user.getCurrentRepublic().getId()) &&
+        if (!request.getRepublicId().equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only create budget plans for your own republic");
         }
@@ -68,15 +62,12 @@ public class BudgetPlanController {
             @RequestParam(required = true) UUID republicId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view budget plans for your own republic");
         }
@@ -95,14 +86,11 @@ public class BudgetPlanController {
 
         BudgetPlan budgetPlan = budgetPlanService.getBudgetPlanById(id);
 
-        // Validate user has access to this budget plan
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
-        if (!budgetPlan.getRepublic().getId().equals(user.getCurrentRepublic().getId()) &&
+        if (!budgetPlan.getRepublic().getId().equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view budget plans for your own republic");
         }
@@ -118,15 +106,12 @@ public class BudgetPlanController {
             @RequestParam(required = true) Integer month,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view budget plans for your own republic");
         }
@@ -146,15 +131,12 @@ public class BudgetPlanController {
             @RequestParam(required = true) String category,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view budget plans for your own republic");
         }
@@ -4,23 +4,31 @@ import com.rephelper.application.dto.request.CreateExpenseRequest;
 import com.rephelper.application.dto.request.RejectExpenseRequest;
 import com.rephelper.application.dto.request.UpdateExpenseRequest;
 import com.rephelper.application.dto.response.ApiResponse;
+import com.rephelper.application.dto.response.ExpenseImportResponse;
 import com.rephelper.application.dto.response.ExpenseResponse;
 import com.rephelper.application.mapper.ExpenseDtoMapper;
 import com.rephelper.domain.exception.ValidationException;
 import com.rephelper.domain.model.Expense;
-import com.rephelper.domain.model.User;
+import com.rephelper.domain.model.ExpenseImportResult;
 import com.rephelper.domain.port.in.ExpenseServicePort;
-import com.rephelper.domain.port.in.UserServicePort;
+import com.rephelper.domain.port.in.RepublicServicePort;
 import com.rephelper.infrastructure.adapter.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -32,8 +40,9 @@ import java.util.UUID;
 public class ExpenseController {
 
     private final ExpenseServicePort expenseService;
-    private final UserServicePort userService;
     private final ExpenseDtoMapper expenseDtoMapper;
+    private final RepublicServicePort republicService;
+    private final FinanceCsvExporter financeCsvExporter;
 
     @PostMapping
     @Operation(summary = "Create a new expense", description = "Creates a new expense for a republic")
@@ -50,21 +59,39 @@ public class ExpenseController {
         return new ResponseEntity<>(expenseDtoMapper.toExpenseResponse(createdExpense), HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import expenses from CSV",
+            description = "Imports pending expenses for a republic from a CSV file and reports the error of each rejected row")
+    public ResponseEntity<ExpenseImportResponse> importExpenses(
+            @RequestParam(required = true) UUID republicId,
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal CustomUserDetails currentUser) throws IOException {
+
+        if (file.isEmpty()) {
+            throw new ValidationException("The file is empty");
+        }
+
+        // O arquivo é lido conforme as linhas são gravadas, sem carregá-lo inteiro em memória
+        ExpenseImportResult result;
+        try (InputStream inputStream = file.getInputStream()) {
+            result = expenseService.importExpenses(republicId, new ExpenseCsvReader(inputStream), currentUser.getUserId());
+        }
+
+        return ResponseEntity.ok(expenseDtoMapper.toExpenseImportResponse(result));
+    }
+
     @GetMapping
     @Operation(summary = "Get all expenses for a republic", description = "Retrieves all expenses for the specified republic")
     public ResponseEntity<List<ExpenseResponse>> getAllExpenses(
             @RequestParam(required = true) UUID republicId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view expenses for your own republic");
         }
@@ -83,14 +110,11 @@ public class ExpenseController {
 
         Expense expense = expenseService.getExpenseById(id);
 
-        // Validate user has access to this expense
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
-        if (!expense.getRepublic().getId().equals(user.getCurrentRepublic().getId()) &&
+        if (!expense.getRepublic().getId().equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view expenses for your own republic");
         }
@@ -105,15 +129,12 @@ public class ExpenseController {
             @RequestParam(required = true) UUID republicId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view expenses for your own republic");
         }
@@ -132,15 +153,12 @@ public class ExpenseController {
             @RequestParam(required = false) LocalDate endDate,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view expenses for your own republic");
         }
@@ -151,6 +169,40 @@ public class ExpenseController {
         return ResponseEntity.ok(expenseDtoMapper.toExpenseResponseList(expenses));
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Export expenses as CSV",
+            description = "Streams the expenses of a republic as CSV, optionally filtered by status and date range")
+    public WebAsyncTask<ResponseEntity<Void>> exportExpenses(
+            @RequestParam(required = true) UUID republicId,
+            @RequestParam(required = false) Expense.ExpenseStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal CustomUserDetails currentUser,
+            HttpServletResponse response) {
+
+        if (currentUser.getRepublicId() == null) {
+            throw new ValidationException("User is not associated with any republic");
+        }
+
+        // Verify user belongs to the specified republic (unless admin)
+        if (!republicId.equals(currentUser.getRepublicId()) &&
+                !currentUser.getRole().equals("admin")) {
+            throw new ValidationException("You can only view expenses for your own republic");
+        }
+
+        // Validar antes de iniciar a resposta: depois do cabeçalho o erro não chega ao cliente
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new ValidationException("Start date cannot be after end date");
+        }
+        republicService.getRepublicById(republicId);
+
+        // As linhas são escritas conforme o cursor avança, sem montar a lista em memória
+        return financeCsvExporter.export(response, "expenses-" + republicId + ".csv", csv -> {
+            csv.writeExpenseHeader();
+            expenseService.exportExpenses(republicId, status, startDate, endDate, csv::writeExpense);
+        });
+    }
+
     @GetMapping("/category/{category}")
     @Operation(summary = "Get expenses by category", description = "Retrieves expenses by category for a republic")
     public ResponseEntity<List<ExpenseResponse>> getExpensesByCategory(
@@ -158,15 +210,12 @@ public class ExpenseController {
             @RequestParam(required = true) UUID republicId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view expenses for your own republic");
         }
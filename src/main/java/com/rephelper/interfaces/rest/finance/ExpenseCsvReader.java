@@ -0,0 +1,198 @@
+package com.rephelper.interfaces.rest.finance;
+
+import com.rephelper.domain.exception.ValidationException;
+import com.rephelper.domain.model.ExpenseImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Leitor CSV (RFC 4180) da importação de despesas.
+ * Lê um registro por vez do arquivo enviado, então a memória não depende do tamanho do arquivo.
+ * As colunas são identificadas pelo cabeçalho, com os mesmos nomes da exportação
+ * (description, amount, expense_date, category, receipt_url); colunas desconhecidas são ignoradas,
+ * então um arquivo exportado pode ser importado de volta. O separador pode ser vírgula ou
+ * ponto e vírgula (padrão das planilhas em português), detectado pelo cabeçalho. O apóstrofo que a
+ * exportação coloca antes de textos iniciados por =, +, - ou @ é removido, para que o texto volte igual.
+ */
+public class ExpenseCsvReader implements Iterator<ExpenseImportRow> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String[] REQUIRED_COLUMNS = {"description", "amount", "expense_date"};
+
+    private final BufferedReader reader;
+    private final char delimiter;
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    // Linha física atual (1 = cabeçalho) e o próximo registro já lido
+    private long line = 1;
+    private ExpenseImportRow next;
+
+    /**
+     * Lê e valida o cabeçalho
+     *
+     * @throws ValidationException se o arquivo estiver vazio ou faltar uma coluna obrigatória
+     */
+    public ExpenseCsvReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try {
+            skipByteOrderMark();
+            this.delimiter = detectDelimiter();
+
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new ValidationException("The file is empty");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String column : REQUIRED_COLUMNS) {
+                if (!columns.containsKey(column)) {
+                    throw new ValidationException("Missing required column: " + column);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readRow();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ExpenseImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ExpenseImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private ExpenseImportRow readRow() {
+        try {
+            while (true) {
+                long lineNumber = line;
+                List<String> fields = readRecord();
+                if (fields == null) {
+                    return null;
+                }
+                // Linhas em branco (comuns no fim de planilhas) não contam como registro
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                return ExpenseImportRow.builder()
+                        .lineNumber(lineNumber)
+                        .description(field(fields, "description"))
+                        .amount(field(fields, "amount"))
+                        .expenseDate(field(fields, "expense_date"))
+                        .category(field(fields, "category"))
+                        .receiptUrl(field(fields, "receipt_url"))
+                        .build();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        return index != null && index < fields.size() ? stripFormulaGuard(fields.get(index)) : null;
+    }
+
+    /**
+     * Desfaz a proteção contra fórmulas de {@link FinanceCsvWriter}: "'-desconto" volta a ser "-desconto"
+     */
+    private static String stripFormulaGuard(String value) {
+        return value.length() > 1 && value.charAt(0) == '\''
+                && FinanceCsvWriter.FORMULA_PREFIXES.indexOf(value.charAt(1)) >= 0
+                ? value.substring(1)
+                : value;
+    }
+
+    /**
+     * Lê um registro, que pode ocupar várias linhas quando um campo entre aspas contém quebras de linha
+     *
+     * @return Campos do registro, ou null no fim do arquivo
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (c != -1) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (following != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (ch == '\n') {
+                        line++;
+                    }
+                    field.append(ch);
+                }
+            } else if (ch == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (ch == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                line++;
+                break;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+            c = reader.read();
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    /**
+     * Ponto e vírgula quando o cabeçalho o usa e não tem vírgulas; vírgula nos demais casos
+     */
+    private char detectDelimiter() throws IOException {
+        reader.mark(BUFFER_SIZE);
+        String header = reader.readLine();
+        reader.reset();
+        return header != null && header.indexOf(';') >= 0 && header.indexOf(',') < 0 ? ';' : ',';
+    }
+}
@@ -0,0 +1,91 @@
+package com.rephelper.interfaces.rest.finance;
+
+import com.rephelper.domain.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Execução assíncrona das exportações CSV de despesas e receitas.
+ * Cada exportação mantém uma transação somente leitura e uma conexão do pool abertas enquanto o cliente
+ * baixa o arquivo, então o número de exportações simultâneas é limitado (acima do limite a requisição
+ * recebe 429) e o tempo máximo vale só para estas respostas, sem alterar o das demais requisições assíncronas.
+ */
+@Component
+public class FinanceCsvExporter {
+
+    private static final String CSV_CONTENT_TYPE = "text/csv;charset=" + StandardCharsets.UTF_8.name();
+
+    private final Semaphore permits;
+    private final Duration timeout;
+    private final MeterRegistry meterRegistry;
+
+    public FinanceCsvExporter(@Value("${rephelper.finance.export.max-concurrent:4}") int maxConcurrent,
+                              @Value("${rephelper.finance.export.timeout:10m}") Duration timeout,
+                              MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.timeout = timeout;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("rephelper.finance.export.active", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reserva uma vaga e prepara a exportação; as linhas são escritas na thread assíncrona
+     * conforme {@code export} percorre o cursor.
+     *
+     * @param filename Nome do arquivo sugerido ao cliente
+     * @param export Escreve o cabeçalho e as linhas no escritor recebido
+     * @throws TooManyRequestsException se o limite de exportações simultâneas foi atingido
+     */
+    public WebAsyncTask<ResponseEntity<Void>> export(HttpServletResponse response, String filename,
+                                                     Consumer<FinanceCsvWriter> export) {
+        if (!permits.tryAcquire()) {
+            meterRegistry.counter("rephelper.finance.export.rejected").increment();
+            throw new TooManyRequestsException("Too many exports in progress, try again later");
+        }
+
+        // A vaga é liberada uma única vez: ao fim da escrita, ou na conclusão da requisição
+        // se a tarefa não chegou a começar (tempo esgotado ou erro antes de executar)
+        AtomicBoolean started = new AtomicBoolean();
+
+        WebAsyncTask<ResponseEntity<Void>> task = new WebAsyncTask<>(timeout.toMillis(), () -> {
+            if (!started.compareAndSet(false, true)) {
+                return ResponseEntity.noContent().build();
+            }
+            try {
+                response.setContentType(CSV_CONTENT_TYPE);
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+                FinanceCsvWriter csv = new FinanceCsvWriter(response.getOutputStream());
+                export.accept(csv);
+                csv.flush();
+            } catch (IOException e) {
+                // Normalmente o cliente desconectou antes do início da escrita
+                throw new UncheckedIOException(e);
+            } finally {
+                permits.release();
+            }
+            // A resposta já foi escrita; o retorno apenas conclui o processamento assíncrono
+            return ResponseEntity.ok().build();
+        });
+        task.onCompletion(() -> {
+            if (started.compareAndSet(false, true)) {
+                permits.release();
+            }
+        });
+        return task;
+    }
+}
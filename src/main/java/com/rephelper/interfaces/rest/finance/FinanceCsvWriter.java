@@ -0,0 +1,134 @@
+package com.rephelper.interfaces.rest.finance;
+
+import com.rephelper.domain.model.Expense;
+import com.rephelper.domain.model.Income;
+import com.rephelper.domain.model.User;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Escritor CSV (RFC 4180) das exportações de despesas e receitas.
+ * Cada linha vai direto para o stream da resposta por um buffer de tamanho fixo, então a memória
+ * usada não depende da quantidade de linhas exportadas. Textos iniciados por =, +, - ou @ recebem
+ * um apóstrofo na frente para não serem interpretados como fórmula ao abrir em planilhas.
+ */
+public class FinanceCsvWriter {
+
+    // Caracteres iniciais que fazem a planilha interpretar o texto como fórmula
+    static final String FORMULA_PREFIXES = "=+-@";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String[] EXPENSE_HEADER = {
+            "id", "expense_date", "description", "category", "amount", "status", "creator",
+            "approval_date", "reimbursement_date", "rejection_reason", "receipt_url", "created_at"
+    };
+    private static final String[] INCOME_HEADER = {
+            "id", "income_date", "description", "source", "amount", "contributor", "created_at"
+    };
+
+    private final Writer writer;
+
+    public FinanceCsvWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    public void writeExpenseHeader() {
+        writeRow((Object[]) EXPENSE_HEADER);
+    }
+
+    public void writeIncomeHeader() {
+        writeRow((Object[]) INCOME_HEADER);
+    }
+
+    public void writeExpense(Expense expense) {
+        writeRow(expense.getId(), expense.getExpenseDate(), expense.getDescription(), expense.getCategory(),
+                expense.getAmount(), expense.getStatus(), userName(expense.getCreator()),
+                expense.getApprovalDate(), expense.getReimbursementDate(), expense.getRejectionReason(),
+                expense.getReceiptUrl(), expense.getCreatedAt());
+    }
+
+    public void writeIncome(Income income) {
+        writeRow(income.getId(), income.getIncomeDate(), income.getDescription(), income.getSource(),
+                income.getAmount(), userName(income.getContributor()), income.getCreatedAt());
+    }
+
+    /**
+     * Envia o que estiver no buffer; o stream da resposta é fechado pelo container
+     */
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeRow(Object... values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCell(values[i]);
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            // Normalmente o cliente desconectou; interrompe o cursor da exportação
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCell(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof BigDecimal amount) {
+            writer.write(amount.toPlainString());
+        } else if (value instanceof LocalDateTime dateTime) {
+            writer.write(DATE_TIME_FORMAT.format(dateTime));
+        } else if (value instanceof LocalDate || value instanceof Number || value instanceof Enum<?>) {
+            writer.write(value.toString());
+        } else {
+            writeText(value.toString());
+        }
+    }
+
+    private void writeText(String text) throws IOException {
+        boolean formula = !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0;
+        boolean quote = formula || text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static String userName(User user) {
+        return user != null ? user.getName() : null;
+    }
+}
@@ -8,13 +8,13 @@ import com.rephelper.application.mapper.IncomeDtoMapper;
 import com.rephelper.application.mapper.RepublicFinancesDtoMapper;
 import com.rephelper.domain.exception.ValidationException;
 import com.rephelper.domain.model.Expense;
-import com.rephelper.domain.model.Income;
+import com.rephelper.domain.model.FinanceMonthlyAggregate;
+import com.rephelper.domain.model.FinanceTotal;
 import com.rephelper.domain.model.RepublicFinances;
 import com.rephelper.domain.model.User;
 import com.rephelper.domain.port.in.ExpenseServicePort;
 import com.rephelper.domain.port.in.IncomeServicePort;
 import com.rephelper.domain.port.in.RepublicFinancesServicePort;
-import com.rephelper.domain.port.in.UserServicePort;
 import com.rephelper.infrastructure.adapter.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -25,10 +25,10 @@ import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RestController
@@ -40,7 +40,6 @@ public class FinancialDashboardController {
     private final ExpenseServicePort expenseService;
     private final IncomeServicePort incomeService;
     private final RepublicFinancesServicePort republicFinancesService;
-    private final UserServicePort userService;
 
     private final ExpenseDtoMapper expenseDtoMapper;
     private final IncomeDtoMapper incomeDtoMapper;
@@ -52,15 +51,12 @@ public class FinancialDashboardController {
             @PathVariable UUID republicId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view financial data for your own republic");
         }
@@ -68,46 +64,21 @@ public class FinancialDashboardController {
         // Get current finances
         RepublicFinances finances = republicFinancesService.getOrCreateRepublicFinances(republicId);
 
-        // Get current month's expenses
-        LocalDate now = LocalDate.now();
-        LocalDate startOfMonth = now.withDayOfMonth(1);
-
-        List<Expense> currentMonthExpenses = expenseService.getExpensesByRepublicIdAndDateRange(
-                republicId, startOfMonth, now);
-
-        // Get pending expenses
-        List<Expense> pendingExpenses = expenseService.getExpensesByRepublicIdAndStatus(
-                republicId, Expense.ExpenseStatus.PENDING);
-
-        // Get approved expenses awaiting reimbursement
-        List<Expense> approvedExpenses = expenseService.getExpensesByRepublicIdAndStatus(
-                republicId, Expense.ExpenseStatus.APPROVED);
-
-        // Get current month's incomes
-        LocalDateTime startOfMonthDateTime = startOfMonth.atStartOfDay();
-        LocalDateTime nowDateTime = now.atTime(23, 59, 59);
+        // Get current month's totals (materialized by category)
+        YearMonth currentMonth = YearMonth.now();
+        List<FinanceMonthlyAggregate> currentMonthTotals = republicFinancesService.getMonthlyTotals(
+                republicId, currentMonth, currentMonth);
 
-        List<Income> currentMonthIncomes = incomeService.getIncomesByRepublicIdAndDateRange(
-                republicId, startOfMonthDateTime, nowDateTime);
+        // Get expense totals by status (pending and approved awaiting reimbursement)
+        Map<Expense.ExpenseStatus, FinanceTotal<Expense.ExpenseStatus>> totalsByStatus =
+                expenseService.getExpenseTotalsByStatus(republicId).stream()
+                        .collect(Collectors.toMap(FinanceTotal::getKey, Function.identity()));
+        FinanceTotal<Expense.ExpenseStatus> pendingTotal = totalsByStatus.get(Expense.ExpenseStatus.PENDING);
+        FinanceTotal<Expense.ExpenseStatus> approvedTotal = totalsByStatus.get(Expense.ExpenseStatus.APPROVED);
 
         // Calculate total expenses and incomes for the month
-        BigDecimal totalExpensesMonth = currentMonthExpenses.stream()
-                .filter(e -> e.getStatus() == Expense.ExpenseStatus.REIMBURSED)
-                .map(Expense::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalIncomesMonth = currentMonthIncomes.stream()
-                .map(Income::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // Calculate pending and approved amounts
-        BigDecimal pendingAmount = pendingExpenses.stream()
-                .map(Expense::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal approvedAmount = approvedExpenses.stream()
-                .map(Expense::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalExpensesMonth = sumTotals(currentMonthTotals, FinanceMonthlyAggregate.Kind.EXPENSE);
+        BigDecimal totalIncomesMonth = sumTotals(currentMonthTotals, FinanceMonthlyAggregate.Kind.INCOME);
 
         // Build response
         Map<String, Object> response = new HashMap<>();
@@ -115,17 +86,17 @@ public class FinancialDashboardController {
         response.put("lastUpdated", finances.getLastUpdated());
         response.put("totalExpensesCurrentMonth", totalExpensesMonth);
         response.put("totalIncomesCurrentMonth", totalIncomesMonth);
-        response.put("pendingExpensesCount", pendingExpenses.size());
-        response.put("pendingExpensesAmount", pendingAmount);
-        response.put("approvedExpensesCount", approvedExpenses.size());
-        response.put("approvedExpensesAmount", approvedAmount);
+        response.put("pendingExpensesCount", pendingTotal != null ? pendingTotal.getCount() : 0L);
+        response.put("pendingExpensesAmount", pendingTotal != null ? pendingTotal.getTotalAmount() : BigDecimal.ZERO);
+        response.put("approvedExpensesCount", approvedTotal != null ? approvedTotal.getCount() : 0L);
+        response.put("approvedExpensesAmount", approvedTotal != null ? approvedTotal.getTotalAmount() : BigDecimal.ZERO);
 
         // Get expenses by category
-        Map<String, BigDecimal> expensesByCategory = currentMonthExpenses.stream()
-                .filter(e -> e.getStatus() == Expense.ExpenseStatus.REIMBURSED)
+        Map<String, BigDecimal> expensesByCategory = currentMonthTotals.stream()
+                .filter(t -> t.getKind() == FinanceMonthlyAggregate.Kind.EXPENSE)
                 .collect(Collectors.groupingBy(
-                        e -> e.getCategory() != null ? e.getCategory() : "Other",
-                        Collectors.reducing(BigDecimal.ZERO, Expense::getAmount, BigDecimal::add)
+                        t -> t.getCategory() != null ? t.getCategory() : "Other",
+                        Collectors.reducing(BigDecimal.ZERO, FinanceMonthlyAggregate::getTotalAmount, BigDecimal::add)
                 ));
         response.put("expensesByCategory", expensesByCategory);
 
@@ -139,15 +110,12 @@ public class FinancialDashboardController {
             @RequestParam(required = false, defaultValue = "6") Integer numberOfMonths,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view financial data for your own republic");
         }
@@ -156,27 +124,24 @@ public class FinancialDashboardController {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minus(numberOfMonths, ChronoUnit.MONTHS);
 
-        // Get expenses
-        List<Expense> expenses = expenseService.getExpensesByRepublicIdAndDateRange(
-                republicId, startDate, endDate);
-
-        // Get incomes
-        List<Income> incomes = incomeService.getIncomesByRepublicIdAndDateRange(
-                republicId, startDate.atStartOfDay(), endDate.atTime(23, 59, 59));
+        // Get monthly totals (one row per month, category and kind)
+        List<FinanceMonthlyAggregate> totals = republicFinancesService.getMonthlyTotals(
+                republicId, YearMonth.from(startDate), YearMonth.from(endDate));
 
         // Group expenses by month
-        Map<YearMonth, BigDecimal> expensesByMonth = expenses.stream()
-                .filter(e -> e.getStatus() == Expense.ExpenseStatus.REIMBURSED)
+        Map<YearMonth, BigDecimal> expensesByMonth = totals.stream()
+                .filter(t -> t.getKind() == FinanceMonthlyAggregate.Kind.EXPENSE)
                 .collect(Collectors.groupingBy(
-                        e -> YearMonth.from(e.getExpenseDate()),
-                        Collectors.reducing(BigDecimal.ZERO, Expense::getAmount, BigDecimal::add)
+                        FinanceMonthlyAggregate::getYearMonth,
+                        Collectors.reducing(BigDecimal.ZERO, FinanceMonthlyAggregate::getTotalAmount, BigDecimal::add)
                 ));
 
         // Group incomes by month
-        Map<YearMonth, BigDecimal> incomesByMonth = incomes.stream()
+        Map<YearMonth, BigDecimal> incomesByMonth = totals.stream()
+                .filter(t -> t.getKind() == FinanceMonthlyAggregate.Kind.INCOME)
                 .collect(Collectors.groupingBy(
-                        i -> YearMonth.from(i.getIncomeDate()),
-                        Collectors.reducing(BigDecimal.ZERO, Income::getAmount, BigDecimal::add)
+                        FinanceMonthlyAggregate::getYearMonth,
+                        Collectors.reducing(BigDecimal.ZERO, FinanceMonthlyAggregate::getTotalAmount, BigDecimal::add)
                 ));
 
         // Fill in missing months
@@ -213,15 +178,12 @@ public class FinancialDashboardController {
             @RequestParam(required = false) LocalDate endDate,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view financial data for your own republic");
         }
@@ -235,40 +197,22 @@ public class FinancialDashboardController {
             endDate = LocalDate.now();
         }
 
-        // Get expenses
-        List<Expense> expenses = expenseService.getExpensesByRepublicIdAndDateRange(
-                republicId, startDate, endDate);
-
-        // Group expenses by user
-        Map<UUID, List<Expense>> expensesByUser = expenses.stream()
-                .filter(e -> e.getCreator() != null && e.getStatus() == Expense.ExpenseStatus.REIMBURSED)
-                .collect(Collectors.groupingBy(e -> e.getCreator().getId()));
+        // Get reimbursed expense totals by creator (sorted by total amount descending)
+        List<FinanceTotal<User>> totalsByCreator = expenseService.getExpenseTotalsByCreator(
+                republicId, Expense.ExpenseStatus.REIMBURSED, startDate, endDate);
 
         List<Map<String, Object>> userData = new ArrayList<>();
 
-        for (Map.Entry<UUID, List<Expense>> entry : expensesByUser.entrySet()) {
-            UUID userId = entry.getKey();
-            List<Expense> userExpenses = entry.getValue();
-
-            BigDecimal totalAmount = userExpenses.stream()
-                    .map(Expense::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            // Get the user's name from the first expense in the list
-            String userName = userExpenses.get(0).getCreator().getName();
-
+        for (FinanceTotal<User> total : totalsByCreator) {
             Map<String, Object> userDataItem = new HashMap<>();
-            userDataItem.put("userId", userId);
-            userDataItem.put("userName", userName);
-            userDataItem.put("totalAmount", totalAmount);
-            userDataItem.put("expenseCount", userExpenses.size());
+            userDataItem.put("userId", total.getKey().getId());
+            userDataItem.put("userName", total.getKey().getName());
+            userDataItem.put("totalAmount", total.getTotalAmount());
+            userDataItem.put("expenseCount", total.getCount());
 
             userData.add(userDataItem);
         }
 
-        // Sort by total amount descending
-        userData.sort((a, b) -> ((BigDecimal) b.get("totalAmount")).compareTo((BigDecimal) a.get("totalAmount")));
-
         Map<String, Object> response = new HashMap<>();
         response.put("startDate", startDate);
         response.put("endDate", endDate);
@@ -283,15 +227,12 @@ public class FinancialDashboardController {
             @PathVariable UUID republicId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view financial data for your own republic");
         }
@@ -318,4 +259,11 @@ public class FinancialDashboardController {
 
         return ResponseEntity.ok(response);
     }
+
+    private BigDecimal sumTotals(List<FinanceMonthlyAggregate> totals, FinanceMonthlyAggregate.Kind kind) {
+        return totals.stream()
+                .filter(t -> t.getKind() == kind)
+                .map(FinanceMonthlyAggregate::getTotalAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
 }
\ No newline at end of file
@@ -7,18 +7,20 @@ import com.rephelper.application.dto.response.IncomeResponse;
 import com.rephelper.application.mapper.IncomeDtoMapper;
 import com.rephelper.domain.exception.ValidationException;
 import com.rephelper.domain.model.Income;
-import com.rephelper.domain.model.User;
 import com.rephelper.domain.port.in.IncomeServicePort;
-import com.rephelper.domain.port.in.UserServicePort;
+import com.rephelper.domain.port.in.RepublicServicePort;
 import com.rephelper.infrastructure.adapter.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,8 +33,9 @@ import java.util.UUID;
 public class IncomeController {
 
     private final IncomeServicePort incomeService;
-    private final UserServicePort userService;
     private final IncomeDtoMapper incomeDtoMapper;
+    private final RepublicServicePort republicService;
+    private final FinanceCsvExporter financeCsvExporter;
 
     @PostMapping
     @Operation(summary = "Create a new income", description = "Creates a new income for a republic")
@@ -55,15 +58,12 @@ public class IncomeController {
             @RequestParam(required = true) UUID republicId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view incomes for your own republic");
         }
@@ -82,14 +82,11 @@ public class IncomeController {
 
         Income income = incomeService.getIncomeById(id);
 
-        // Validate user has access to this income
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
-        if (!income.getRepublic().getId().equals(user.getCurrentRepublic().getId()) &&
+        if (!income.getRepublic().getId().equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view incomes for your own republic");
         }
@@ -97,6 +94,39 @@ public class IncomeController {
         return ResponseEntity.ok(incomeDtoMapper.toIncomeResponse(income));
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Export incomes as CSV",
+            description = "Streams the incomes of a republic as CSV, optionally filtered by date range")
+    public WebAsyncTask<ResponseEntity<Void>> exportIncomes(
+            @RequestParam(required = true) UUID republicId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @AuthenticationPrincipal CustomUserDetails currentUser,
+            HttpServletResponse response) {
+
+        if (currentUser.getRepublicId() == null) {
+            throw new ValidationException("User is not associated with any republic");
+        }
+
+        // Verify user belongs to the specified republic (unless admin)
+        if (!republicId.equals(currentUser.getRepublicId()) &&
+                !currentUser.getRole().equals("admin")) {
+            throw new ValidationException("You can only view incomes for your own republic");
+        }
+
+        // Validar antes de iniciar a resposta: depois do cabeçalho o erro não chega ao cliente
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new ValidationException("Start date cannot be after end date");
+        }
+        republicService.getRepublicById(republicId);
+
+        // As linhas são escritas conforme o cursor avança, sem montar a lista em memória
+        return financeCsvExporter.export(response, "incomes-" + republicId + ".csv", csv -> {
+            csv.writeIncomeHeader();
+            incomeService.exportIncomes(republicId, startDate, endDate, csv::writeIncome);
+        });
+    }
+
     @GetMapping("/daterange")
     @Operation(summary = "Get incomes by date range", description = "Retrieves incomes by date range for a republic")
     public ResponseEntity<List<IncomeResponse>> getIncomesByDateRange(
@@ -105,15 +135,12 @@ public class IncomeController {
             @RequestParam(required = false) LocalDateTime endDate,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view incomes for your own republic");
         }
@@ -131,15 +158,12 @@ public class IncomeController {
             @RequestParam(required = true) UUID republicId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view incomes for your own republic");
         }
@@ -5,9 +5,7 @@ import com.rephelper.application.dto.response.RepublicFinancesResponse;
 import com.rephelper.application.mapper.RepublicFinancesDtoMapper;
 import com.rephelper.domain.exception.ValidationException;
 import com.rephelper.domain.model.RepublicFinances;
-import com.rephelper.domain.model.User;
 import com.rephelper.domain.port.in.RepublicFinancesServicePort;
-import com.rephelper.domain.port.in.UserServicePort;
 import com.rephelper.infrastructure.adapter.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,7 +24,6 @@ import jakarta.validation.Valid;
 public class RepublicFinancesController {
 
     private final RepublicFinancesServicePort republicFinancesService;
-    private final UserServicePort userService;
     private final RepublicFinancesDtoMapper republicFinancesDtoMapper;
 
     @GetMapping("/{republicId}")
@@ -35,15 +32,12 @@ public class RepublicFinancesController {
             @PathVariable UUID republicId,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view finances for your own republic");
         }
@@ -61,15 +55,12 @@ public class RepublicFinancesController {
             @Valid @RequestBody BalanceAdjustmentRequest request,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
             
-        // Get user to validate access
-        User user = userService.getUserById(currentUser.getUserId());
-
-        if (user.getCurrentRepublic() == null) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // Verify user belongs to the specified republic (unless admin)
-        if (!republicId.equals(user.getCurrentRepublic().getId()) &&
+        if (!republicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only adjust finances for your own republic");
         }
@@ -1,6 +1,9 @@
 package com.rephelper.interfaces.rest.notification;
 
+import com.rephelper.application.dto.request.NotificationFilterRequest;
+import com.rephelper.application.dto.request.RegisterDeviceTokenRequest;
 import com.rephelper.application.dto.response.ApiResponse;
+import com.rephelper.application.dto.response.CursorPagedResponse;
 import com.rephelper.application.dto.response.NotificationResponse;
 import com.rephelper.application.mapper.NotificationDtoMapper;
 import com.rephelper.domain.model.Notification;
@@ -8,10 +11,13 @@ import com.rephelper.domain.port.in.NotificationServicePort;
 import com.rephelper.infrastructure.adapter.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.List;
@@ -25,6 +31,7 @@ public class NotificationController {
 
     private final NotificationServicePort notificationService;
     private final NotificationDtoMapper notificationDtoMapper;
+    private final NotificationStreamBroker notificationStreamBroker;
 
     @GetMapping
     @Operation(summary = "Get all notifications", description = "Retrieves all notifications for the current user")
@@ -34,6 +41,21 @@ public class NotificationController {
         return ResponseEntity.ok(notificationDtoMapper.toNotificationResponseList(notifications));
     }
 
+    @GetMapping("/inbox")
+    @Operation(summary = "Get notification inbox", description = "Retrieves notifications for the current user, newest first, " +
+            "using keyset (cursor) pagination. Optionally filtered by type, related entity or unread state")
+    public ResponseEntity<CursorPagedResponse<NotificationResponse>> getInbox(
+            NotificationFilterRequest filter,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        CursorPagedResponse<Notification> page = notificationService.getInbox(currentUser.getUserId(), filter);
+        return ResponseEntity.ok(CursorPagedResponse.<NotificationResponse>builder()
+                .content(notificationDtoMapper.toNotificationResponseList(page.getContent()))
+                .size(page.getSize())
+                .nextCursor(page.getNextCursor())
+                .hasNext(page.isHasNext())
+                .build());
+    }
+
     @GetMapping("/unread")
     @Operation(summary = "Get unread notifications", description = "Retrieves unread notifications for the current user")
     public ResponseEntity<List<NotificationResponse>> getUnreadNotifications(
@@ -52,6 +74,17 @@ public class NotificationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream notifications", description = "Server-Sent Events stream of new notifications for the current user. " +
+            "Send the Last-Event-ID header to receive notifications missed while disconnected; the replay may repeat " +
+            "notifications already delivered, so clients must de-duplicate by notification id. A resync event " +
+            "means too many were missed and the inbox must be reloaded")
+    public SseEmitter streamNotifications(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        return notificationStreamBroker.connect(currentUser.getUserId(), lastEventId);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get notification by ID", description = "Retrieves a specific notification")
     public ResponseEntity<NotificationResponse> getNotificationById(
@@ -93,6 +126,30 @@ public class NotificationController {
                 .build());
     }
 
+    @PostMapping("/devices")
+    @Operation(summary = "Register device", description = "Registers the push (FCM) token of a device of the current user")
+    public ResponseEntity<ApiResponse> registerDevice(
+            @Valid @RequestBody RegisterDeviceTokenRequest request,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        notificationService.registerDevice(currentUser.getUserId(), request.getToken(), request.getPlatform());
+        return ResponseEntity.ok(ApiResponse.builder()
+                .status("success")
+                .message("Device registered successfully")
+                .build());
+    }
+
+    @DeleteMapping("/devices")
+    @Operation(summary = "Unregister device", description = "Removes the push (FCM) token of a device of the current user")
+    public ResponseEntity<ApiResponse> unregisterDevice(
+            @RequestParam String token,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+        notificationService.unregisterDevice(currentUser.getUserId(), token);
+        return ResponseEntity.ok(ApiResponse.builder()
+                .status("success")
+                .message("Device unregistered successfully")
+                .build());
+    }
+
     @DeleteMapping("/clear-old")
     @Operation(summary = "Clear old notifications", description = "Deletes notifications older than the specified number of days")
     public ResponseEntity<ApiResponse> clearOldNotifications(
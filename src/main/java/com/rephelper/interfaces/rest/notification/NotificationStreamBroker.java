@@ -0,0 +1,222 @@
+package com.rephelper.interfaces.rest.notification;
+
+import com.rephelper.application.dto.response.NotificationResponse;
+import com.rephelper.application.mapper.NotificationDtoMapper;
+import com.rephelper.domain.event.NotificationsCreatedEvent;
+import com.rephelper.domain.exception.ValidationException;
+import com.rephelper.domain.model.Notification;
+import com.rephelper.domain.port.in.NotificationServicePort;
+import com.rephelper.infrastructure.adapter.persistence.util.NotificationCursor;
+import com.rephelper.infrastructure.config.NotificationStreamConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Conexões SSE abertas por usuário e envio das notificações recém-gravadas.
+ * As conexões usam o modo assíncrono do servlet, sem prender uma thread por cliente.
+ * Cada evento leva como ID o cursor (created_at, id) da notificação, o mesmo da caixa de entrada,
+ * o que permite retomar pelo cabeçalho Last-Event-ID. Só recebem o evento os clientes conectados a esta instância.
+ */
+@Component
+@Slf4j
+public class NotificationStreamBroker {
+
+    static final String NOTIFICATION_EVENT = "notification";
+    static final String RESYNC_EVENT = "resync";
+
+    private final NotificationServicePort notificationService;
+    private final NotificationDtoMapper notificationDtoMapper;
+    private final Map<UUID, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final TaskExecutor heartbeatExecutor;
+
+    @Value("${rephelper.notifications.stream.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${rephelper.notifications.stream.max-connections-per-user:3}")
+    private int maxConnectionsPerUser;
+
+    @Value("${rephelper.notifications.stream.replay-limit:100}")
+    private int replayLimit;
+
+    @Value("${rephelper.notifications.stream.replay-overlap:1m}")
+    private Duration replayOverlap;
+
+    public NotificationStreamBroker(NotificationServicePort notificationService,
+                                    NotificationDtoMapper notificationDtoMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Qualifier(NotificationStreamConfig.NOTIFICATION_STREAM_EXECUTOR) TaskExecutor heartbeatExecutor) {
+        this.notificationService = notificationService;
+        this.notificationDtoMapper = notificationDtoMapper;
+        this.meterRegistry = meterRegistry;
+        this.heartbeatExecutor = heartbeatExecutor;
+        Gauge.builder("rephelper.notifications.stream.connections", emitters,
+                        map -> map.values().stream().mapToInt(List::size).sum())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abre uma conexão para o usuário. Acima do limite por usuário, a conexão mais antiga é encerrada.
+     * Com {@code lastEventId}, reenvia as notificações criadas a partir dele. A retomada pode repetir
+     * notificações já entregues (ver {@link #replay}): o cliente deve descartar eventos pelo ID da notificação.
+     */
+    public SseEmitter connect(UUID userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        register(userId, emitter);
+
+        if (!send(userId, emitter, SseEmitter.event().comment("connected").reconnectTime(5_000))) {
+            return emitter;
+        }
+
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            replay(userId, emitter, lastEventId);
+        }
+
+        return emitter;
+    }
+
+    /**
+     * Reenvia as notificações perdidas desde o último evento recebido pelo cliente.
+     * Os IDs vêm de blocos da sequência reservados por instância e o created_at é definido antes do commit,
+     * então uma notificação pode ficar visível depois de outra mais nova já entregue. Por isso a retomada
+     * começa {@code replayOverlap} antes do created_at do último evento, e não no seu ID; só a própria
+     * notificação do último evento é excluída, as demais da janela podem chegar repetidas.
+     * Se houver mais que {@code replayLimit} notificações (ou o ID não for um cursor válido), nada é reenviado:
+     * o evento resync pede ao cliente que recarregue a caixa de entrada, em vez de perder linhas.
+     */
+    private void replay(UUID userId, SseEmitter emitter, String lastEventId) {
+        NotificationCursor cursor;
+        try {
+            cursor = NotificationCursor.decode(lastEventId);
+        } catch (ValidationException e) {
+            resync(userId, emitter);
+            return;
+        }
+
+        List<Notification> missed = notificationService.getNotificationsSince(
+                userId, cursor.getCreatedAt().minus(replayOverlap), replayLimit + 1);
+        if (missed.size() > replayLimit) {
+            resync(userId, emitter);
+            return;
+        }
+
+        int replayed = 0;
+        for (Notification notification : missed) {
+            if (notification.getId().equals(cursor.getId())) {
+                continue;
+            }
+            if (!send(userId, emitter, toEvent(notification))) {
+                break;
+            }
+            replayed++;
+        }
+        meterRegistry.counter("rephelper.notifications.stream.replayed").increment(replayed);
+    }
+
+    /**
+     * O ID do evento aponta para o instante atual: a próxima retomada parte da caixa recarregada pelo cliente
+     */
+    private void resync(UUID userId, SseEmitter emitter) {
+        NotificationCursor now = new NotificationCursor(LocalDateTime.now(), 0L);
+        if (send(userId, emitter, SseEmitter.event().id(now.encode()).name(RESYNC_EVENT).data(RESYNC_EVENT))) {
+            meterRegistry.counter("rephelper.notifications.stream.resync").increment();
+        }
+    }
+
+    /**
+     * Envia as notificações aos destinatários conectados, após o commit do lote
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationsCreated(NotificationsCreatedEvent event) {
+        for (Notification notification : event.getNotifications()) {
+            UUID recipientId = notification.getRecipient().getId();
+            List<SseEmitter> connections = emitters.get(recipientId);
+            if (connections == null) {
+                continue;
+            }
+            for (SseEmitter emitter : connections) {
+                if (send(recipientId, emitter, toEvent(notification))) {
+                    meterRegistry.counter("rephelper.notifications.stream.pushed").increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Mantém as conexões vivas através de proxies e detecta clientes desconectados
+     * (padrão: a cada 25 segundos). O envio roda no executor do stream, uma tarefa por conexão,
+     * para que um cliente que não lê não bloqueie a thread do agendador
+     */
+    @Scheduled(fixedRateString = "${rephelper.notifications.stream.heartbeat-interval-ms:25000}")
+    public void sendHeartbeats() {
+        emitters.forEach((userId, connections) ->
+                connections.forEach(emitter -> heartbeatExecutor.execute(
+                        () -> send(userId, emitter, SseEmitter.event().comment("heartbeat")))));
+    }
+
+    private void register(UUID userId, SseEmitter emitter) {
+        List<SseEmitter> connections = emitters.compute(userId, (key, current) -> {
+            List<SseEmitter> list = current != null ? current : new CopyOnWriteArrayList<>();
+            list.add(emitter);
+            return list;
+        });
+
+        while (connections.size() > maxConnectionsPerUser) {
+            SseEmitter oldest = connections.remove(0);
+            oldest.complete();
+            meterRegistry.counter("rephelper.notifications.stream.evicted").increment();
+        }
+
+        emitter.onCompletion(() -> unregister(userId, emitter));
+        emitter.onTimeout(() -> unregister(userId, emitter));
+        emitter.onError(error -> unregister(userId, emitter));
+    }
+
+    private void unregister(UUID userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (key, connections) -> {
+            connections.remove(emitter);
+            return connections.isEmpty() ? null : connections;
+        });
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(Notification notification) {
+        NotificationResponse response = notificationDtoMapper.toNotificationResponse(notification);
+        return SseEmitter.event()
+                .id(new NotificationCursor(notification.getCreatedAt(), notification.getId()).encode())
+                .name(NOTIFICATION_EVENT)
+                .data(response);
+    }
+
+    /**
+     * @return false se o cliente desconectou; a conexão é então descartada
+     */
+    private boolean send(UUID userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Conexão SSE do usuário {} encerrada: {}", userId, e.getMessage());
+            unregister(userId, emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -85,7 +85,7 @@ public class RepublicController {
         User updatedUser = userService.getUserById(currentUser.getUserId());
 
         // Generate new token with updated user info
-        String token = jwtTokenProvider.generateToken(updatedUser.getId());
+        String token = jwtTokenProvider.generateToken(updatedUser);
 
         // Create response with token and user
         AuthResponse response = AuthResponse.builder()
@@ -128,7 +128,6 @@ public class RepublicController {
         Republic republic = republicService.getRepublicById(id);
 
         // Check if user is owner or admin
-        User user = userService.getUserById(currentUser.getUserId());
         boolean isSystemAdmin = "admin".equals(currentUser.getRole());
         boolean isOwner = republic.getOwner().getId().equals(currentUser.getUserId());
 
@@ -181,7 +180,7 @@ public class RepublicController {
         User updatedUser = republicService.joinRepublicByCode(currentUser.getUserId(), request.getCode());
 
         // Generate new token with updated user info
-        String token = jwtTokenProvider.generateToken(updatedUser.getId());
+        String token = jwtTokenProvider.generateToken(updatedUser);
 
         // Create response with token and user
         AuthResponse response = AuthResponse.builder()
@@ -260,7 +259,7 @@ public class RepublicController {
         // Check if user is owner or admin
         boolean isSystemAdmin = "admin".equals(currentUser.getRole());
         boolean isOwner = republic.getOwner().getId().equals(currentUser.getUserId());
-        boolean isRepublicAdmin = republic.isAdmin(userService.getUserById(currentUser.getUserId()));
+        boolean isRepublicAdmin = currentUser.isRepublicAdminOf(republic.getId());
 
         if (!isSystemAdmin && !isOwner && !isRepublicAdmin) {
             throw new ForbiddenException("Você não tem permissão para regenerar o código desta república");
@@ -306,7 +305,7 @@ public class RepublicController {
         // Check if user is owner, admin or the user themselves
         boolean isSystemAdmin = "admin".equals(currentUser.getRole());
         boolean isOwner = republic.getOwner().getId().equals(currentUser.getUserId());
-        boolean isRepublicAdmin = republic.isAdmin(userService.getUserById(currentUser.getUserId()));
+        boolean isRepublicAdmin = currentUser.isRepublicAdminOf(republic.getId());
         boolean isSelfRemoval = currentUser.getUserId().equals(memberId);
 
         if (!isSystemAdmin && !isOwner && !isRepublicAdmin && !isSelfRemoval) {
@@ -1,11 +1,14 @@
 package com.rephelper.interfaces.rest.task;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -24,14 +27,15 @@ import com.rephelper.application.dto.request.TaskAssignmentRequest;
 import com.rephelper.application.dto.request.TaskFilterRequest;
 import com.rephelper.application.dto.request.UpdateTaskRequest;
 import com.rephelper.application.dto.response.ApiResponse;
+import com.rephelper.application.dto.response.CursorPagedResponse;
 import com.rephelper.application.dto.response.PagedResponse;
+import com.rephelper.application.dto.response.TaskOccurrenceResponse;
 import com.rephelper.application.dto.response.TaskResponse;
 import com.rephelper.application.mapper.TaskDtoMapper;
 import com.rephelper.domain.exception.ValidationException;
 import com.rephelper.domain.model.Task;
-import com.rephelper.domain.model.User;
+import com.rephelper.domain.model.TaskOccurrence;
 import com.rephelper.domain.port.in.TaskServicePort;
-import com.rephelper.domain.port.in.UserServicePort;
 import com.rephelper.infrastructure.adapter.security.CustomUserDetails;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -45,8 +49,9 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Tasks", description = "Task management endpoints")
 public class TaskController {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final TaskServicePort taskService;
-    private final UserServicePort userService;
     private final TaskDtoMapper taskDtoMapper;
 
     @PostMapping
@@ -79,6 +84,47 @@ public class TaskController {
         return ResponseEntity.ok(taskDtoMapper.toTaskResponseList(tasks));
     }
     
+    @GetMapping("/calendar")
+    @Operation(summary = "Get task calendar", description = "Retrieves task occurrences in the window [from, to), including virtual future occurrences of recurring tasks")
+    public ResponseEntity<List<TaskOccurrenceResponse>> getTaskCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) UUID republicId,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+
+        UUID targetRepublicId = getUuid(republicId, currentUser);
+
+        List<TaskOccurrence> occurrences = taskService.getTaskCalendar(targetRepublicId, from, to);
+
+        return ResponseEntity.ok(taskDtoMapper.toTaskOccurrenceResponseList(occurrences));
+    }
+    
+    @GetMapping("/search")
+    @Operation(summary = "Search tasks", description = "Full-text search over task title and description, ordered by relevance")
+    public ResponseEntity<PagedResponse<TaskResponse>> searchTasks(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) UUID republicId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+
+        UUID targetRepublicId = getUuid(republicId, currentUser);
+
+        // Tamanho limitado como na paginação por cursor; valores inválidos não chegam ao PageRequest
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE));
+        Page<Task> taskPage = taskService.searchTasks(targetRepublicId, query, pageRequest);
+        Page<TaskResponse> responsePage = taskPage.map(taskDtoMapper::toTaskResponse);
+
+        return ResponseEntity.ok(new PagedResponse<>(
+                responsePage.getContent(),
+                responsePage.getNumber(),
+                responsePage.getSize(),
+                responsePage.getTotalElements(),
+                responsePage.getTotalPages(),
+                responsePage.isLast()
+        ));
+    }
+    
     @PostMapping("/filter")
     @Operation(summary = "Filter tasks", description = "Retrieves tasks with filtering, pagination and sorting")
     public ResponseEntity<PagedResponse<TaskResponse>> filterTasks(
@@ -120,6 +166,25 @@ public class TaskController {
         ));
     }
 
+    @PostMapping("/filter/cursor")
+    @Operation(summary = "Filter tasks by cursor", description = "Retrieves tasks with filtering using keyset (cursor) pagination, without total count")
+    public ResponseEntity<CursorPagedResponse<TaskResponse>> filterTasksByCursor(
+            @RequestBody(required = false) TaskFilterRequest filter,
+            @RequestParam(required = false) UUID republicId,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+
+        // Get user to determine their republic
+        UUID targetRepublicId = getUuid(republicId, currentUser);
+
+        // Initialize filter if null
+        TaskFilterRequest taskFilter = filter != null ? filter : new TaskFilterRequest();
+
+        // Get filtered tasks
+        CursorPagedResponse<Task> taskPage = taskService.findTasksWithFiltersByCursor(targetRepublicId, taskFilter);
+
+        return ResponseEntity.ok(toCursorResponse(taskPage));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get task by ID", description = "Retrieves task details by ID")
     public ResponseEntity<TaskResponse> getTaskById(
@@ -293,18 +358,41 @@ public class TaskController {
                 responsePage.isLast()
         ));
     }
-    private UUID getUuid(UUID republicId, CustomUserDetails currentUser) {
-        User user = userService.getUserById(currentUser.getUserId());
 
-        if (user.getCurrentRepublic() == null) {
+    @PostMapping("/assigned/filter/cursor")
+    @Operation(summary = "Filter assigned tasks by cursor", description = "Retrieves tasks assigned to the current user using keyset (cursor) pagination, without total count")
+    public ResponseEntity<CursorPagedResponse<TaskResponse>> filterAssignedTasksByCursor(
+            @RequestBody(required = false) TaskFilterRequest filter,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+
+        // Initialize filter if null
+        TaskFilterRequest taskFilter = filter != null ? filter : new TaskFilterRequest();
+
+        // Get filtered tasks assigned to user
+        CursorPagedResponse<Task> taskPage = taskService.findTasksAssignedWithFiltersByCursor(currentUser.getUserId(), taskFilter);
+
+        return ResponseEntity.ok(toCursorResponse(taskPage));
+    }
+
+    private CursorPagedResponse<TaskResponse> toCursorResponse(CursorPagedResponse<Task> taskPage) {
+        return CursorPagedResponse.<TaskResponse>builder()
+                .content(taskDtoMapper.toTaskResponseList(taskPage.getContent()))
+                .size(taskPage.getSize())
+                .nextCursor(taskPage.getNextCursor())
+                .hasNext(taskPage.isHasNext())
+                .build();
+    }
+
+    private UUID getUuid(UUID republicId, CustomUserDetails currentUser) {
+        if (currentUser.getRepublicId() == null) {
             throw new ValidationException("User is not associated with any republic");
         }
 
         // If republicId is provided, validate that it matches user's republic (unless admin)
         UUID targetRepublicId = republicId;
         if (targetRepublicId == null) {
-            targetRepublicId = user.getCurrentRepublic().getId();
-        } else if (!targetRepublicId.equals(user.getCurrentRepublic().getId()) &&
+            targetRepublicId = currentUser.getRepublicId();
+        } else if (!targetRepublicId.equals(currentUser.getRepublicId()) &&
                 !currentUser.getRole().equals("admin")) {
             throw new ValidationException("You can only view tasks for your own republic");
         }
@@ -0,0 +1,7 @@
+-- Marca d'água de leitura por usuário: notificações criadas até read_up_to contam como lidas.
+-- "Marcar todas como lidas" passa a ser um único upsert nesta tabela, sem atualizar as notificações.
+CREATE TABLE IF NOT EXISTS notification_read_watermarks (
+    recipient_id UUID      PRIMARY KEY REFERENCES users (uuid) ON DELETE CASCADE,
+    read_up_to   TIMESTAMP NOT NULL,
+    updated_at   TIMESTAMP NOT NULL
+);
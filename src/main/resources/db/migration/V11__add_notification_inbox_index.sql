@@ -0,0 +1,3 @@
+-- Índice alinhado com a paginação por cursor (keyset) da caixa de notificações:
+-- filtro por destinatário, ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_notification_recipient_created_at_id ON notifications (recipient_id, created_at DESC, id DESC);
@@ -0,0 +1,2 @@
+-- Índice para a remoção em lotes da retenção de notificações (created_at < corte)
+CREATE INDEX IF NOT EXISTS idx_notification_created_at ON notifications (created_at);
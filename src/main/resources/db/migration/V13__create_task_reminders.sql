@@ -0,0 +1,8 @@
+-- Lembretes de tarefas já enviados: no máximo um por tarefa, tipo de lembrete e prazo
+CREATE TABLE IF NOT EXISTS task_reminders (
+    task_id     BIGINT      NOT NULL REFERENCES tasks (id) ON DELETE CASCADE,
+    kind        VARCHAR(30) NOT NULL,
+    due_date    TIMESTAMP   NOT NULL,
+    reminded_at TIMESTAMP   NOT NULL,
+    PRIMARY KEY (task_id, kind, due_date)
+);
@@ -0,0 +1,26 @@
+-- Tokens de dispositivos (FCM) por usuário
+CREATE TABLE IF NOT EXISTS device_tokens (
+    token        VARCHAR(512) PRIMARY KEY,
+    user_id      UUID         NOT NULL REFERENCES users (uuid) ON DELETE CASCADE,
+    platform     VARCHAR(20),
+    created_at   TIMESTAMP    NOT NULL,
+    last_seen_at TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_device_token_user_id ON device_tokens (user_id);
+
+-- Outbox de envio push: gravado na mesma transação das notificações e drenado em lotes
+CREATE TABLE IF NOT EXISTS push_outbox (
+    id              BIGSERIAL   PRIMARY KEY,
+    notification_id BIGINT      NOT NULL REFERENCES notifications (id) ON DELETE CASCADE,
+    recipient_id    UUID        NOT NULL,
+    status          VARCHAR(20) NOT NULL,
+    attempts        INT         NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP   NOT NULL,
+    created_at      TIMESTAMP   NOT NULL,
+    last_error      TEXT
+);
+
+-- Somente as entradas pendentes são percorridas pelo worker
+CREATE INDEX IF NOT EXISTS idx_push_outbox_pending ON push_outbox (next_attempt_at, id) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_push_outbox_notification_id ON push_outbox (notification_id);
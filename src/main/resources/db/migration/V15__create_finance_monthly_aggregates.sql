@@ -0,0 +1,12 @@
+-- Totais mensais de despesas reembolsadas e receitas por república e categoria,
+-- mantidos incrementalmente pelas transições de estado (categoria vazia = sem categoria)
+CREATE TABLE IF NOT EXISTS finance_monthly_aggregates (
+    republic_id  UUID           NOT NULL REFERENCES republics (uuid) ON DELETE CASCADE,
+    year_month   DATE           NOT NULL,
+    category     VARCHAR(255)   NOT NULL DEFAULT '',
+    kind         VARCHAR(10)    NOT NULL,
+    total_amount NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    entry_count  BIGINT         NOT NULL DEFAULT 0,
+    updated_at   TIMESTAMP      NOT NULL,
+    PRIMARY KEY (republic_id, year_month, category, kind)
+);
@@ -0,0 +1,4 @@
+-- Índices para os totais agrupados do painel financeiro (por status, categoria, mês e autor),
+-- com o valor incluído para que as somas sejam resolvidas só pelo índice
+CREATE INDEX IF NOT EXISTS idx_expenses_republic_status_date ON expenses (republic_id, status, expense_date) INCLUDE (amount);
+CREATE INDEX IF NOT EXISTS idx_incomes_republic_date ON incomes (republic_id, income_date) INCLUDE (amount);
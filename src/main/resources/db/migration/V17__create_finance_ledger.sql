@@ -0,0 +1,29 @@
+-- Livro-razão das finanças: um lançamento por receita, reembolso ou ajuste, apenas inserido.
+-- O saldo é o último snapshot da república mais os lançamentos posteriores a ele.
+CREATE TABLE IF NOT EXISTS finance_ledger_entries (
+    id             BIGSERIAL      PRIMARY KEY,
+    republic_id    UUID           NOT NULL REFERENCES republics (uuid) ON DELETE CASCADE,
+    amount         NUMERIC(12, 2) NOT NULL,
+    kind           VARCHAR(20)    NOT NULL,
+    reference_type VARCHAR(30),
+    reference_id   VARCHAR(64),
+    created_at     TIMESTAMP      NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_finance_ledger_republic_id ON finance_ledger_entries (republic_id, id) INCLUDE (amount);
+
+-- Snapshots periódicos do saldo: cobrem todos os lançamentos da república até last_entry_id
+CREATE TABLE IF NOT EXISTS finance_balance_snapshots (
+    republic_id   UUID           NOT NULL REFERENCES republics (uuid) ON DELETE CASCADE,
+    last_entry_id BIGINT         NOT NULL,
+    balance       NUMERIC(14, 2) NOT NULL,
+    last_entry_at TIMESTAMP      NOT NULL,
+    created_at    TIMESTAMP      NOT NULL,
+    PRIMARY KEY (republic_id, last_entry_id)
+);
+
+-- Saldo atual de cada república como lançamento de abertura; republic_finances.current_balance deixa de ser atualizado
+INSERT INTO finance_ledger_entries (republic_id, amount, kind, created_at)
+SELECT republic_id, current_balance, 'OPENING_BALANCE', COALESCE(last_updated, CURRENT_TIMESTAMP)
+FROM republic_finances
+WHERE current_balance <> 0;
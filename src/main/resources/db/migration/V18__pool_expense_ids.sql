@@ -0,0 +1,4 @@
+-- A importação de despesas grava as linhas em lote. Com incremento 50 o Hibernate
+-- reserva um bloco de IDs por nextval (allocationSize = 50 em ExpenseJpaEntity),
+-- em vez de uma chamada à sequência por linha.
+ALTER SEQUENCE expenses_id_seq INCREMENT BY 50;
@@ -0,0 +1,4 @@
+-- Índices alinhados com a paginação por cursor (keyset) de tarefas:
+-- ORDER BY <campo>, id com filtro por república
+CREATE INDEX IF NOT EXISTS idx_task_republic_due_date_id ON tasks (republic_id, due_date, id);
+CREATE INDEX IF NOT EXISTS idx_task_republic_created_at_id ON tasks (republic_id, created_at, id);
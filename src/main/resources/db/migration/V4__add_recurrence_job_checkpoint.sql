@@ -0,0 +1,9 @@
+-- Checkpoint dos jobs agendados processados em lotes (retomada após falha)
+CREATE TABLE IF NOT EXISTS job_checkpoints (
+    job_name          VARCHAR(100) PRIMARY KEY,
+    last_processed_id BIGINT    NOT NULL,
+    updated_at        TIMESTAMP NOT NULL
+);
+
+-- Índice para o anti-join "tarefa sem instância filha" do job de recorrência
+CREATE INDEX IF NOT EXISTS idx_task_parent_task_id ON tasks (parent_task_id);
@@ -0,0 +1,40 @@
+-- Séries de tarefas recorrentes: uma linha por cadeia de recorrência
+CREATE SEQUENCE IF NOT EXISTS task_series_id_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS task_series (
+    id                  BIGINT PRIMARY KEY DEFAULT nextval('task_series_id_seq'),
+    republic_id         UUID        NOT NULL REFERENCES republics (uuid) ON DELETE CASCADE,
+    recurrence_type     VARCHAR(10) NOT NULL,
+    recurrence_interval INTEGER     NOT NULL,
+    recurrence_end_date TIMESTAMP,
+    head_task_id        BIGINT,
+    next_due_date       TIMESTAMP,
+    active              BOOLEAN     NOT NULL DEFAULT TRUE,
+    created_at          TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at          TIMESTAMP
+);
+
+-- O job de recorrência lê apenas séries ativas com next_due_date vencido
+CREATE INDEX IF NOT EXISTS idx_task_series_active_next_due ON task_series (active, next_due_date, id);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_task_series_head_task ON task_series (head_task_id);
+CREATE INDEX IF NOT EXISTS idx_task_series_republic ON task_series (republic_id);
+
+-- Migra as cadeias existentes (parent_task_id): a cabeça de cada cadeia é a tarefa
+-- recorrente sem instância filha
+INSERT INTO task_series (republic_id, recurrence_type, recurrence_interval, recurrence_end_date,
+                         head_task_id, next_due_date, active, created_at, updated_at)
+SELECT t.republic_id,
+       t.recurrence_type,
+       t.recurrence_interval,
+       t.recurrence_end_date,
+       t.id,
+       t.due_date,
+       t.status <> 'CANCELLED',
+       CURRENT_TIMESTAMP,
+       CURRENT_TIMESTAMP
+FROM tasks t
+WHERE t.is_recurring = TRUE
+  AND t.recurrence_type IS NOT NULL
+  AND t.recurrence_interval IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM tasks c WHERE c.parent_task_id = t.id)
+  AND NOT EXISTS (SELECT 1 FROM task_series s WHERE s.head_task_id = t.id);
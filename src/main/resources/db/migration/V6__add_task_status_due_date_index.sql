@@ -0,0 +1,2 @@
+-- Índice para a transição em lote para OVERDUE (status em aberto com prazo vencido)
+CREATE INDEX IF NOT EXISTS idx_task_status_due_date ON tasks (status, due_date);
@@ -0,0 +1,5 @@
+-- Índice GIN para a busca textual de tarefas (título + descrição, dicionário português).
+-- A expressão precisa ser idêntica à gerada pela função task_fts_match
+-- (TaskSearchFunctionContributor) para que o índice seja utilizado.
+CREATE INDEX IF NOT EXISTS idx_task_search_fts ON tasks
+    USING GIN (to_tsvector('portuguese', coalesce(title, '') || ' ' || coalesce(description, '')));
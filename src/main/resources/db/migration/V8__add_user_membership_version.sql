@@ -0,0 +1,4 @@
+-- Versão do vínculo do usuário com a república (república atual e flag de administrador).
+-- É incrementada a cada mudança de vínculo e enviada no JWT (claim "mv"): tokens com
+-- versão diferente da atual deixam de ser aceitos e precisam ser renovados.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS membership_version BIGINT NOT NULL DEFAULT 0;
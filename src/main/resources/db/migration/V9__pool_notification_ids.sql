@@ -0,0 +1,4 @@
+-- As notificações são gravadas em lote (uma linha por destinatário). Com incremento 50 o Hibernate
+-- reserva um bloco de IDs por nextval (allocationSize = 50 em NotificationJpaEntity),
+-- em vez de uma chamada à sequência por linha.
+ALTER SEQUENCE notifications_id_seq INCREMENT BY 50;
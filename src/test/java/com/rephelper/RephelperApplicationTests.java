@@ -3,7 +3,7 @@ package com.rephelper;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "rephelper.push.gateway=stub")
 class RephelperApplicationTests {
 
 	@Test
@@ -0,0 +1,93 @@
+package com.rephelper.domain.service;
+
+import com.rephelper.domain.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpenseImportParsingTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "1234.56|1234.56",
+            "1234,56|1234.56",
+            "1.234,56|1234.56",
+            "1.234.567,89|1234567.89",
+            "R$ 1.234,56|1234.56",
+            " 10 |10.00",
+            "10.5|10.50",
+            "0,01|0.01"
+    })
+    void parsesDotAndCommaDecimalAmounts(String value, String expected) {
+        assertThat(ExpenseServiceImpl.parseImportAmount(value)).isEqualTo(new BigDecimal(expected));
+    }
+
+    @Test
+    void treatsDotWithoutCommaAsDecimalSeparator() {
+        // "1.234" sem vírgula é 1,234 (três casas), não mil duzentos e trinta e quatro
+        assertThatThrownBy(() -> ExpenseServiceImpl.parseImportAmount("1.234"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("2 decimal places");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "1,234.56", "12,3,4", "R$"})
+    void rejectsMalformedAmounts(String value) {
+        assertThatThrownBy(() -> ExpenseServiceImpl.parseImportAmount(value))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "0,00", "-5", "-1.234,56"})
+    void rejectsAmountsThatAreNotPositive(String value) {
+        assertThatThrownBy(() -> ExpenseServiceImpl.parseImportAmount(value))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Amount must be positive");
+    }
+
+    @Test
+    void rejectsAmountAboveColumnLimit() {
+        assertThatThrownBy(() -> ExpenseServiceImpl.parseImportAmount("100.000.000,00"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("cannot exceed");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   "})
+    void requiresAmount(String value) {
+        assertThatThrownBy(() -> ExpenseServiceImpl.parseImportAmount(value))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Amount is required");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2024-03-05", "05/03/2024", " 05/03/2024 "})
+    void parsesIsoAndBrazilianDates(String value) {
+        assertThat(ExpenseServiceImpl.parseImportDate(value)).isEqualTo(LocalDate.of(2024, 3, 5));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"31/02/2024", "2024/03/05", "03-05-2024", "5/3/2024", "ontem"})
+    void rejectsInvalidDates(String value) {
+        assertThatThrownBy(() -> ExpenseServiceImpl.parseImportDate(value))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Invalid expense date");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    void requiresDate(String value) {
+        assertThatThrownBy(() -> ExpenseServiceImpl.parseImportDate(value))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Expense date is required");
+    }
+}
@@ -0,0 +1,177 @@
+package com.rephelper.interfaces.rest.finance;
+
+import com.rephelper.domain.exception.ValidationException;
+import com.rephelper.domain.model.Expense;
+import com.rephelper.domain.model.ExpenseImportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpenseCsvReaderTest {
+
+    @Test
+    void readsRowsByHeaderNameWithPhysicalLineNumbers() {
+        List<ExpenseImportRow> rows = read(
+                "amount,expense_date,description,category\r\n" +
+                "10.50,2024-03-05,Mercado,Casa\r\n" +
+                "5,05/03/2024,Padaria,\r\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getLineNumber()).isEqualTo(2);
+        assertThat(rows.get(0).getDescription()).isEqualTo("Mercado");
+        assertThat(rows.get(0).getAmount()).isEqualTo("10.50");
+        assertThat(rows.get(0).getExpenseDate()).isEqualTo("2024-03-05");
+        assertThat(rows.get(0).getCategory()).isEqualTo("Casa");
+        assertThat(rows.get(0).getReceiptUrl()).isNull();
+        assertThat(rows.get(1).getLineNumber()).isEqualTo(3);
+        assertThat(rows.get(1).getCategory()).isEmpty();
+    }
+
+    @Test
+    void keepsLineBreaksInsideQuotedFieldsAndCountsTheirLines() {
+        List<ExpenseImportRow> rows = read(
+                "description,amount,expense_date\n" +
+                "\"Conta\nde luz\",10,2024-03-05\n" +
+                "\"Conta\r\nde água\",20,2024-03-06\n" +
+                "Gás,30,2024-03-07\n");
+
+        assertThat(rows).extracting(ExpenseImportRow::getDescription)
+                .containsExactly("Conta\nde luz", "Conta\r\nde água", "Gás");
+        assertThat(rows).extracting(ExpenseImportRow::getLineNumber).containsExactly(2L, 4L, 6L);
+    }
+
+    @Test
+    void unescapesDoubledQuotesAndKeepsDelimitersInsideQuotes() {
+        List<ExpenseImportRow> rows = read(
+                "description,amount,expense_date\n" +
+                "\"Conta \"\"luz\"\", março\",\"1.234,56\",2024-03-05\n");
+
+        assertThat(rows.get(0).getDescription()).isEqualTo("Conta \"luz\", março");
+        assertThat(rows.get(0).getAmount()).isEqualTo("1.234,56");
+    }
+
+    @Test
+    void skipsByteOrderMarkAndDetectsSemicolonDelimiter() {
+        List<ExpenseImportRow> rows = read(
+                "\uFEFFdescrição;description;amount;expense_date\n" +
+                "x;Mercado, feira;1.234,56;05/03/2024\n");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getDescription()).isEqualTo("Mercado, feira");
+        assertThat(rows.get(0).getAmount()).isEqualTo("1.234,56");
+        assertThat(rows.get(0).getExpenseDate()).isEqualTo("05/03/2024");
+    }
+
+    @Test
+    void usesCommaWhenHeaderHasBothDelimiters() {
+        List<ExpenseImportRow> rows = read(
+                "description,amount,expense_date,nota;extra\n" +
+                "Mercado;feira,10,2024-03-05,x\n");
+
+        assertThat(rows.get(0).getDescription()).isEqualTo("Mercado;feira");
+    }
+
+    @Test
+    void matchesHeaderIgnoringCaseAndSpaces() {
+        List<ExpenseImportRow> rows = read(
+                " Description ,AMOUNT,Expense_Date\n" +
+                "Mercado,10,2024-03-05\n");
+
+        assertThat(rows.get(0).getDescription()).isEqualTo("Mercado");
+        assertThat(rows.get(0).getAmount()).isEqualTo("10");
+    }
+
+    @Test
+    void skipsBlankLinesAndReadsLastRecordWithoutLineBreak() {
+        List<ExpenseImportRow> rows = read(
+                "description,amount,expense_date\n" +
+                "\n" +
+                "Mercado,10,2024-03-05\r\n" +
+                "\r\n" +
+                "Padaria,5,2024-03-06");
+
+        assertThat(rows).extracting(ExpenseImportRow::getDescription).containsExactly("Mercado", "Padaria");
+        assertThat(rows).extracting(ExpenseImportRow::getLineNumber).containsExactly(3L, 5L);
+    }
+
+    @Test
+    void stripsFormulaGuardApostrophe() {
+        List<ExpenseImportRow> rows = read(
+                "description,amount,expense_date,category\n" +
+                "\"'-desconto\",10,2024-03-05,'=x\n" +
+                "'abc,10,2024-03-05,'\n");
+
+        assertThat(rows.get(0).getDescription()).isEqualTo("-desconto");
+        assertThat(rows.get(0).getCategory()).isEqualTo("=x");
+        assertThat(rows.get(1).getDescription()).isEqualTo("'abc");
+        assertThat(rows.get(1).getCategory()).isEqualTo("'");
+    }
+
+    @Test
+    void readsBackExportedFile() {
+        Expense expense = Expense.builder()
+                .id(1L)
+                .expenseDate(LocalDate.of(2024, 3, 5))
+                .description("-desconto, \"mercado\"\nfeira")
+                .category("@casa")
+                .amount(new BigDecimal("1234.50"))
+                .status(Expense.ExpenseStatus.PENDING)
+                .receiptUrl("https://example.com/r/1")
+                .build();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        FinanceCsvWriter writer = new FinanceCsvWriter(output);
+        writer.writeExpenseHeader();
+        writer.writeExpense(expense);
+        writer.flush();
+
+        List<ExpenseImportRow> rows = read(output.toString(StandardCharsets.UTF_8));
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getDescription()).isEqualTo(expense.getDescription());
+        assertThat(rows.get(0).getCategory()).isEqualTo("@casa");
+        assertThat(rows.get(0).getAmount()).isEqualTo("1234.50");
+        assertThat(rows.get(0).getExpenseDate()).isEqualTo("2024-03-05");
+        assertThat(rows.get(0).getReceiptUrl()).isEqualTo("https://example.com/r/1");
+    }
+
+    @Test
+    void rejectsMissingRequiredColumn() {
+        assertThatThrownBy(() -> reader("description,amount\nMercado,10\n"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("expense_date");
+    }
+
+    @Test
+    void rejectsEmptyFile() {
+        assertThatThrownBy(() -> reader(""))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void throwsAfterLastRow() {
+        ExpenseCsvReader reader = reader("description,amount,expense_date\n");
+
+        assertThat(reader.hasNext()).isFalse();
+        assertThatThrownBy(reader::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    private static ExpenseCsvReader reader(String csv) {
+        return new ExpenseCsvReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<ExpenseImportRow> read(String csv) {
+        List<ExpenseImportRow> rows = new ArrayList<>();
+        reader(csv).forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,105 @@
+package com.rephelper.interfaces.rest.finance;
+
+import com.rephelper.domain.model.Expense;
+import com.rephelper.domain.model.Income;
+import com.rephelper.domain.model.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FinanceCsvWriterTest {
+
+    @Test
+    void writesExpenseHeaderAndRowWithEmptyCellsForNulls() {
+        String csv = write(writer -> {
+            writer.writeExpenseHeader();
+            writer.writeExpense(expense("Mercado"));
+        });
+
+        assertThat(csv).isEqualTo(
+                "id,expense_date,description,category,amount,status,creator,approval_date,reimbursement_date," +
+                "rejection_reason,receipt_url,created_at\r\n" +
+                "1,2024-03-05,Mercado,,1234.50,PENDING,Ana,,,,,2024-03-05 10:15:30\r\n");
+    }
+
+    @Test
+    void writesIncomeRow() {
+        Income income = Income.builder()
+                .id(7L)
+                .incomeDate(LocalDateTime.of(2024, 1, 10, 8, 0))
+                .description("Aluguel do quarto")
+                .source("Morador")
+                .amount(new BigDecimal("500.00"))
+                .contributor(User.builder().name("Bia").build())
+                .createdAt(LocalDateTime.of(2024, 1, 10, 8, 0, 5))
+                .build();
+
+        String csv = write(writer -> writer.writeIncome(income));
+
+        assertThat(csv).isEqualTo("7,2024-01-10 08:00:00,Aluguel do quarto,Morador,500.00,Bia,2024-01-10 08:00:05\r\n");
+    }
+
+    @Test
+    void quotesFieldsWithDelimitersQuotesAndLineBreaks() {
+        String csv = write(writer -> writer.writeExpense(expense("Conta, \"luz\"\nmarço\r\nabril")));
+
+        assertThat(csv).startsWith("1,2024-03-05,\"Conta, \"\"luz\"\"\nmarço\r\nabril\",,");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"=SUM(A1:A9)", "+5511999999999", "-desconto", "@cmd"})
+    void neutralizesFormulasWithQuotedApostrophe(String description) {
+        String csv = write(writer -> writer.writeExpense(expense(description)));
+
+        assertThat(csv).startsWith("1,2024-03-05,\"'" + description + "\",,");
+    }
+
+    @Test
+    void quotesNeutralizedFormulaContainingQuotes() {
+        String csv = write(writer -> writer.writeExpense(expense("=HYPERLINK(\"x\")")));
+
+        assertThat(csv).startsWith("1,2024-03-05,\"'=HYPERLINK(\"\"x\"\")\",,");
+    }
+
+    @Test
+    void writesAmountsWithoutExponent() {
+        Expense expense = Expense.builder()
+                .id(1L)
+                .description("Mercado")
+                .amount(new BigDecimal("1E+3"))
+                .build();
+
+        String csv = write(writer -> writer.writeExpense(expense));
+
+        assertThat(csv).startsWith("1,,Mercado,,1000,,");
+    }
+
+    private static Expense expense(String description) {
+        return Expense.builder()
+                .id(1L)
+                .expenseDate(LocalDate.of(2024, 3, 5))
+                .description(description)
+                .amount(new BigDecimal("1234.50"))
+                .status(Expense.ExpenseStatus.PENDING)
+                .creator(User.builder().name("Ana").build())
+                .createdAt(LocalDateTime.of(2024, 3, 5, 10, 15, 30))
+                .build();
+    }
+
+    private static String write(Consumer<FinanceCsvWriter> body) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        FinanceCsvWriter writer = new FinanceCsvWriter(output);
+        body.accept(writer);
+        writer.flush();
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}